@@ -0,0 +1,43 @@
+package br.com.vidaplus.sghss.benchmark;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cópia da entidade Auditoria com id IDENTITY, usada apenas como linha de base
+ * no InsercaoEmLoteBenchmark (mapeamento anterior à geração por sequência).
+ *
+ * @author Patricky Lucas
+ */
+@Entity
+@Table(name = "auditoria_identity")
+public class AuditoriaIdentity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String usuario;
+    private String acao;
+    private String detalhes;
+    private LocalDateTime dataHora;
+
+    public AuditoriaIdentity() {
+    }
+
+    public AuditoriaIdentity(String usuario, String acao, String detalhes, LocalDateTime dataHora) {
+        this.usuario = usuario;
+        this.acao = acao;
+        this.detalhes = detalhes;
+        this.dataHora = dataHora;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.vidaplus.sghss.benchmark;
+
+import br.com.vidaplus.sghss.model.Paciente;
+import br.com.vidaplus.sghss.model.ProfissionalSaude;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cópia da entidade Consulta com id IDENTITY, usada apenas como linha de base
+ * no InsercaoEmLoteBenchmark (mapeamento anterior à geração por sequência).
+ *
+ * @author Patricky Lucas
+ */
+@Entity
+@Table(name = "consultas_identity")
+public class ConsultaIdentity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "paciente_id", nullable = false)
+    private Paciente paciente;
+
+    @ManyToOne
+    @JoinColumn(name = "profissional_id", nullable = false)
+    private ProfissionalSaude profissional;
+
+    @Column(nullable = false)
+    private LocalDateTime data;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    public ConsultaIdentity() {
+    }
+
+    public ConsultaIdentity(Paciente paciente, ProfissionalSaude profissional, LocalDateTime data, String status) {
+        this.paciente = paciente;
+        this.profissional = profissional;
+        this.data = data;
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
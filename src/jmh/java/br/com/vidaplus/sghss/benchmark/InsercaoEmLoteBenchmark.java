@@ -0,0 +1,192 @@
+package br.com.vidaplus.sghss.benchmark;
+
+import br.com.vidaplus.sghss.model.Auditoria;
+import br.com.vidaplus.sghss.model.Consulta;
+import br.com.vidaplus.sghss.model.Paciente;
+import br.com.vidaplus.sghss.model.ProfissionalSaude;
+import br.com.vidaplus.sghss.model.Role;
+import br.com.vidaplus.sghss.model.StatusConsulta;
+import br.com.vidaplus.sghss.model.Usuario;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Benchmark de inserção em massa de auditorias e consultas, comparando o mapeamento anterior
+ * (id IDENTITY, sem batching JDBC) com o atual (sequência pooled + hibernate.jdbc.batch_size).
+ * O resultado é expresso em linhas por segundo.
+ * <p>
+ * Por padrão usa H2 em memória. Para medir contra o MySQL, informe a conexão ao JVM do benchmark:
+ * {@code -Djmh.args="InsercaoEmLote -jvmArgsAppend -Dsghss.bench.url=jdbc:mysql://localhost:3306/sghss_bench?rewriteBatchedStatements=true
+ * -Dsghss.bench.usuario=root -Dsghss.bench.senha=root"}.
+ *
+ * @author Patricky Lucas
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsercaoEmLoteBenchmark {
+
+    private static final int LINHAS = 1_000;
+    private static final int TAMANHO_LOTE = 50;
+
+    /**
+     * Espaçamento entre consultas do mesmo profissional, para não repetir o intervalo da chave
+     * única (profissional_id, slot).
+     */
+    private static final long MINUTOS_ENTRE_CONSULTAS = Consulta.MINUTOS_POR_SLOT;
+
+    private static final LocalDateTime INICIO_AGENDA = LocalDateTime.of(2030, 1, 2, 0, 0);
+
+    private SessionFactory sessionFactory;
+    private Paciente paciente;
+    private ProfissionalSaude profissional;
+
+    /**
+     * Próximo horário livre da agenda do profissional; avança entre invocações, já que as tabelas
+     * só são esvaziadas ao fim de cada iteração.
+     */
+    private long proximaConsulta;
+
+    /**
+     * Cria o esquema e os registros de paciente e profissional referenciados pelas consultas.
+     */
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Auditoria.class)
+                .addAnnotatedClass(AuditoriaIdentity.class)
+                .addAnnotatedClass(Consulta.class)
+                .addAnnotatedClass(ConsultaIdentity.class)
+                .addAnnotatedClass(Paciente.class)
+                .addAnnotatedClass(ProfissionalSaude.class)
+                .addAnnotatedClass(Usuario.class)
+                .addAnnotatedClass(Role.class)
+                .setProperty("hibernate.connection.url",
+                        System.getProperty("sghss.bench.url", "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1"))
+                .setProperty("hibernate.connection.username", System.getProperty("sghss.bench.usuario", "sa"))
+                .setProperty("hibernate.connection.password", System.getProperty("sghss.bench.senha", ""))
+                .setProperty("hibernate.connection.pool_size", "2")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.jdbc.batch_size", String.valueOf(TAMANHO_LOTE))
+                .setProperty("hibernate.order_inserts", "true")
+                .setProperty("hibernate.order_updates", "true")
+                .buildSessionFactory();
+
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            paciente = new Paciente();
+            paciente.setNome("Paciente Benchmark");
+            paciente.setCpf("00000000000");
+            paciente.setDataNascimento(LocalDate.of(1990, 1, 1));
+            paciente.setHistoricoClinico("-");
+            session.persist(paciente);
+
+            profissional = new ProfissionalSaude();
+            profissional.setNome("Profissional Benchmark");
+            profissional.setEspecialidade("Clínica Geral");
+            profissional.setRegistroProfissional("CRM-0");
+            session.persist(profissional);
+            tx.commit();
+        }
+    }
+
+    /**
+     * Esvazia as tabelas ao fim de cada iteração, mantendo o volume de dados estável.
+     */
+    @TearDown(Level.Iteration)
+    public void limparTabelas() {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            session.createMutationQuery("delete from Auditoria").executeUpdate();
+            session.createMutationQuery("delete from AuditoriaIdentity").executeUpdate();
+            session.createMutationQuery("delete from Consulta").executeUpdate();
+            session.createMutationQuery("delete from ConsultaIdentity").executeUpdate();
+            tx.commit();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINHAS)
+    public void auditoriaIdentity() {
+        inserir(i -> new AuditoriaIdentity("medico", "ConsultaService.listarRespostas(..)", "Args: [" + i + "]",
+                LocalDateTime.now()));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINHAS)
+    public void auditoriaSequencia() {
+        inserir(i -> {
+            Auditoria auditoria = new Auditoria();
+            auditoria.setUsuario("medico");
+            auditoria.setAcao("ConsultaService.listarRespostas(..)");
+            auditoria.setDetalhes("Args: [" + i + "]");
+            auditoria.setDataHora(LocalDateTime.now());
+            return auditoria;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINHAS)
+    public void consultaIdentity() {
+        inserir(i -> new ConsultaIdentity(paciente, profissional, proximoHorario(), "Agendada"));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINHAS)
+    public void consultaSequencia() {
+        inserir(i -> {
+            Consulta consulta = new Consulta();
+            consulta.setPaciente(paciente);
+            consulta.setProfissional(profissional);
+            consulta.setData(proximoHorario());
+            consulta.setStatus(StatusConsulta.AGENDADA);
+            return consulta;
+        });
+    }
+
+    private LocalDateTime proximoHorario() {
+        return INICIO_AGENDA.plusMinutes(MINUTOS_ENTRE_CONSULTAS * proximaConsulta++);
+    }
+
+    private void inserir(IntFunction<Object> fabrica) {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            for (int i = 0; i < LINHAS; i++) {
+                session.persist(fabrica.apply(i));
+                if ((i + 1) % TAMANHO_LOTE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            tx.commit();
+        }
+    }
+}
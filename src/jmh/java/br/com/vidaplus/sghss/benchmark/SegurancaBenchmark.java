@@ -0,0 +1,150 @@
+package br.com.vidaplus.sghss.benchmark;
+
+import br.com.vidaplus.sghss.repository.UsuarioRevogadoRepository;
+import br.com.vidaplus.sghss.security.CacheTokenVerificado;
+import br.com.vidaplus.sghss.security.JwtAuthenticationFilter;
+import br.com.vidaplus.sghss.security.JwtUtil;
+import br.com.vidaplus.sghss.security.RevogacaoUsuarios;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Benchmarks do caminho de autenticação JWT: geração, decodificação e validação de tokens
+ * e uma passagem completa pelo JwtAuthenticationFilter sobre requisições simuladas.
+ * Para medir a taxa de alocação, execute com o profiler de GC (-prof gc).
+ *
+ * @author Patricky Lucas
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SegurancaBenchmark {
+
+    private static final FilterChain CADEIA_VAZIA = (request, response) -> {
+    };
+
+    private JwtUtil jwtUtil;
+    private UserDetails userDetails;
+    private String token;
+
+    private CacheTokenVerificado cacheTokens;
+    private JwtAuthenticationFilter filtroStateless;
+    private JwtAuthenticationFilter filtroComBanco;
+    private MockHttpServletRequest request;
+    private MockHttpServletRequest requestPublica;
+    private MockHttpServletResponse response;
+
+    /**
+     * Prepara o token, os filtros e a requisição simulada usados pelos benchmarks.
+     */
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        userDetails = User.withUsername("medico").password("hash").roles("MEDICO").build();
+        token = jwtUtil.generateToken(userDetails);
+
+        // Simula o carregamento do usuário sem banco de dados
+        UserDetailsService userDetailsService = username -> userDetails;
+        cacheTokens = new CacheTokenVerificado(10_000);
+        RevogacaoUsuarios revogacaoUsuarios = new RevogacaoUsuarios(mock(UsuarioRevogadoRepository.class));
+        filtroStateless = new JwtAuthenticationFilter(jwtUtil, userDetailsService, cacheTokens, revogacaoUsuarios, true);
+        filtroComBanco = new JwtAuthenticationFilter(jwtUtil, userDetailsService, cacheTokens, revogacaoUsuarios, false);
+
+        request = new MockHttpServletRequest("GET", "/api/consultas/1");
+        request.setServletPath("/api/consultas/1");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+
+        requestPublica = new MockHttpServletRequest("POST", "/api/auth/login");
+        requestPublica.setServletPath("/api/auth/login");
+        requestPublica.addHeader("Authorization", "Bearer " + token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public Claims obterClaims() {
+        return jwtUtil.obterClaims(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token, "medico");
+    }
+
+    /**
+     * Passagem pelo filtro com o token já presente no cache de tokens verificados.
+     */
+    @Benchmark
+    public Authentication filtroComCache() throws ServletException, IOException {
+        return filtrar(filtroStateless);
+    }
+
+    /**
+     * Passagem pelo filtro verificando o token a cada requisição (cache esvaziado antes de cada chamada).
+     */
+    @Benchmark
+    public Authentication filtroSemCache() throws ServletException, IOException {
+        cacheTokens.limpar();
+        return filtrar(filtroStateless);
+    }
+
+    /**
+     * Passagem pelo filtro no modo não stateless, carregando o UserDetails a cada requisição.
+     */
+    @Benchmark
+    public Authentication filtroComUserDetails() throws ServletException, IOException {
+        return filtrar(filtroComBanco);
+    }
+
+    /**
+     * Passagem pelo filtro em uma rota pública, onde o token não deve ser processado.
+     */
+    @Benchmark
+    public Authentication filtroRotaPublica() throws ServletException, IOException {
+        return filtrar(filtroStateless, requestPublica);
+    }
+
+    private Authentication filtrar(JwtAuthenticationFilter filtro) throws ServletException, IOException {
+        return filtrar(filtro, request);
+    }
+
+    private Authentication filtrar(JwtAuthenticationFilter filtro, MockHttpServletRequest requisicao)
+            throws ServletException, IOException {
+        try {
+            filtro.doFilter(requisicao, response, CADEIA_VAZIA);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
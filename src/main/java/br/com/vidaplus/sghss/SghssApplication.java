@@ -2,6 +2,7 @@ package br.com.vidaplus.sghss;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /*
  * VidaPlus SGHSS - Sistema de Gestão Hospitalar e Saúde
@@ -13,6 +14,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @author Patricky Lucas
  */
 @SpringBootApplication
+@EnableScheduling
 public class SghssApplication {
 
 	public static void main(String[] args) {
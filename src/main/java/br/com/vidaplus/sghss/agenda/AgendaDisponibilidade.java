@@ -0,0 +1,376 @@
+package br.com.vidaplus.sghss.agenda;
+
+import br.com.vidaplus.sghss.dto.response.HorarioLivreDTO;
+import br.com.vidaplus.sghss.metricas.FonteMetricas;
+import br.com.vidaplus.sghss.model.JornadaTrabalho;
+import br.com.vidaplus.sghss.model.ProfissionalSaude;
+import br.com.vidaplus.sghss.repository.ConsultaRepository;
+import br.com.vidaplus.sghss.repository.JornadaTrabalhoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Agenda de disponibilidade dos profissionais de saúde, mantida em memória como mapas de bits
+ * de 96 intervalos de 15 minutos por dia ({@link MapaSlotsDia}): um mapa de trabalho por
+ * profissional e dia da semana (jornada menos intervalo) e um mapa de ocupação por profissional
+ * e data (consultas não canceladas). A busca de horários livres de uma especialidade combina os
+ * mapas com operações de bits, sem consultar a tabela de consultas linha a linha.
+ * <p>
+ * As jornadas são carregadas uma vez (com o profissional) e os mapas de ocupação são montados sob
+ * demanda, com uma única consulta por intervalo de datas para todos os profissionais da especialidade.
+ * Alterações de consultas e jornadas invalidam apenas o que mudou, mas só na instância que as
+ * gravou: nas demais, jornadas e mapas expiram após a validade configurada, o atraso máximo para
+ * uma alteração feita em outra instância aparecer na busca. A gravação de consultas não depende
+ * destes mapas (o conflito é verificado no banco).
+ *
+ * @author Patricky Lucas
+ */
+@Component
+public class AgendaDisponibilidade implements FonteMetricas {
+
+    private final JornadaTrabalhoRepository jornadaTrabalhoRepository;
+    private final ConsultaRepository consultaRepository;
+    private final int capacidadeDias;
+    private final long validadeNanos;
+
+    /**
+     * Jornadas por especialidade e por profissional; null quando precisa ser recarregado.
+     */
+    private volatile Indice indice;
+
+    private final Map<ChaveDia, DiaCarregado> ocupacao = new ConcurrentHashMap<>();
+
+    /**
+     * Incrementada a cada invalidação: mapas montados a partir de uma leitura anterior a ela não entram no cache.
+     */
+    private final AtomicLong geracao = new AtomicLong();
+
+    private final LongAdder buscas = new LongAdder();
+    private final LongAdder diasCarregados = new LongAdder();
+    private final LongAdder invalidacoes = new LongAdder();
+
+    /**
+     * Construtor da agenda de disponibilidade.
+     *
+     * @param jornadaTrabalhoRepository repositório das jornadas de trabalho
+     * @param consultaRepository        repositório de consultas, para os mapas de ocupação
+     * @param capacidadeDias            número máximo de mapas de ocupação (profissional e data) em memória
+     * @param validadeSegundos          validade, em segundos, das jornadas e mapas de ocupação carregados
+     */
+    public AgendaDisponibilidade(JornadaTrabalhoRepository jornadaTrabalhoRepository,
+                                 ConsultaRepository consultaRepository,
+                                 @Value("${sghss.agenda.capacidade-dias:100000}") int capacidadeDias,
+                                 @Value("${sghss.agenda.validade-segundos:30}") int validadeSegundos) {
+        this.jornadaTrabalhoRepository = jornadaTrabalhoRepository;
+        this.consultaRepository = consultaRepository;
+        this.capacidadeDias = Math.max(1, capacidadeDias);
+        this.validadeNanos = TimeUnit.SECONDS.toNanos(Math.max(1, validadeSegundos));
+    }
+
+    /**
+     * Busca os próximos horários livres dos profissionais da especialidade no intervalo, em ordem
+     * cronológica (e pelo ID do profissional, no mesmo horário).
+     *
+     * @param especialidade especialidade dos profissionais (sem diferenciar maiúsculas)
+     * @param de            início do intervalo (inclusivo)
+     * @param ate           fim do intervalo (exclusivo)
+     * @param quantidade    quantidade máxima de horários
+     * @return horários livres
+     */
+    public List<HorarioLivreDTO> proximosLivres(String especialidade, LocalDateTime de, LocalDateTime ate, int quantidade) {
+        return proximosLivres(especialidade, de, ate, quantidade, System.nanoTime());
+    }
+
+    List<HorarioLivreDTO> proximosLivres(String especialidade, LocalDateTime de, LocalDateTime ate, int quantidade,
+                                         long agoraNanos) {
+        buscas.increment();
+        List<AgendaProfissional> profissionais = indice(agoraNanos).porEspecialidade
+                .getOrDefault(normalizar(especialidade), List.of());
+        List<HorarioLivreDTO> livres = new ArrayList<>(Math.min(quantidade, 256));
+        if (profissionais.isEmpty() || !de.isBefore(ate)) {
+            return livres;
+        }
+
+        LocalDate primeiroDia = de.toLocalDate();
+        LocalDate ultimoDia = ate.minusNanos(1).toLocalDate();
+        Map<ChaveDia, MapaSlotsDia> ocupados = ocupacao(profissionais, primeiroDia, ultimoDia, agoraNanos);
+
+        List<HorarioLivreDTO> doDia = new ArrayList<>();
+        for (LocalDate dia = primeiroDia; !dia.isAfter(ultimoDia) && livres.size() < quantidade; dia = dia.plusDays(1)) {
+            doDia.clear();
+            int diaSemana = dia.getDayOfWeek().ordinal();
+            for (AgendaProfissional profissional : profissionais) {
+                JornadaDia jornada = profissional.jornadas[diaSemana];
+                if (jornada != null) {
+                    MapaSlotsDia ocupado = ocupados.getOrDefault(new ChaveDia(profissional.id, dia), MapaSlotsDia.VAZIO);
+                    jornada.livres(profissional, dia, ocupado, de, ate, doDia);
+                }
+            }
+            doDia.sort(Comparator.comparing(HorarioLivreDTO::getInicio).thenComparing(HorarioLivreDTO::getProfissionalId));
+            for (int i = 0; i < doDia.size() && livres.size() < quantidade; i++) {
+                livres.add(doDia.get(i));
+            }
+        }
+        return livres;
+    }
+
+    /**
+     * Duração do atendimento do profissional no dia da semana, conforme a jornada; sem jornada,
+     * um intervalo de 15 minutos.
+     *
+     * @param profissionalId ID do profissional
+     * @param diaSemana      dia da semana
+     * @return duração do atendimento, em minutos
+     */
+    public int duracaoAtendimentoMinutos(Long profissionalId, DayOfWeek diaSemana) {
+        AgendaProfissional profissional = indice(System.nanoTime()).porId.get(profissionalId);
+        JornadaDia jornada = profissional == null ? null : profissional.jornadas[diaSemana.ordinal()];
+        return (jornada == null ? 1 : jornada.unidades) * MapaSlotsDia.MINUTOS_POR_SLOT;
+    }
+
+    /**
+     * Descarta o mapa de ocupação do profissional na data (consulta criada, alterada ou excluída).
+     *
+     * @param profissionalId ID do profissional
+     * @param data           data da consulta
+     */
+    public void invalidarDia(Long profissionalId, LocalDate data) {
+        geracao.incrementAndGet();
+        ocupacao.remove(new ChaveDia(profissionalId, data));
+        invalidacoes.increment();
+    }
+
+    /**
+     * Descarta as jornadas e os mapas de ocupação, que dependem da duração dos atendimentos
+     * (jornada ou profissional alterado).
+     */
+    public void invalidarJornadas() {
+        geracao.incrementAndGet();
+        indice = null;
+        ocupacao.clear();
+        invalidacoes.increment();
+    }
+
+    @Override
+    public String nomeMetricas() {
+        return "agenda";
+    }
+
+    @Override
+    public Map<String, Object> metricas() {
+        Indice atual = indice;
+        Map<String, Object> metricas = new LinkedHashMap<>();
+        metricas.put("especialidades", atual == null ? 0 : atual.porEspecialidade.size());
+        metricas.put("diasEmMemoria", ocupacao.size());
+        metricas.put("buscas", buscas.sum());
+        metricas.put("diasCarregados", diasCarregados.sum());
+        metricas.put("invalidacoes", invalidacoes.sum());
+        return metricas;
+    }
+
+    private Indice indice(long agora) {
+        Indice atual = indice;
+        if (atual == null || expirado(atual.carregadoEm, agora)) {
+            synchronized (this) {
+                atual = indice;
+                if (atual == null || expirado(atual.carregadoEm, agora)) {
+                    atual = carregarIndice(agora);
+                    indice = atual;
+                }
+            }
+        }
+        return atual;
+    }
+
+    private boolean expirado(long carregadoEm, long agora) {
+        return agora - carregadoEm >= validadeNanos;
+    }
+
+    private Indice carregarIndice(long agora) {
+        Map<Long, AgendaProfissional> porId = new HashMap<>();
+        for (JornadaTrabalho jornada : jornadaTrabalhoRepository.listarComProfissional()) {
+            ProfissionalSaude profissional = jornada.getProfissional();
+            porId.computeIfAbsent(profissional.getId(), id -> new AgendaProfissional(profissional))
+                    .jornadas[jornada.getDiaSemana().ordinal()] = new JornadaDia(jornada);
+        }
+        return new Indice(porId.values().stream()
+                .sorted(Comparator.comparing(p -> p.id))
+                .collect(Collectors.groupingBy(p -> p.especialidade, Collectors.toUnmodifiableList())), porId, agora);
+    }
+
+    /**
+     * Mapas de ocupação dos profissionais nos dias do intervalo. Se algum não estiver em memória (ou
+     * tiver expirado), todos são montados com uma única consulta e guardados, salvo se houve
+     * invalidação durante a leitura.
+     */
+    private Map<ChaveDia, MapaSlotsDia> ocupacao(List<AgendaProfissional> profissionais, LocalDate primeiroDia,
+                                                 LocalDate ultimoDia, long agora) {
+        Map<ChaveDia, MapaSlotsDia> mapas = new HashMap<>();
+        boolean completo = true;
+        for (LocalDate dia = primeiroDia; !dia.isAfter(ultimoDia) && completo; dia = dia.plusDays(1)) {
+            for (AgendaProfissional profissional : profissionais) {
+                ChaveDia chave = new ChaveDia(profissional.id, dia);
+                DiaCarregado carregado = ocupacao.get(chave);
+                if (carregado == null || expirado(carregado.carregadoEm, agora)) {
+                    completo = false;
+                    break;
+                }
+                mapas.put(chave, carregado.mapa);
+            }
+        }
+        if (completo) {
+            return mapas;
+        }
+
+        long geracaoLeitura = geracao.get();
+        Map<Long, AgendaProfissional> porId = profissionais.stream()
+                .collect(Collectors.toMap(p -> p.id, p -> p));
+        mapas.clear();
+        for (LocalDate dia = primeiroDia; !dia.isAfter(ultimoDia); dia = dia.plusDays(1)) {
+            for (AgendaProfissional profissional : profissionais) {
+                mapas.put(new ChaveDia(profissional.id, dia), MapaSlotsDia.VAZIO);
+            }
+        }
+        List<Object[]> horarios = consultaRepository.listarHorariosOcupados(
+                porId.keySet(), primeiroDia.atStartOfDay(), ultimoDia.plusDays(1).atStartOfDay());
+        for (Object[] horario : horarios) {
+            Long profissionalId = (Long) horario[0];
+            LocalDateTime data = (LocalDateTime) horario[1];
+            JornadaDia jornada = porId.get(profissionalId).jornadas[data.getDayOfWeek().ordinal()];
+            int inicio = MapaSlotsDia.slot(data.toLocalTime());
+            int unidades = jornada == null ? 1 : jornada.unidades;
+            mapas.merge(new ChaveDia(profissionalId, data.toLocalDate()), MapaSlotsDia.faixa(inicio, inicio + unidades),
+                    (atual, novo) -> atual.com(inicio, inicio + unidades));
+        }
+        diasCarregados.add(mapas.size());
+
+        if (geracao.get() == geracaoLeitura) {
+            if (ocupacao.size() + mapas.size() > capacidadeDias) {
+                liberarEspaco(agora);
+            }
+            // Substitui os mapas expirados; um mapa válido de outra busca concorrente é mantido
+            mapas.forEach((chave, mapa) -> ocupacao.merge(chave, new DiaCarregado(mapa, agora),
+                    (atual, novo) -> expirado(atual.carregadoEm, agora) ? novo : atual));
+        }
+        return mapas;
+    }
+
+    /**
+     * Descarta os dias passados e os mapas expirados e, se ainda faltar espaço, todos os mapas de ocupação.
+     */
+    private void liberarEspaco(long agora) {
+        LocalDate hoje = LocalDate.now();
+        ocupacao.entrySet().removeIf(dia -> dia.getKey().data.isBefore(hoje)
+                || expirado(dia.getValue().carregadoEm, agora));
+        if (ocupacao.size() >= capacidadeDias) {
+            ocupacao.clear();
+        }
+    }
+
+    private static String normalizar(String especialidade) {
+        return especialidade == null ? "" : especialidade.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Jornadas carregadas, agrupadas por especialidade (profissionais em ordem de ID) e por profissional,
+     * com o instante (System.nanoTime) da carga.
+     */
+    private record Indice(Map<String, List<AgendaProfissional>> porEspecialidade, Map<Long, AgendaProfissional> porId,
+                          long carregadoEm) {
+    }
+
+    /**
+     * Mapa de ocupação de um dia, com o instante (System.nanoTime) em que foi montado.
+     */
+    private record DiaCarregado(MapaSlotsDia mapa, long carregadoEm) {
+    }
+
+    /**
+     * Chave do mapa de ocupação: profissional e data.
+     */
+    private record ChaveDia(Long profissionalId, LocalDate data) {
+    }
+
+    /**
+     * Jornadas de um profissional, indexadas por {@link DayOfWeek#ordinal()}.
+     */
+    private static final class AgendaProfissional {
+        private final Long id;
+        private final String nome;
+        private final String especialidade;
+        private final JornadaDia[] jornadas = new JornadaDia[7];
+
+        private AgendaProfissional(ProfissionalSaude profissional) {
+            this.id = profissional.getId();
+            this.nome = profissional.getNome();
+            this.especialidade = normalizar(profissional.getEspecialidade());
+        }
+    }
+
+    /**
+     * Jornada de um dia da semana: mapa dos intervalos de trabalho (sem o intervalo de descanso),
+     * primeiro e último intervalo e quantidade de intervalos por atendimento.
+     */
+    private static final class JornadaDia {
+        private final MapaSlotsDia trabalho;
+        private final int inicio;
+        private final int fim;
+        private final int unidades;
+
+        private JornadaDia(JornadaTrabalho jornada) {
+            this.inicio = MapaSlotsDia.slot(jornada.getInicio());
+            this.fim = fimSlot(jornada.getFim());
+            this.unidades = Math.max(1, jornada.getDuracaoSlotMinutos() / MapaSlotsDia.MINUTOS_POR_SLOT);
+            MapaSlotsDia mapa = MapaSlotsDia.faixa(inicio, fim);
+            if (jornada.getIntervaloInicio() != null && jornada.getIntervaloFim() != null) {
+                mapa = mapa.menos(MapaSlotsDia.faixa(MapaSlotsDia.slot(jornada.getIntervaloInicio()),
+                        fimSlot(jornada.getIntervaloFim())));
+            }
+            this.trabalho = mapa;
+        }
+
+        /**
+         * Adiciona os atendimentos livres do dia: cada atendimento começa na grade da jornada
+         * (início + k * duração) e exige todos os seus intervalos de trabalho livres.
+         */
+        private void livres(AgendaProfissional profissional, LocalDate dia, MapaSlotsDia ocupado,
+                            LocalDateTime de, LocalDateTime ate, List<HorarioLivreDTO> destino) {
+            MapaSlotsDia livre = trabalho.menos(ocupado);
+            for (int slot = inicio; slot + unidades <= fim; slot += unidades) {
+                if (!livre.todosLigados(slot, slot + unidades)) {
+                    continue;
+                }
+                LocalDateTime horario = dia.atTime(MapaSlotsDia.horario(slot));
+                if (horario.isBefore(de) || !horario.isBefore(ate)) {
+                    continue;
+                }
+                destino.add(new HorarioLivreDTO(profissional.id, profissional.nome, horario,
+                        horario.plusMinutes((long) unidades * MapaSlotsDia.MINUTOS_POR_SLOT)));
+            }
+        }
+
+        /**
+         * Intervalo final exclusivo; meia-noite como fim representa o fim do dia.
+         */
+        private static int fimSlot(LocalTime fim) {
+            return fim.equals(LocalTime.MIDNIGHT) ? MapaSlotsDia.SLOTS_POR_DIA : MapaSlotsDia.slot(fim);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.vidaplus.sghss.agenda;
+
+import java.time.LocalTime;
+
+/**
+ * Mapa de bits dos 96 intervalos de 15 minutos de um dia, em dois {@code long}: o bit i de
+ * {@code baixo} é o intervalo i (00:00 a 15:59) e o bit i de {@code alto} é o intervalo 64 + i.
+ * Um bit ligado indica intervalo ocupado (na agenda de consultas) ou de trabalho (na jornada),
+ * conforme o uso. Operações de conjunto e busca custam poucas instruções, sem alocação.
+ *
+ * @author Patricky Lucas
+ */
+final class MapaSlotsDia {
+
+    /**
+     * Duração de cada intervalo do mapa, em minutos.
+     */
+    static final int MINUTOS_POR_SLOT = 15;
+
+    /**
+     * Quantidade de intervalos em um dia.
+     */
+    static final int SLOTS_POR_DIA = 24 * 60 / MINUTOS_POR_SLOT;
+
+    static final MapaSlotsDia VAZIO = new MapaSlotsDia(0L, 0L);
+
+    private final long baixo;
+    private final long alto;
+
+    private MapaSlotsDia(long baixo, long alto) {
+        this.baixo = baixo;
+        this.alto = alto;
+    }
+
+    /**
+     * Mapa com os intervalos [inicio, fim) ligados.
+     *
+     * @param inicio primeiro intervalo (inclusivo)
+     * @param fim    último intervalo (exclusivo)
+     * @return mapa com a faixa ligada
+     */
+    static MapaSlotsDia faixa(int inicio, int fim) {
+        return VAZIO.com(inicio, fim);
+    }
+
+    /**
+     * Índice do intervalo que contém o horário.
+     */
+    static int slot(LocalTime horario) {
+        return (horario.getHour() * 60 + horario.getMinute()) / MINUTOS_POR_SLOT;
+    }
+
+    /**
+     * Horário de início do intervalo.
+     */
+    static LocalTime horario(int slot) {
+        return LocalTime.MIDNIGHT.plusMinutes((long) slot * MINUTOS_POR_SLOT);
+    }
+
+    /**
+     * Cópia deste mapa com os intervalos [inicio, fim) ligados (limitados ao dia).
+     */
+    MapaSlotsDia com(int inicio, int fim) {
+        int de = Math.max(0, inicio);
+        int ate = Math.min(SLOTS_POR_DIA, fim);
+        if (de >= ate) {
+            return this;
+        }
+        return new MapaSlotsDia(baixo | mascara(de, ate), alto | mascara(de - 64, ate - 64));
+    }
+
+    /**
+     * Intervalos ligados neste mapa e desligados no outro.
+     */
+    MapaSlotsDia menos(MapaSlotsDia outro) {
+        return new MapaSlotsDia(baixo & ~outro.baixo, alto & ~outro.alto);
+    }
+
+    /**
+     * Indica se todos os intervalos [inicio, fim) estão ligados.
+     */
+    boolean todosLigados(int inicio, int fim) {
+        if (inicio < 0 || fim > SLOTS_POR_DIA || inicio >= fim) {
+            return false;
+        }
+        long mascaraBaixo = mascara(inicio, fim);
+        long mascaraAlto = mascara(inicio - 64, fim - 64);
+        return (baixo & mascaraBaixo) == mascaraBaixo && (alto & mascaraAlto) == mascaraAlto;
+    }
+
+    /**
+     * Indica se algum intervalo [inicio, fim) está ligado.
+     */
+    boolean algumLigado(int inicio, int fim) {
+        int de = Math.max(0, inicio);
+        int ate = Math.min(SLOTS_POR_DIA, fim);
+        if (de >= ate) {
+            return false;
+        }
+        return (baixo & mascara(de, ate)) != 0 || (alto & mascara(de - 64, ate - 64)) != 0;
+    }
+
+    /**
+     * Quantidade de intervalos ligados.
+     */
+    int quantidade() {
+        return Long.bitCount(baixo) + Long.bitCount(alto);
+    }
+
+    /**
+     * Bits [inicio, fim) de uma palavra de 64 bits; posições fora de [0, 64) são ignoradas.
+     */
+    private static long mascara(int inicio, int fim) {
+        int de = Math.max(0, inicio);
+        int ate = Math.min(64, fim);
+        if (de >= ate) {
+            return 0L;
+        }
+        long ateFim = ate == 64 ? -1L : (1L << ate) - 1;
+        return ateFim & (-1L << de);
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.vidaplus.sghss.agenda;
+
+import br.com.vidaplus.sghss.metricas.FonteMetricas;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Travas da agenda por profissional, distribuídas em um número fixo de faixas (lock striping):
+ * agendamentos do mesmo profissional são serializados no nó, enquanto profissionais em faixas
+ * diferentes seguem em paralelo, sem trava global e sem um objeto de trava por profissional.
+ * Entre nós, a garantia é a trava da linha do profissional no banco, obtida pelo ConsultaService.
+ *
+ * @author Patricky Lucas
+ */
+@Component
+public class TravasAgenda implements FonteMetricas {
+
+    private final ReentrantLock[] travas;
+    private final int mascara;
+    private final LongAdder execucoes = new LongAdder();
+    private final LongAdder contencoes = new LongAdder();
+
+    /**
+     * Construtor das travas da agenda.
+     *
+     * @param faixas quantidade de faixas, arredondada para a potência de dois seguinte
+     */
+    public TravasAgenda(@Value("${sghss.agenda.travas:64}") int faixas) {
+        int quantidade = Integer.highestOneBit(Math.max(1, faixas - 1)) << 1;
+        this.travas = new ReentrantLock[Math.max(1, Math.min(quantidade, 1 << 16))];
+        for (int i = 0; i < travas.length; i++) {
+            travas[i] = new ReentrantLock();
+        }
+        this.mascara = travas.length - 1;
+    }
+
+    /**
+     * Executa a ação com a trava da faixa do profissional.
+     *
+     * @param profissionalId ID do profissional
+     * @param acao           ação a executar (verificação de conflito e gravação)
+     * @param <T>            tipo do resultado
+     * @return resultado da ação
+     */
+    public <T> T executar(Long profissionalId, Supplier<T> acao) {
+        ReentrantLock trava = travas[faixa(profissionalId)];
+        if (!trava.tryLock()) {
+            contencoes.increment();
+            trava.lock();
+        }
+        try {
+            execucoes.increment();
+            return acao.get();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Faixa do profissional: o ID é espalhado (multiplicação de Fibonacci) para que IDs
+     * sequenciais não caiam sempre nas mesmas faixas.
+     */
+    int faixa(Long profissionalId) {
+        long espalhado = profissionalId.longValue() * 0x9E3779B97F4A7C15L;
+        return (int) (espalhado >>> 32) & mascara;
+    }
+
+    /**
+     * Verifica se há alguma thread esperando a trava da faixa do profissional.
+     */
+    boolean aguardando(Long profissionalId) {
+        return travas[faixa(profissionalId)].hasQueuedThreads();
+    }
+
+    @Override
+    public String nomeMetricas() {
+        return "travasAgenda";
+    }
+
+    @Override
+    public Map<String, Object> metricas() {
+        Map<String, Object> metricas = new LinkedHashMap<>();
+        metricas.put("faixas", travas.length);
+        metricas.put("execucoes", execucoes.sum());
+        metricas.put("contencoes", contencoes.sum());
+        return metricas;
+    }
+}
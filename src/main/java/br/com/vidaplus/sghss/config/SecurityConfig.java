@@ -1,9 +1,12 @@
 package br.com.vidaplus.sghss.config;
 
-import br.com.vidaplus.sghss.service.CustomUserDetailsService;
-
+import br.com.vidaplus.sghss.security.CacheTokenVerificado;
 import br.com.vidaplus.sghss.security.JwtAuthenticationFilter;
 import br.com.vidaplus.sghss.security.JwtUtil;
+import br.com.vidaplus.sghss.security.RevogacaoUsuarios;
+import br.com.vidaplus.sghss.security.RotasPublicas;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -38,53 +41,66 @@ public class SecurityConfig {
      * @param authProvider       Provedor de autenticação personalizado.
      * @param jwtUtil            Utilitário JWT para manipulação de tokens.
      * @param userDetailsService Serviço de detalhes do usuário personalizado.
+     * @param cacheTokens        Cache de tokens JWT já verificados.
+     * @param revogacaoUsuarios  Conjunto de usuários com acesso revogado.
+     * @param stateless          Se verdadeiro, o principal é montado apenas a partir do token, sem consulta ao banco.
      * @return Filtro de segurança configurado.
      * @throws Exception Se ocorrer um erro ao configurar o filtro de segurança.
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, DaoAuthenticationProvider authProvider, JwtUtil jwtUtil, UserDetailsService userDetailsService) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, DaoAuthenticationProvider authProvider, JwtUtil jwtUtil, UserDetailsService userDetailsService,
+                                                   CacheTokenVerificado cacheTokens, RevogacaoUsuarios revogacaoUsuarios,
+                                                   @Value("${sghss.security.stateless:false}") boolean stateless) throws Exception {
         return http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authenticationProvider(authProvider)
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/api/auth/**").permitAll()
-                        .requestMatchers("/swagger-ui/**",
-                                "/v3/api-docs/**"
-                        ).permitAll()
+                        .requestMatchers(RotasPublicas.MATCHER).permitAll()
+                        // Despacho assíncrono das respostas em streaming: a requisição já foi autorizada no despacho original
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/pacientes/**").hasAnyRole("ADMIN", "MEDICO")
                         .requestMatchers(HttpMethod.GET, "/api/pacientes").hasAnyRole("ADMIN", "MEDICO", "PACIENTE")
                         .requestMatchers(HttpMethod.GET, "/api/pacientes/**").hasAnyRole("ADMIN", "MEDICO", "PACIENTE")
                         .requestMatchers(HttpMethod.DELETE, "/api/pacientes/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.POST, "/api/consultas/**").hasAnyRole("ADMIN", "MEDICO")
                         .requestMatchers(HttpMethod.GET, "/api/consultas").hasAnyRole("ADMIN", "MEDICO")
+                        .requestMatchers(HttpMethod.GET, "/api/consultas/busca").hasAnyRole("ADMIN", "MEDICO")
                         .requestMatchers(HttpMethod.GET, "/api/consultas/**").hasAnyRole("ADMIN", "MEDICO", "PACIENTE")
                         .requestMatchers(HttpMethod.DELETE, "/api/consultas/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.POST, "/api/profissionais/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/profissionais").hasAnyRole("ADMIN", "MEDICO")
                         .requestMatchers(HttpMethod.GET, "/api/profissionais/**").hasAnyRole("ADMIN", "MEDICO", "PACIENTE")
                         .requestMatchers(HttpMethod.DELETE, "/api/profissionais/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/disponibilidade").hasAnyRole("ADMIN", "MEDICO", "PACIENTE")
                         .requestMatchers(HttpMethod.POST, "/api/prontuarios/**").hasAnyRole("ADMIN","MEDICO")
                         .requestMatchers(HttpMethod.GET, "/api/prontuarios").hasAnyRole("ADMIN", "MEDICO")
                         .requestMatchers(HttpMethod.GET, "/api/prontuarios/**").hasAnyRole("ADMIN", "MEDICO", "PACIENTE")
                         .requestMatchers(HttpMethod.DELETE, "/api/prontuarios/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/auditoria").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/auditoria/usuario/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/auditoria/exportar").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/auditoria/analitico/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/metricas").hasRole("ADMIN")
+                        .requestMatchers("/api/usuarios/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, userDetailsService), UsernamePasswordAuthenticationFilter.class) // 🔥 Adicionando o filtro JWT!
+                // 🔥 Adicionando o filtro JWT!
+                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, userDetailsService, cacheTokens,
+                                revogacaoUsuarios, stateless),
+                        UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
 
     /**
      * Configura o provedor de autenticação.
      *
-     * @param customUserDetailsService Serviço de detalhes do usuário personalizado.
+     * @param userDetailsService Serviço de detalhes do usuário (com cache).
      * @return Provedor de autenticação configurado.
      */
     @Bean
-    public DaoAuthenticationProvider authenticationProvider(CustomUserDetailsService customUserDetailsService) {
+    public DaoAuthenticationProvider authenticationProvider(UserDetailsService userDetailsService) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
-        authProvider.setUserDetailsService(customUserDetailsService);
+        authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
         return authProvider;
     }
@@ -1,20 +1,36 @@
 package br.com.vidaplus.sghss.controller;
 
+import br.com.vidaplus.sghss.dto.request.FiltroAuditoriaDTO;
 import br.com.vidaplus.sghss.dto.response.AuditoriaResponseDTO;
+import br.com.vidaplus.sghss.dto.response.ContagemJanelaDTO;
+import br.com.vidaplus.sghss.dto.response.PaginaCursorResponseDTO;
+import br.com.vidaplus.sghss.model.Auditoria;
 import br.com.vidaplus.sghss.exception.UsuarioSemPermissaoException;
+import br.com.vidaplus.sghss.exportacao.ExportadorAuditoria;
+import br.com.vidaplus.sghss.exportacao.FormatoExportacao;
+import br.com.vidaplus.sghss.logging.AnaliticoAuditoria;
 import br.com.vidaplus.sghss.mapper.AuditoriaMapper;
 import br.com.vidaplus.sghss.repository.AuditoriaRepository;
+import br.com.vidaplus.sghss.repository.CursorAuditoria;
+import br.com.vidaplus.sghss.security.Papeis;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * Controlador REST para operações relacionadas a Auditoria.
- * Disponibiliza endpoints para listar e buscar auditorias por usuário.
+ * Disponibiliza endpoints para listar e buscar auditorias por usuário, paginados por cursor,
+ * para exportar trilhas de auditoria em streaming e para consultar os contadores recentes
+ * de ações (por usuário e por ação), mantidos em memória.
  *
  * @author Patricky Lucas
  */
@@ -22,53 +38,175 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/auditoria")
 public class AuditoriaController {
 
+    /**
+     * Tamanho máximo de página aceito nas listagens.
+     */
+    private static final int LIMITE_MAXIMO = 500;
+
+    /**
+     * Tamanho máximo dos rankings analíticos.
+     */
+    private static final int LIMITE_MAXIMO_RANKING = 100;
+
     /**
      * Repositório de Auditoria utilizado para as operações de acesso aos dados.
      */
     private final AuditoriaRepository auditoriaRepository;
 
+    /**
+     * Exportador de trilhas de auditoria em streaming.
+     */
+    private final ExportadorAuditoria exportadorAuditoria;
+
+    /**
+     * Contadores de ações em janelas deslizantes.
+     */
+    private final AnaliticoAuditoria analiticoAuditoria;
+
     /**
      * Construtor do AuditoriaController.
      *
      * @param auditoriaRepository repositório de auditoria
+     * @param exportadorAuditoria exportador de trilhas de auditoria
+     * @param analiticoAuditoria  contadores de ações em janelas deslizantes
      */
-    public AuditoriaController(AuditoriaRepository auditoriaRepository) {
+    public AuditoriaController(AuditoriaRepository auditoriaRepository, ExportadorAuditoria exportadorAuditoria,
+                               AnaliticoAuditoria analiticoAuditoria) {
         this.auditoriaRepository = auditoriaRepository;
+        this.exportadorAuditoria = exportadorAuditoria;
+        this.analiticoAuditoria = analiticoAuditoria;
     }
 
     /**
-     * Lista todas as auditorias.
+     * Lista auditorias da mais recente para a mais antiga, com filtros opcionais por usuário,
+     * ação e janela de tempo, paginadas por cursor.
      *
-     * @return lista de AuditoriaResponseDTO
+     * @param filtro filtros opcionais (usuario, acao, de, ate)
+     * @param cursor cursor retornado pela página anterior, ou ausente para a primeira página
+     * @param limite tamanho da página (máximo 500)
+     * @return página de AuditoriaResponseDTO
      */
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public List<AuditoriaResponseDTO> listar() {
+    public PaginaCursorResponseDTO<AuditoriaResponseDTO> listar(@ModelAttribute FiltroAuditoriaDTO filtro,
+                                                                @RequestParam(required = false) String cursor,
+                                                                @RequestParam(defaultValue = "50") int limite) {
         if (!temPermissaoAdmin()) {
             throw new UsuarioSemPermissaoException("Usuário sem permissão para acessar auditoria.");
         }
-        return auditoriaRepository.findAll()
-                .stream()
-                .map(AuditoriaMapper::toDTO)
-                .collect(Collectors.toList());
+        return paginar(filtro, cursor, limite);
     }
 
     /**
-     * Busca auditorias por usuário.
+     * Busca auditorias por usuário, paginadas por cursor.
      *
      * @param usuario nome do usuário
-     * @return lista de AuditoriaResponseDTO
+     * @param cursor  cursor retornado pela página anterior, ou ausente para a primeira página
+     * @param limite  tamanho da página (máximo 500)
+     * @return página de AuditoriaResponseDTO
      */
     @GetMapping("/usuario/{usuario}")
     @PreAuthorize("hasRole('ADMIN')")
-    public List<AuditoriaResponseDTO> buscarPorUsuario(@PathVariable String usuario) {
+    public PaginaCursorResponseDTO<AuditoriaResponseDTO> buscarPorUsuario(@PathVariable String usuario,
+                                                                          @RequestParam(required = false) String cursor,
+                                                                          @RequestParam(defaultValue = "50") int limite) {
         if (!temPermissaoAdmin()) {
             throw new UsuarioSemPermissaoException("Usuário sem permissão para acessar auditoria.");
         }
-        return auditoriaRepository.findByUsuario(usuario)
-                .stream()
+        FiltroAuditoriaDTO filtro = new FiltroAuditoriaDTO();
+        filtro.setUsuario(usuario);
+        return paginar(filtro, cursor, limite);
+    }
+
+    /**
+     * Exporta, em ordem cronológica, todas as auditorias que atendem aos filtros, em NDJSON ou CSV,
+     * opcionalmente compactadas em gzip. As linhas são escritas na resposta à medida que são lidas
+     * do banco, com memória constante independentemente do volume.
+     *
+     * @param filtro  filtros opcionais (usuario, acao, de, ate)
+     * @param formato ndjson (padrão) ou csv
+     * @param gzip    se verdadeiro, a resposta é um arquivo .gz
+     * @return resposta em streaming com o arquivo exportado
+     */
+    @GetMapping("/exportar")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportar(@ModelAttribute FiltroAuditoriaDTO filtro,
+                                                          @RequestParam(defaultValue = "ndjson") String formato,
+                                                          @RequestParam(defaultValue = "false") boolean gzip) {
+        if (!temPermissaoAdmin()) {
+            throw new UsuarioSemPermissaoException("Usuário sem permissão para acessar auditoria.");
+        }
+        FormatoExportacao formatoExportacao = FormatoExportacao.doParametro(formato);
+        String nomeArquivo = "auditoria." + formatoExportacao.getExtensao() + (gzip ? ".gz" : "");
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : formatoExportacao.getTipoConteudo()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(nomeArquivo).build().toString())
+                .body(saida -> exportadorAuditoria.exportar(filtro, formatoExportacao, gzip, saida));
+    }
+
+    /**
+     * Lista os usuários com mais ações no último minuto, a partir dos contadores em memória.
+     *
+     * @param limite quantidade máxima de usuários (máximo 100)
+     * @return contagens por usuário, em ordem decrescente
+     */
+    @GetMapping("/analitico/usuarios")
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<ContagemJanelaDTO> usuariosMaisAtivos(@RequestParam(defaultValue = "10") int limite) {
+        if (!temPermissaoAdmin()) {
+            throw new UsuarioSemPermissaoException("Usuário sem permissão para acessar auditoria.");
+        }
+        return analiticoAuditoria.usuariosMaisAtivos(Math.max(1, Math.min(limite, LIMITE_MAXIMO_RANKING)));
+    }
+
+    /**
+     * Retorna a quantidade de ações do usuário no último minuto.
+     *
+     * @param usuario nome do usuário
+     * @return contagem do usuário
+     */
+    @GetMapping("/analitico/usuarios/{usuario}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ContagemJanelaDTO acoesDoUsuario(@PathVariable String usuario) {
+        if (!temPermissaoAdmin()) {
+            throw new UsuarioSemPermissaoException("Usuário sem permissão para acessar auditoria.");
+        }
+        return analiticoAuditoria.acoesDoUsuario(usuario);
+    }
+
+    /**
+     * Lista as ações mais executadas na última hora, a partir dos contadores em memória.
+     *
+     * @param limite quantidade máxima de ações (máximo 100)
+     * @return contagens por ação, em ordem decrescente
+     */
+    @GetMapping("/analitico/acoes")
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<ContagemJanelaDTO> acoesMaisFrequentes(@RequestParam(defaultValue = "10") int limite) {
+        if (!temPermissaoAdmin()) {
+            throw new UsuarioSemPermissaoException("Usuário sem permissão para acessar auditoria.");
+        }
+        return analiticoAuditoria.acoesMaisFrequentes(Math.max(1, Math.min(limite, LIMITE_MAXIMO_RANKING)));
+    }
+
+    /**
+     * Busca uma página (um registro a mais que o limite, para saber se há próxima página)
+     * e monta o cursor a partir do último registro entregue.
+     */
+    private PaginaCursorResponseDTO<AuditoriaResponseDTO> paginar(FiltroAuditoriaDTO filtro, String cursor, int limite) {
+        int tamanhoPagina = Math.max(1, Math.min(limite, LIMITE_MAXIMO));
+        CursorAuditoria posicao = (cursor == null || cursor.isBlank()) ? null : CursorAuditoria.decodificar(cursor);
+
+        List<Auditoria> auditorias = auditoriaRepository.buscarPagina(filtro, posicao, tamanhoPagina + 1);
+        String proximoCursor = null;
+        if (auditorias.size() > tamanhoPagina) {
+            auditorias = auditorias.subList(0, tamanhoPagina);
+            proximoCursor = CursorAuditoria.apos(auditorias.get(tamanhoPagina - 1)).codificar();
+        }
+        return new PaginaCursorResponseDTO<>(auditorias.stream()
                 .map(AuditoriaMapper::toDTO)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()), proximoCursor);
     }
 
     /**
@@ -80,7 +218,6 @@ public class AuditoriaController {
         // Implemente a lógica para verificar se o usuário é ADMIN
         // Exemplo:
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return auth != null && auth.getAuthorities().stream()
-                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+        return Papeis.possuiAlgum(auth, Papeis.ADMIN);
     }
 }
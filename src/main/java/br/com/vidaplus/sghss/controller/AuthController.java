@@ -2,6 +2,7 @@ package br.com.vidaplus.sghss.controller;
 
 
 import br.com.vidaplus.sghss.dto.request.PacienteComUsuarioRequestDTO;
+import br.com.vidaplus.sghss.dto.request.RefreshTokenRequestDTO;
 import br.com.vidaplus.sghss.dto.request.ProfissionalSaudeComUsuarioRequestDTO;
 import br.com.vidaplus.sghss.dto.response.JwtResponseDTO;
 import br.com.vidaplus.sghss.dto.UsuarioDTO;
@@ -15,6 +16,8 @@ import br.com.vidaplus.sghss.model.ProfissionalSaude;
 import br.com.vidaplus.sghss.model.Usuario;
 import br.com.vidaplus.sghss.service.*;
 import br.com.vidaplus.sghss.security.JwtUtil;
+import br.com.vidaplus.sghss.security.LimitadorLogin;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -43,6 +46,7 @@ public class AuthController {
     private final PacienteMapper pacienteMapper;
     private final ProfissionalSaudeService profissionalSaudeService;
     private final ProfissionalSaudeMapper profissionalSaudeMapper;
+    private final LimitadorLogin limitadorLogin;
 
     /**
      * Construtor do AuthController.
@@ -51,8 +55,9 @@ public class AuthController {
      * @param authenticationManager    gerenciador de autenticação
      * @param jwtUtil                  utilitário JWT para geração de tokens
      * @param usuarioService           serviço de usuário para operações relacionadas a usuários
+     * @param limitadorLogin           limitador de tentativas de login por usuário e por IP
      */
-    public AuthController(CustomUserDetailsService customUserDetailsService, AuthenticationManager authenticationManager, JwtUtil jwtUtil, UsuarioService usuarioService, AuthService authService, PacienteService pacienteService, PacienteMapper pacienteMapper, ProfissionalSaudeService profissionalSaudeService, ProfissionalSaudeMapper profissionalSaudeMapper) {
+    public AuthController(CustomUserDetailsService customUserDetailsService, AuthenticationManager authenticationManager, JwtUtil jwtUtil, UsuarioService usuarioService, AuthService authService, PacienteService pacienteService, PacienteMapper pacienteMapper, ProfissionalSaudeService profissionalSaudeService, ProfissionalSaudeMapper profissionalSaudeMapper, LimitadorLogin limitadorLogin) {
         this.customUserDetailsService = customUserDetailsService;
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
@@ -62,18 +67,22 @@ public class AuthController {
         this.pacienteMapper = pacienteMapper;
         this.profissionalSaudeService = profissionalSaudeService;
         this.profissionalSaudeMapper = profissionalSaudeMapper;
+        this.limitadorLogin = limitadorLogin;
     }
 
     /**
      * Endpoint para login de usuários.
      * Recebe um objeto UsuarioDTO contendo username e password,
      * autentica o usuário e retorna um JWT se a autenticação for bem-sucedida.
+     * Antes de verificar a senha, aplica o limite de tentativas por usuário e por IP.
      *
      * @param usuarioDTO objeto contendo as credenciais do usuário
-     * @return ResponseEntity com o token JWT ou erro 401 se a autenticação falhar
+     * @param request    requisição HTTP, usada para obter o IP de origem
+     * @return ResponseEntity com o token JWT, erro 401 se a autenticação falhar ou 429 se o limite for excedido
      */
     @PostMapping("/login")
-    public ResponseEntity<JwtResponseDTO> login(@RequestBody UsuarioDTO usuarioDTO) {
+    public ResponseEntity<JwtResponseDTO> login(@RequestBody UsuarioDTO usuarioDTO, HttpServletRequest request) {
+        limitadorLogin.verificar(usuarioDTO.getUsername(), request.getRemoteAddr());
         try {
             JwtResponseDTO jwt = authService.login(usuarioDTO.getUsername(), usuarioDTO.getPassword());
             return ResponseEntity.ok(jwt);
@@ -82,6 +91,38 @@ public class AuthController {
         }
     }
 
+    /**
+     * Endpoint para renovar a sessão a partir de um refresh token.
+     * O refresh token usado é revogado e um novo par de tokens é devolvido.
+     *
+     * @param requestDTO objeto contendo o refresh token
+     * @return ResponseEntity com os novos tokens ou erro 401 se o refresh token for inválido
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<JwtResponseDTO> renovar(@RequestBody RefreshTokenRequestDTO requestDTO) {
+        try {
+            return ResponseEntity.ok(authService.renovar(requestDTO));
+        } catch (RecursoNaoEncontradoException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
+    /**
+     * Endpoint para encerrar a sessão, revogando o refresh token informado.
+     *
+     * @param requestDTO objeto contendo o refresh token
+     * @return ResponseEntity vazio (204) ou erro 401 se o refresh token for inválido
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> encerrarSessao(@RequestBody RefreshTokenRequestDTO requestDTO) {
+        try {
+            authService.encerrarSessao(requestDTO);
+            return ResponseEntity.noContent().build();
+        } catch (RecursoNaoEncontradoException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
     /**
      * Endpoint para registrar um novo usuário.
      * Recebe um objeto UsuarioDTO contendo os dados do novo usuário,
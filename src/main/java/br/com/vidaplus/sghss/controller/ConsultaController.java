@@ -1,27 +1,30 @@
 package br.com.vidaplus.sghss.controller;
 
 import br.com.vidaplus.sghss.dto.request.ConsultaRequestDTO;
+import br.com.vidaplus.sghss.dto.request.FiltroConsultaDTO;
 import br.com.vidaplus.sghss.dto.response.ConsultaResponseDTO;
+import br.com.vidaplus.sghss.dto.response.PaginaResponseDTO;
 import br.com.vidaplus.sghss.exception.RecursoNaoEncontradoException;
 import br.com.vidaplus.sghss.mapper.ConsultaMapper;
 import br.com.vidaplus.sghss.model.Consulta;
 import br.com.vidaplus.sghss.model.Paciente;
 import br.com.vidaplus.sghss.model.ProfissionalSaude;
+import br.com.vidaplus.sghss.security.Papeis;
 import br.com.vidaplus.sghss.service.ConsultaService;
 import br.com.vidaplus.sghss.service.PacienteService;
 import br.com.vidaplus.sghss.service.ProfissionalSaudeService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Controlador REST para operações relacionadas a Consultas.
- * Disponibiliza endpoints para listar, buscar, criar, atualizar e excluir consultas.
+ * Disponibiliza endpoints para listar, buscar (com filtros e paginação), criar, atualizar e excluir consultas.
  *
  * @author Patricky Lucas
  */
@@ -29,6 +32,11 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/consultas")
 public class ConsultaController {
 
+    /**
+     * Tamanho máximo de página aceito na busca.
+     */
+    private static final int TAMANHO_MAXIMO = 200;
+
     /**
      * Serviço de Consulta utilizado para as operações CRUD.
      */
@@ -59,11 +67,24 @@ public class ConsultaController {
      */
     @GetMapping
     public ResponseEntity<List<ConsultaResponseDTO>> listarTodas() {
-        List<Consulta> consultas = consultaService.listarTodas();
-        List<ConsultaResponseDTO> resposta = consultas.stream()
-                .map(consultaMapper::toResponseDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(resposta);
+        return ResponseEntity.ok(consultaService.listarRespostas());
+    }
+
+    /**
+     * Busca consultas com filtros opcionais por profissional, paciente, status e intervalo de datas,
+     * em ordem cronológica e paginadas no servidor.
+     *
+     * @param filtro  filtros opcionais (profissionalId, pacienteId, status, de, ate)
+     * @param pagina  número da página, a partir de 0
+     * @param tamanho tamanho da página (máximo 200)
+     * @return página de ConsultaResponseDTO
+     */
+    @GetMapping("/busca")
+    public ResponseEntity<PaginaResponseDTO<ConsultaResponseDTO>> buscar(@ModelAttribute FiltroConsultaDTO filtro,
+                                                                         @RequestParam(defaultValue = "0") int pagina,
+                                                                         @RequestParam(defaultValue = "20") int tamanho) {
+        PageRequest paginacao = PageRequest.of(Math.max(0, pagina), Math.max(1, Math.min(tamanho, TAMANHO_MAXIMO)));
+        return ResponseEntity.ok(PaginaResponseDTO.de(consultaService.buscar(filtro, paginacao)));
     }
 
     /**
@@ -77,17 +98,16 @@ public class ConsultaController {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         String username = auth.getName();
 
-        Consulta consulta = consultaService.buscarPorId(id)
+        ConsultaResponseDTO consulta = consultaService.buscarRespostaPorId(id)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Consulta não encontrada"));
 
-        boolean isAdminOuMedico = auth.getAuthorities().stream()
-                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN") || a.getAuthority().equals("ROLE_MEDICO"));
+        boolean isAdminOuMedico = Papeis.possuiAlgum(auth, Papeis.ADMIN | Papeis.MEDICO);
 
-        if (!isAdminOuMedico && !consulta.getPaciente().getUsuario().getUsername().equals(username)) {
+        if (!isAdminOuMedico && !consultaService.buscarUsernameDoPaciente(id).map(username::equals).orElse(false)) {
             return ResponseEntity.status(403).build();
         }
 
-        return ResponseEntity.ok(consultaMapper.toResponseDTO(consulta));
+        return ResponseEntity.ok(consulta);
     }
 
     /**
@@ -0,0 +1,58 @@
+package br.com.vidaplus.sghss.controller;
+
+import br.com.vidaplus.sghss.dto.response.HorarioLivreDTO;
+import br.com.vidaplus.sghss.service.DisponibilidadeService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Controlador REST para a consulta de horários livres dos profissionais de saúde.
+ *
+ * @author Patricky Lucas
+ */
+@RestController
+@RequestMapping("/api/disponibilidade")
+public class DisponibilidadeController {
+
+    /**
+     * Quantidade máxima de horários por resposta.
+     */
+    private static final int QUANTIDADE_MAXIMA = 100;
+
+    private final DisponibilidadeService disponibilidadeService;
+
+    /**
+     * Construtor do DisponibilidadeController.
+     *
+     * @param disponibilidadeService serviço de disponibilidade
+     */
+    public DisponibilidadeController(DisponibilidadeService disponibilidadeService) {
+        this.disponibilidadeService = disponibilidadeService;
+    }
+
+    /**
+     * Lista os próximos horários livres dos profissionais de uma especialidade no intervalo.
+     *
+     * @param especialidade especialidade dos profissionais
+     * @param de            início do intervalo (inclusivo, ISO-8601)
+     * @param ate           fim do intervalo (exclusivo, ISO-8601)
+     * @param quantidade    quantidade de horários (máximo 100)
+     * @return lista de HorarioLivreDTO em ordem cronológica
+     */
+    @GetMapping
+    public ResponseEntity<List<HorarioLivreDTO>> buscarHorariosLivres(
+            @RequestParam String especialidade,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime de,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime ate,
+            @RequestParam(defaultValue = "10") int quantidade) {
+        return ResponseEntity.ok(disponibilidadeService.buscarHorariosLivres(especialidade, de, ate,
+                Math.max(1, Math.min(quantidade, QUANTIDADE_MAXIMA))));
+    }
+}
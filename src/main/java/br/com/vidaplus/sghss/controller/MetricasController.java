@@ -0,0 +1,51 @@
+package br.com.vidaplus.sghss.controller;
+
+import br.com.vidaplus.sghss.metricas.FonteMetricas;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Controlador REST para consulta das métricas internas da aplicação.
+ * Agrega as métricas de todos os componentes que implementam FonteMetricas.
+ *
+ * @author Patricky Lucas
+ */
+@RestController
+@RequestMapping("/api/metricas")
+public class MetricasController {
+
+    /**
+     * Fontes de métricas registradas na aplicação.
+     */
+    private final List<FonteMetricas> fontes;
+
+    /**
+     * Construtor do MetricasController.
+     *
+     * @param fontes fontes de métricas registradas como beans
+     */
+    public MetricasController(List<FonteMetricas> fontes) {
+        this.fontes = fontes;
+    }
+
+    /**
+     * Lista as métricas de todas as fontes, agrupadas pelo nome da fonte.
+     *
+     * @return mapa com as métricas de cada fonte
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<String, Map<String, Object>> listar() {
+        Map<String, Map<String, Object>> resposta = new TreeMap<>();
+        for (FonteMetricas fonte : fontes) {
+            resposta.put(fonte.nomeMetricas(), fonte.metricas());
+        }
+        return resposta;
+    }
+}
@@ -7,6 +7,7 @@ import br.com.vidaplus.sghss.exception.RecursoNaoEncontradoException;
 import br.com.vidaplus.sghss.exception.UsuarioSemPermissaoException;
 import br.com.vidaplus.sghss.mapper.PacienteMapper;
 import br.com.vidaplus.sghss.model.Paciente;
+import br.com.vidaplus.sghss.security.Papeis;
 import br.com.vidaplus.sghss.service.PacienteService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
@@ -51,8 +52,7 @@ public class PacienteController {
     public ResponseEntity<List<PacienteResponseDTO>> listarTodos() {
         // Verifica se o usuário é ADMIN ou MEDICO
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        boolean isAdminOuMedico = auth.getAuthorities().stream()
-                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN") || a.getAuthority().equals("ROLE_MEDICO"));
+        boolean isAdminOuMedico = Papeis.possuiAlgum(auth, Papeis.ADMIN | Papeis.MEDICO);
         if (!isAdminOuMedico) {
             throw new UsuarioSemPermissaoException("Você não tem permissão para acessar esta lista.");
         }
@@ -77,8 +77,7 @@ public class PacienteController {
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Paciente não encontrado"));
 
         // Só permite se for ADMIN/MEDICO ou o próprio paciente
-        boolean isAdminOuMedico = auth.getAuthorities().stream()
-                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN") || a.getAuthority().equals("ROLE_MEDICO"));
+        boolean isAdminOuMedico = Papeis.possuiAlgum(auth, Papeis.ADMIN | Papeis.MEDICO);
 
         if (!isAdminOuMedico && !paciente.getUsuario().getUsername().equals(username)) {
             throw new UsuarioSemPermissaoException("Você não tem permissão para acessar este recurso.");
@@ -1,9 +1,13 @@
 package br.com.vidaplus.sghss.controller;
 
+import br.com.vidaplus.sghss.dto.request.JornadaTrabalhoRequestDTO;
 import br.com.vidaplus.sghss.dto.request.ProfissionalSaudeRequestDTO;
+import br.com.vidaplus.sghss.dto.response.JornadaTrabalhoResponseDTO;
 import br.com.vidaplus.sghss.dto.response.ProfissionalSaudeResponseDTO;
+import br.com.vidaplus.sghss.mapper.JornadaTrabalhoMapper;
 import br.com.vidaplus.sghss.mapper.ProfissionalSaudeMapper;
 import br.com.vidaplus.sghss.model.ProfissionalSaude;
+import br.com.vidaplus.sghss.service.DisponibilidadeService;
 import br.com.vidaplus.sghss.service.ProfissionalSaudeService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
@@ -14,7 +18,8 @@ import java.util.stream.Collectors;
 
 /**
  * Controlador REST para operações relacionadas a Profissionais de Saúde.
- * Disponibiliza endpoints para listar, buscar, criar, atualizar e excluir profissionais de saúde.
+ * Disponibiliza endpoints para listar, buscar, criar, atualizar e excluir profissionais de saúde,
+ * e para consultar e definir as suas jornadas de trabalho.
  *
  * @author Patricky Lucas
  */
@@ -27,17 +32,21 @@ public class ProfissionalSaudeController {
      */
     private final ProfissionalSaudeService profissionalSaudeService;
     private final ProfissionalSaudeMapper profissionalSaudeMapper;
+    private final DisponibilidadeService disponibilidadeService;
 
     /**
      * Construtor do ProfissionalSaudeController.
      *
      * @param profissionalSaudeService serviço de profissional de saúde
      * @param profissionalSaudeMapper mapeador para conversão entre entidades e DTOs
+     * @param disponibilidadeService serviço de jornadas e disponibilidade
      */
     public ProfissionalSaudeController(ProfissionalSaudeService profissionalSaudeService,
-                                       ProfissionalSaudeMapper profissionalSaudeMapper) {
+                                       ProfissionalSaudeMapper profissionalSaudeMapper,
+                                       DisponibilidadeService disponibilidadeService) {
         this.profissionalSaudeService = profissionalSaudeService;
         this.profissionalSaudeMapper = profissionalSaudeMapper;
+        this.disponibilidadeService = disponibilidadeService;
     }
     /**
      * Lista todos os profissionais de saúde.
@@ -105,4 +114,28 @@ public class ProfissionalSaudeController {
         ProfissionalSaude profissionalSaudeAtualizado = profissionalSaudeService.atualizarProfissionalSaude(id, requestDTO);
         return ResponseEntity.ok(profissionalSaudeMapper.toResponseDTO(profissionalSaudeAtualizado));
     }
+    /**
+     * Lista as jornadas de trabalho do profissional de saúde.
+     *
+     * @param id ID do profissional de saúde
+     * @return lista de JornadaTrabalhoResponseDTO, na ordem dos dias da semana
+     */
+    @GetMapping("/{id}/jornadas")
+    public ResponseEntity<List<JornadaTrabalhoResponseDTO>> listarJornadas(@PathVariable Long id) {
+        return ResponseEntity.ok(disponibilidadeService.listarJornadas(id).stream()
+                .map(JornadaTrabalhoMapper::toResponseDTO)
+                .collect(Collectors.toList()));
+    }
+    /**
+     * Cria ou substitui a jornada de trabalho do profissional de saúde em um dia da semana.
+     *
+     * @param id ID do profissional de saúde
+     * @param requestDTO dados da jornada
+     * @return JornadaTrabalhoResponseDTO da jornada salva
+     */
+    @PostMapping("/{id}/jornadas")
+    public ResponseEntity<JornadaTrabalhoResponseDTO> salvarJornada(@PathVariable Long id,
+                                                                    @Valid @RequestBody JornadaTrabalhoRequestDTO requestDTO) {
+        return ResponseEntity.ok(JornadaTrabalhoMapper.toResponseDTO(disponibilidadeService.salvarJornada(id, requestDTO)));
+    }
 }
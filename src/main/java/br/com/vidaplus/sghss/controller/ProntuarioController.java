@@ -6,6 +6,7 @@ import br.com.vidaplus.sghss.exception.RecursoNaoEncontradoException;
 import br.com.vidaplus.sghss.mapper.ProntuarioMapper;
 import br.com.vidaplus.sghss.model.Paciente;
 import br.com.vidaplus.sghss.model.Prontuario;
+import br.com.vidaplus.sghss.security.Papeis;
 import br.com.vidaplus.sghss.service.PacienteService;
 import br.com.vidaplus.sghss.service.ProntuarioService;
 import jakarta.validation.Valid;
@@ -72,8 +73,7 @@ public class ProntuarioController {
         Prontuario prontuario = prontuarioService.buscarPorPacienteId(pacienteId)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Prontuário não encontrado"));
 
-        boolean isAdminOuMedico = auth.getAuthorities().stream()
-                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN") || a.getAuthority().equals("ROLE_MEDICO"));
+        boolean isAdminOuMedico = Papeis.possuiAlgum(auth, Papeis.ADMIN | Papeis.MEDICO);
 
         if (!isAdminOuMedico && !prontuario.getPaciente().getUsuario().getUsername().equals(username)) {
             return ResponseEntity.status(403).build();
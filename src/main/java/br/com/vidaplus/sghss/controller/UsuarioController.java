@@ -0,0 +1,44 @@
+package br.com.vidaplus.sghss.controller;
+
+import br.com.vidaplus.sghss.service.UsuarioService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST para operações administrativas sobre usuários.
+ * Disponibiliza endpoint para revogar o acesso de um usuário.
+ *
+ * @author Patricky Lucas
+ */
+@RestController
+@RequestMapping("/api/usuarios")
+@PreAuthorize("hasRole('ADMIN')")
+public class UsuarioController {
+
+    /**
+     * Serviço de Usuário utilizado para as operações administrativas.
+     */
+    private final UsuarioService usuarioService;
+
+    /**
+     * Construtor do UsuarioController.
+     *
+     * @param usuarioService serviço de usuário
+     */
+    public UsuarioController(UsuarioService usuarioService) {
+        this.usuarioService = usuarioService;
+    }
+
+    /**
+     * Revoga o acesso de um usuário, invalidando todos os tokens já emitidos para ele.
+     *
+     * @param username nome do usuário a ser revogado
+     * @return 204 No Content se a revogação for bem-sucedida
+     */
+    @PostMapping("/{username}/revogar-acesso")
+    public ResponseEntity<Void> revogarAcesso(@PathVariable String username) {
+        usuarioService.revogarAcesso(username);
+        return ResponseEntity.noContent().build();
+    }
+}
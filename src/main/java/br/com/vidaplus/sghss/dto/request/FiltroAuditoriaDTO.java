@@ -0,0 +1,58 @@
+package br.com.vidaplus.sghss.dto.request;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO com os filtros opcionais da consulta de auditorias, recebidos como parâmetros da URL.
+ * A janela de tempo inclui {@code de} e exclui {@code ate}; a ação deve ser informada
+ * no formato registrado pela auditoria (ex.: "ConsultaService.listarRespostas()").
+ *
+ * @author Patricky Lucas
+ */
+public class FiltroAuditoriaDTO {
+
+    private String usuario;
+
+    private String acao;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime de;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime ate;
+
+    // Getters e Setters
+    public String getUsuario() {
+        return usuario;
+    }
+
+    public void setUsuario(String usuario) {
+        this.usuario = usuario;
+    }
+
+    public String getAcao() {
+        return acao;
+    }
+
+    public void setAcao(String acao) {
+        this.acao = acao;
+    }
+
+    public LocalDateTime getDe() {
+        return de;
+    }
+
+    public void setDe(LocalDateTime de) {
+        this.de = de;
+    }
+
+    public LocalDateTime getAte() {
+        return ate;
+    }
+
+    public void setAte(LocalDateTime ate) {
+        this.ate = ate;
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.vidaplus.sghss.dto.request;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO com os filtros opcionais da busca de consultas, recebidos como parâmetros da URL.
+ * O intervalo de datas inclui {@code de} e exclui {@code ate} (ex.: a agenda de um dia é
+ * de=2025-05-10T00:00:00 e ate=2025-05-11T00:00:00).
+ *
+ * @author Patricky Lucas
+ */
+public class FiltroConsultaDTO {
+
+    private Long profissionalId;
+
+    private Long pacienteId;
+
+    private String status;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime de;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime ate;
+
+    // Getters e Setters
+    public Long getProfissionalId() {
+        return profissionalId;
+    }
+
+    public void setProfissionalId(Long profissionalId) {
+        this.profissionalId = profissionalId;
+    }
+
+    public Long getPacienteId() {
+        return pacienteId;
+    }
+
+    public void setPacienteId(Long pacienteId) {
+        this.pacienteId = pacienteId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getDe() {
+        return de;
+    }
+
+    public void setDe(LocalDateTime de) {
+        this.de = de;
+    }
+
+    public LocalDateTime getAte() {
+        return ate;
+    }
+
+    public void setAte(LocalDateTime ate) {
+        this.ate = ate;
+    }
+}
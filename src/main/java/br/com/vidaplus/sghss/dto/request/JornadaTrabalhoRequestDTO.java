@@ -0,0 +1,36 @@
+package br.com.vidaplus.sghss.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * DTO para requisição de jornada de trabalho de um profissional de saúde em um dia da semana.
+ * Os horários e a duração do atendimento devem ser múltiplos de 15 minutos; o intervalo é opcional.
+ *
+ * @author Patricky Lucas
+ */
+@Getter
+@Setter
+public class JornadaTrabalhoRequestDTO {
+
+    @NotNull(message = "Dia da semana é obrigatório")
+    private DayOfWeek diaSemana;
+
+    @NotNull(message = "Horário de início é obrigatório")
+    private LocalTime inicio;
+
+    @NotNull(message = "Horário de fim é obrigatório")
+    private LocalTime fim;
+
+    private LocalTime intervaloInicio;
+
+    private LocalTime intervaloFim;
+
+    @Positive(message = "Duração do atendimento deve ser positiva")
+    private int duracaoSlotMinutos;
+}
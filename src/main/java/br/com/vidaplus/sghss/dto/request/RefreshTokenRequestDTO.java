@@ -0,0 +1,20 @@
+package br.com.vidaplus.sghss.dto.request;
+
+/**
+ * DTO para requisição de renovação ou encerramento de sessão.
+ * Contém o refresh token emitido no login ou na última renovação.
+ * Não sobrescreve toString, para que o token não seja gravado nos registros de auditoria.
+ *
+ * @author Patricky Lucas
+ */
+public class RefreshTokenRequestDTO {
+    private String refreshToken;
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
@@ -1,5 +1,7 @@
 package br.com.vidaplus.sghss.dto.response;
 
+import br.com.vidaplus.sghss.model.StatusConsulta;
+
 import java.time.LocalDateTime;
 
 /**
@@ -22,7 +24,7 @@ public class ConsultaResponseDTO {
      * Construtor para criar uma instância de ConsultaResponseDTO com os dados fornecidos.
      *
      * @param id              ID da consulta
-     * @param status          Status da consulta (ex: "PENDENTE", "CONFIRMADA", "CANCELADA")
+     * @param status          Status da consulta (ex: "Agendada", "Confirmada", "Cancelada")
      * @param data            Data e hora da consulta
      * @param pacienteId      ID do paciente associado à consulta
      * @param pacienteNome    Nome do paciente associado à consulta
@@ -41,6 +43,24 @@ public class ConsultaResponseDTO {
         this.profissionalNome = profissionalNome;
     }
 
+    /**
+     * Construtor usado pelas projeções JPQL e pelo mapeador, a partir do status tipado.
+     *
+     * @param id              ID da consulta
+     * @param status          Status da consulta
+     * @param data            Data e hora da consulta
+     * @param pacienteId      ID do paciente associado à consulta
+     * @param pacienteNome    Nome do paciente associado à consulta
+     * @param profissionalId  ID do profissional de saúde associado à consulta
+     * @param profissionalNome Nome do profissional de saúde associado à consulta
+     */
+    public ConsultaResponseDTO(Long id, StatusConsulta status, LocalDateTime data,
+                               Long pacienteId, String pacienteNome,
+                               Long profissionalId, String profissionalNome) {
+        this(id, status == null ? null : status.getDescricao(), data, pacienteId, pacienteNome,
+                profissionalId, profissionalNome);
+    }
+
     // Getters e Setters
     public Long getId() {
         return id;
@@ -0,0 +1,47 @@
+package br.com.vidaplus.sghss.dto.response;
+
+/**
+ * Data Transfer Object (DTO) para representar uma contagem de ações de auditoria em uma
+ * janela de tempo recente (por usuário ou por ação).
+ *
+ * @author Patricky Lucas
+ */
+public class ContagemJanelaDTO {
+    private String chave;
+    private long quantidade;
+    private long janelaSegundos;
+
+    public ContagemJanelaDTO() {
+    }
+
+    public ContagemJanelaDTO(String chave, long quantidade, long janelaSegundos) {
+        this.chave = chave;
+        this.quantidade = quantidade;
+        this.janelaSegundos = janelaSegundos;
+    }
+
+    // Getters e Setters
+    public String getChave() {
+        return chave;
+    }
+
+    public void setChave(String chave) {
+        this.chave = chave;
+    }
+
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    public void setQuantidade(long quantidade) {
+        this.quantidade = quantidade;
+    }
+
+    public long getJanelaSegundos() {
+        return janelaSegundos;
+    }
+
+    public void setJanelaSegundos(long janelaSegundos) {
+        this.janelaSegundos = janelaSegundos;
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.vidaplus.sghss.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) para representar um horário livre na agenda de um profissional de saúde.
+ *
+ * @author Patricky Lucas
+ */
+public class HorarioLivreDTO {
+    private Long profissionalId;
+    private String profissionalNome;
+    private LocalDateTime inicio;
+    private LocalDateTime fim;
+
+    /**
+     * Construtor para criar um horário livre.
+     *
+     * @param profissionalId   ID do profissional de saúde
+     * @param profissionalNome nome do profissional de saúde
+     * @param inicio           início do atendimento
+     * @param fim              fim do atendimento
+     */
+    public HorarioLivreDTO(Long profissionalId, String profissionalNome, LocalDateTime inicio, LocalDateTime fim) {
+        this.profissionalId = profissionalId;
+        this.profissionalNome = profissionalNome;
+        this.inicio = inicio;
+        this.fim = fim;
+    }
+
+    // Getters e Setters
+    public Long getProfissionalId() {
+        return profissionalId;
+    }
+
+    public void setProfissionalId(Long profissionalId) {
+        this.profissionalId = profissionalId;
+    }
+
+    public String getProfissionalNome() {
+        return profissionalNome;
+    }
+
+    public void setProfissionalNome(String profissionalNome) {
+        this.profissionalNome = profissionalNome;
+    }
+
+    public LocalDateTime getInicio() {
+        return inicio;
+    }
+
+    public void setInicio(LocalDateTime inicio) {
+        this.inicio = inicio;
+    }
+
+    public LocalDateTime getFim() {
+        return fim;
+    }
+
+    public void setFim(LocalDateTime fim) {
+        this.fim = fim;
+    }
+}
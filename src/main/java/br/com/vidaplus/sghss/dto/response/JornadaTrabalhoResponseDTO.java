@@ -0,0 +1,29 @@
+package br.com.vidaplus.sghss.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * DTO de resposta da jornada de trabalho de um profissional de saúde em um dia da semana.
+ *
+ * @author Patricky Lucas
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JornadaTrabalhoResponseDTO {
+    private Long id;
+    private Long profissionalId;
+    private DayOfWeek diaSemana;
+    private LocalTime inicio;
+    private LocalTime fim;
+    private LocalTime intervaloInicio;
+    private LocalTime intervaloFim;
+    private int duracaoSlotMinutos;
+}
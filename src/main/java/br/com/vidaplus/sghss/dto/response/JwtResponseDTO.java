@@ -2,12 +2,13 @@ package br.com.vidaplus.sghss.dto.response;
 
 /**
  * Data Transfer Object (DTO) para representar a resposta de autenticação JWT.
- * Contém o token JWT gerado após a autenticação bem-sucedida.
+ * Contém o token JWT de acesso e o refresh token usado para renová-lo.
  *
  * @author Patricky Lucas
  */
 public class JwtResponseDTO {
     private String token;
+    private String refreshToken;
 
     /**
      * Construtor para criar uma instância de JwtResponseDTO com o token fornecido.
@@ -18,6 +19,17 @@ public class JwtResponseDTO {
         this.token = token;
     }
 
+    /**
+     * Construtor para criar uma instância de JwtResponseDTO com o token de acesso e o refresh token.
+     *
+     * @param token        o token JWT de acesso
+     * @param refreshToken o refresh token usado para obter um novo token de acesso
+     */
+    public JwtResponseDTO(String token, String refreshToken) {
+        this.token = token;
+        this.refreshToken = refreshToken;
+    }
+
     public String getToken() {
         return token;
     }
@@ -25,4 +37,12 @@ public class JwtResponseDTO {
     public void setToken(String token) {
         this.token = token;
     }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
 }
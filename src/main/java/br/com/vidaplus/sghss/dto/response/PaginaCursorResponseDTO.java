@@ -0,0 +1,48 @@
+package br.com.vidaplus.sghss.dto.response;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) para uma página de resultados paginados por cursor (keyset).
+ * O cursor é opaco: deve ser repassado sem alterações no parâmetro {@code cursor}
+ * da próxima requisição. Quando não há mais resultados, {@code proximoCursor} é nulo.
+ *
+ * @param <T> tipo dos itens da página
+ * @author Patricky Lucas
+ */
+public class PaginaCursorResponseDTO<T> {
+    private List<T> itens;
+    private String proximoCursor;
+
+    /**
+     * Construtor para criar uma página de resultados.
+     *
+     * @param itens         itens da página
+     * @param proximoCursor cursor da próxima página, ou null se esta for a última
+     */
+    public PaginaCursorResponseDTO(List<T> itens, String proximoCursor) {
+        this.itens = itens;
+        this.proximoCursor = proximoCursor;
+    }
+
+    // Getters e Setters
+    public List<T> getItens() {
+        return itens;
+    }
+
+    public void setItens(List<T> itens) {
+        this.itens = itens;
+    }
+
+    public String getProximoCursor() {
+        return proximoCursor;
+    }
+
+    public void setProximoCursor(String proximoCursor) {
+        this.proximoCursor = proximoCursor;
+    }
+
+    public boolean isTemMais() {
+        return proximoCursor != null;
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.vidaplus.sghss.dto.response;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) para uma página de resultados paginados por número de página.
+ * Expõe apenas os itens e os totais, sem a estrutura interna do {@link Page} do Spring Data.
+ *
+ * @param <T> tipo dos itens da página
+ * @author Patricky Lucas
+ */
+public class PaginaResponseDTO<T> {
+    private List<T> itens;
+    private int pagina;
+    private int tamanho;
+    private long totalItens;
+    private int totalPaginas;
+
+    /**
+     * Construtor para criar uma página de resultados.
+     *
+     * @param itens        itens da página
+     * @param pagina       número da página (a partir de 0)
+     * @param tamanho      tamanho solicitado da página
+     * @param totalItens   total de itens que atendem aos filtros
+     * @param totalPaginas total de páginas
+     */
+    public PaginaResponseDTO(List<T> itens, int pagina, int tamanho, long totalItens, int totalPaginas) {
+        this.itens = itens;
+        this.pagina = pagina;
+        this.tamanho = tamanho;
+        this.totalItens = totalItens;
+        this.totalPaginas = totalPaginas;
+    }
+
+    /**
+     * Converte uma página do Spring Data cujos itens já estão no formato de resposta.
+     *
+     * @param pagina página do Spring Data
+     * @param <T>    tipo dos itens da resposta
+     * @return página de DTOs
+     */
+    public static <T> PaginaResponseDTO<T> de(Page<T> pagina) {
+        return new PaginaResponseDTO<>(pagina.getContent(),
+                pagina.getNumber(), pagina.getSize(), pagina.getTotalElements(), pagina.getTotalPages());
+    }
+
+    // Getters e Setters
+    public List<T> getItens() {
+        return itens;
+    }
+
+    public void setItens(List<T> itens) {
+        this.itens = itens;
+    }
+
+    public int getPagina() {
+        return pagina;
+    }
+
+    public void setPagina(int pagina) {
+        this.pagina = pagina;
+    }
+
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    public void setTamanho(int tamanho) {
+        this.tamanho = tamanho;
+    }
+
+    public long getTotalItens() {
+        return totalItens;
+    }
+
+    public void setTotalItens(long totalItens) {
+        this.totalItens = totalItens;
+    }
+
+    public int getTotalPaginas() {
+        return totalPaginas;
+    }
+
+    public void setTotalPaginas(int totalPaginas) {
+        this.totalPaginas = totalPaginas;
+    }
+
+    public boolean isTemMais() {
+        return pagina + 1 < totalPaginas;
+    }
+}
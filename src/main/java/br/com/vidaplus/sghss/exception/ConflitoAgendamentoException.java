@@ -0,0 +1,13 @@
+package br.com.vidaplus.sghss.exception;
+
+/**
+ * Exceção personalizada para indicar que o horário da consulta conflita com outra consulta
+ * do mesmo profissional.
+ *
+ * @author Patricky Lucas
+ */
+public class ConflitoAgendamentoException extends RuntimeException {
+    public ConflitoAgendamentoException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.vidaplus.sghss.exception;
 
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -91,6 +92,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(body);
     }
 
+    // Tratamento de exceção para horário de consulta já ocupado
+    @ExceptionHandler(ConflitoAgendamentoException.class)
+    public ResponseEntity<Object> handleConflitoAgendamento(ConflitoAgendamentoException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.CONFLICT.value());
+        body.put("error", "Conflito de agendamento");
+        body.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
     // Tratamento de exceção para CPF já cadastrado
     @ExceptionHandler(CpfJaCadastradoException.class)
     public ResponseEntity<Object> handleCpfJaCadastrado(CpfJaCadastradoException ex) {
@@ -124,4 +136,41 @@ public class GlobalExceptionHandler {
         body.put("message", ex.getMessage());
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(body);
     }
+
+    // Tratamento de exceção para servidor sobrecarregado (ex.: fila de verificação de senhas cheia)
+    @ExceptionHandler(ServicoSobrecarregadoException.class)
+    public ResponseEntity<Object> handleServicoSobrecarregado(ServicoSobrecarregadoException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        body.put("error", "Servidor sobrecarregado");
+        body.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(body);
+    }
+
+    // Tratamento de exceção para limite de tentativas excedido (ex.: login)
+    @ExceptionHandler(TentativasExcedidasException.class)
+    public ResponseEntity<Object> handleTentativasExcedidas(TentativasExcedidasException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        body.put("error", "Muitas tentativas");
+        body.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getSegundosParaNovaTentativa()))
+                .body(body);
+    }
+
+    // Tratamento de exceção para parâmetro de requisição inválido (ex.: cursor de paginação)
+    @ExceptionHandler(ParametroInvalidoException.class)
+    public ResponseEntity<Object> handleParametroInvalido(ParametroInvalidoException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.BAD_REQUEST.value());
+        body.put("error", "Parâmetro inválido");
+        body.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+    }
 }
@@ -0,0 +1,13 @@
+package br.com.vidaplus.sghss.exception;
+
+/**
+ * Exceção personalizada para indicar que um parâmetro da requisição é inválido
+ * (por exemplo, um cursor de paginação malformado).
+ *
+ * @author Patricky Lucas
+ */
+public class ParametroInvalidoException extends RuntimeException {
+    public ParametroInvalidoException(String mensagem) {
+        super(mensagem);
+    }
+}
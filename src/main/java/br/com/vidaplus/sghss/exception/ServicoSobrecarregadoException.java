@@ -0,0 +1,13 @@
+package br.com.vidaplus.sghss.exception;
+
+/**
+ * Exceção personalizada para indicar que o servidor está temporariamente sem capacidade
+ * para processar a requisição (por exemplo, fila de verificação de senhas cheia).
+ *
+ * @author Patricky Lucas
+ */
+public class ServicoSobrecarregadoException extends RuntimeException {
+    public ServicoSobrecarregadoException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.vidaplus.sghss.exception;
+
+/**
+ * Exceção personalizada para indicar que o limite de tentativas foi excedido
+ * (por exemplo, muitas tentativas de login para o mesmo usuário ou endereço IP).
+ *
+ * @author Patricky Lucas
+ */
+public class TentativasExcedidasException extends RuntimeException {
+
+    private final long segundosParaNovaTentativa;
+
+    public TentativasExcedidasException(String mensagem, long segundosParaNovaTentativa) {
+        super(mensagem);
+        this.segundosParaNovaTentativa = segundosParaNovaTentativa;
+    }
+
+    public long getSegundosParaNovaTentativa() {
+        return segundosParaNovaTentativa;
+    }
+}
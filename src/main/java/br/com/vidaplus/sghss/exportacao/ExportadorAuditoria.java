@@ -0,0 +1,180 @@
+package br.com.vidaplus.sghss.exportacao;
+
+import br.com.vidaplus.sghss.dto.request.FiltroAuditoriaDTO;
+import br.com.vidaplus.sghss.model.Auditoria;
+import br.com.vidaplus.sghss.repository.AuditoriaRepository;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exporta trilhas de auditoria diretamente para um fluxo de saída (a resposta HTTP), linha a linha,
+ * enquanto os registros são lidos do banco por um cursor somente para frente. Nenhuma etapa acumula
+ * registros, então a memória usada é constante qualquer que seja o volume exportado.
+ *
+ * @author Patricky Lucas
+ */
+@Component
+public class ExportadorAuditoria {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportadorAuditoria.class);
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+    private static final JsonFactory FABRICA_JSON = new JsonFactory();
+
+    private final AuditoriaRepository auditoriaRepository;
+
+    public ExportadorAuditoria(AuditoriaRepository auditoriaRepository) {
+        this.auditoriaRepository = auditoriaRepository;
+    }
+
+    /**
+     * Escreve no fluxo de saída todas as auditorias que atendem ao filtro, em ordem cronológica.
+     * O fluxo de saída não é fechado.
+     *
+     * @param filtro  filtros opcionais por usuário, ação e janela de tempo
+     * @param formato formato das linhas
+     * @param gzip    se verdadeiro, a saída é compactada em gzip
+     * @param saida   fluxo de destino
+     * @return quantidade de auditorias exportadas
+     * @throws IOException se a escrita falhar (ex.: cliente desconectado)
+     */
+    public long exportar(FiltroAuditoriaDTO filtro, FormatoExportacao formato, boolean gzip, OutputStream saida)
+            throws IOException {
+        GZIPOutputStream compactador = gzip ? new GZIPOutputStream(saida, TAMANHO_BUFFER) : null;
+        OutputStream destino = gzip ? compactador : saida;
+        EscritorLinhas escritor = formato == FormatoExportacao.CSV ? new EscritorCsv(destino) : new EscritorNdjson(destino);
+
+        long quantidade;
+        try {
+            quantidade = auditoriaRepository.percorrer(filtro, auditoria -> {
+                try {
+                    escritor.escrever(auditoria);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        escritor.concluir();
+        if (compactador != null) {
+            compactador.finish();
+        }
+        log.info("Exportação de auditoria concluída: {} registros ({}{})", quantidade, formato, gzip ? ", gzip" : "");
+        return quantidade;
+    }
+
+    /**
+     * Escreve uma auditoria por vez no formato de saída.
+     */
+    private interface EscritorLinhas {
+
+        void escrever(Auditoria auditoria) throws IOException;
+
+        /**
+         * Descarrega o que estiver em buffer, sem fechar o fluxo de destino.
+         */
+        void concluir() throws IOException;
+    }
+
+    /**
+     * Um objeto JSON por linha, gerado em streaming pelo Jackson (sem montar árvores nem DTOs).
+     */
+    private static final class EscritorNdjson implements EscritorLinhas {
+
+        private final JsonGenerator gerador;
+
+        EscritorNdjson(OutputStream destino) throws IOException {
+            gerador = FABRICA_JSON.createGenerator(destino, JsonEncoding.UTF8);
+            gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gerador.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void escrever(Auditoria auditoria) throws IOException {
+            gerador.writeStartObject();
+            if (auditoria.getId() != null) {
+                gerador.writeNumberField("id", auditoria.getId());
+            }
+            gerador.writeStringField("usuario", auditoria.getUsuario());
+            gerador.writeStringField("acao", auditoria.getAcao());
+            gerador.writeStringField("detalhes", auditoria.getDetalhes());
+            gerador.writeStringField("dataHora", auditoria.getDataHora() == null ? null : auditoria.getDataHora().toString());
+            gerador.writeEndObject();
+            gerador.writeRaw('\n');
+        }
+
+        @Override
+        public void concluir() throws IOException {
+            gerador.flush();
+        }
+    }
+
+    /**
+     * CSV conforme a RFC 4180: campos com vírgula, aspas ou quebra de linha são delimitados
+     * por aspas, com as aspas internas duplicadas.
+     */
+    private static final class EscritorCsv implements EscritorLinhas {
+
+        private final Writer escritor;
+
+        EscritorCsv(OutputStream destino) throws IOException {
+            escritor = new BufferedWriter(new OutputStreamWriter(destino, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+            escritor.write("id,usuario,acao,detalhes,dataHora\r\n");
+        }
+
+        @Override
+        public void escrever(Auditoria auditoria) throws IOException {
+            if (auditoria.getId() != null) {
+                escritor.write(auditoria.getId().toString());
+            }
+            escritor.write(',');
+            campo(auditoria.getUsuario());
+            escritor.write(',');
+            campo(auditoria.getAcao());
+            escritor.write(',');
+            campo(auditoria.getDetalhes());
+            escritor.write(',');
+            if (auditoria.getDataHora() != null) {
+                escritor.write(auditoria.getDataHora().toString());
+            }
+            escritor.write("\r\n");
+        }
+
+        @Override
+        public void concluir() throws IOException {
+            escritor.flush();
+        }
+
+        private void campo(String valor) throws IOException {
+            if (valor == null) {
+                return;
+            }
+            boolean delimitar = false;
+            for (int i = 0; i < valor.length() && !delimitar; i++) {
+                char c = valor.charAt(i);
+                delimitar = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!delimitar) {
+                escritor.write(valor);
+                return;
+            }
+            escritor.write('"');
+            escritor.write(valor.replace("\"", "\"\""));
+            escritor.write('"');
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.vidaplus.sghss.exportacao;
+
+import br.com.vidaplus.sghss.exception.ParametroInvalidoException;
+
+/**
+ * Formatos aceitos na exportação de auditorias.
+ *
+ * @author Patricky Lucas
+ */
+public enum FormatoExportacao {
+
+    /**
+     * Um objeto JSON por linha (newline-delimited JSON).
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * Valores separados por vírgula, com cabeçalho (RFC 4180).
+     */
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String tipoConteudo;
+    private final String extensao;
+
+    FormatoExportacao(String tipoConteudo, String extensao) {
+        this.tipoConteudo = tipoConteudo;
+        this.extensao = extensao;
+    }
+
+    /**
+     * Converte o parâmetro da requisição (sem diferenciar maiúsculas e minúsculas).
+     *
+     * @param formato nome do formato
+     * @return formato correspondente
+     * @throws ParametroInvalidoException se o formato não for suportado
+     */
+    public static FormatoExportacao doParametro(String formato) {
+        for (FormatoExportacao valor : values()) {
+            if (valor.name().equalsIgnoreCase(formato)) {
+                return valor;
+            }
+        }
+        throw new ParametroInvalidoException("Formato de exportação não suportado: " + formato + ". Use ndjson ou csv.");
+    }
+
+    public String getTipoConteudo() {
+        return tipoConteudo;
+    }
+
+    public String getExtensao() {
+        return extensao;
+    }
+}
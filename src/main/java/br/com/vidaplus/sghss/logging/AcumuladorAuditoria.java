@@ -0,0 +1,128 @@
+package br.com.vidaplus.sghss.logging;
+
+import br.com.vidaplus.sghss.model.Auditoria;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Acumula, em um atributo da requisição HTTP, as chamadas de serviço auditadas durante a requisição,
+ * para que sejam gravadas como um único registro de auditoria ao seu término
+ * (ver {@link FiltroAgrupamentoAuditoria}).
+ * <p>
+ * O registro agrupado usa a última ação concluída como ação principal (em geral a chamada mais
+ * externa, como atualizarConsulta) e lista todas as ações, em ordem de conclusão, nos detalhes:
+ * {"acoes":[{"acao":"ConsultaService.buscarPorId(..)","args":{"id":4}},...]}.
+ *
+ * @author Patricky Lucas
+ */
+final class AcumuladorAuditoria {
+
+    static final String ATRIBUTO = AcumuladorAuditoria.class.getName();
+
+    /**
+     * Tamanho máximo dos detalhes agrupados (tamanho da coluna detalhes).
+     */
+    static final int TAMANHO_MAXIMO_DETALHES = 2048;
+
+    /**
+     * Número máximo de ações guardadas por requisição; as seguintes são apenas contadas.
+     */
+    static final int MAXIMO_ACOES = 64;
+
+    private final List<String> acoes = new ArrayList<>();
+    private final List<String> detalhes = new ArrayList<>();
+    private String usuario;
+    private LocalDateTime dataHora;
+    private int omitidas;
+
+    /**
+     * Acumulador da requisição HTTP em andamento, criado na primeira chamada.
+     *
+     * @return acumulador, ou null se a thread atual não estiver atendendo uma requisição HTTP
+     */
+    static AcumuladorAuditoria daRequisicaoAtual() {
+        RequestAttributes atributos = RequestContextHolder.getRequestAttributes();
+        if (atributos == null) {
+            return null;
+        }
+        AcumuladorAuditoria acumulador = (AcumuladorAuditoria) atributos.getAttribute(ATRIBUTO, RequestAttributes.SCOPE_REQUEST);
+        if (acumulador == null) {
+            acumulador = new AcumuladorAuditoria();
+            atributos.setAttribute(ATRIBUTO, acumulador, RequestAttributes.SCOPE_REQUEST);
+        }
+        return acumulador;
+    }
+
+    /**
+     * Adiciona uma chamada concluída.
+     *
+     * @param usuario    usuário autenticado na chamada
+     * @param acao       método chamado
+     * @param argumentos argumentos codificados
+     * @param dataHora   momento da chamada
+     */
+    void adicionar(String usuario, String acao, String argumentos, LocalDateTime dataHora) {
+        this.usuario = usuario;
+        if (this.dataHora == null) {
+            this.dataHora = dataHora;
+        }
+        if (acoes.size() == MAXIMO_ACOES) {
+            omitidas++;
+            // Mantém a última ação concluída como ação principal
+            acoes.set(MAXIMO_ACOES - 1, acao);
+            detalhes.set(MAXIMO_ACOES - 1, argumentos);
+            return;
+        }
+        acoes.add(acao);
+        detalhes.add(argumentos);
+    }
+
+    boolean isVazio() {
+        return acoes.isEmpty();
+    }
+
+    /**
+     * Monta o registro de auditoria agrupado.
+     */
+    Auditoria paraAuditoria() {
+        StringBuilder json = new StringBuilder(256).append("{\"acoes\":[");
+        int incluidas = 0;
+        for (int i = 0; i < acoes.size(); i++) {
+            int inicio = json.length();
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"acao\":\"").append(acoes.get(i).replace("\"", "\\\"")).append("\",\"args\":");
+            String argumentos = detalhes.get(i);
+            // Detalhes cortados pelo CodificadorDetalhes não são JSON válido: entram como texto
+            if (argumentos.endsWith("}")) {
+                json.append(argumentos);
+            } else {
+                json.append('"').append(argumentos.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+            }
+            json.append('}');
+            if (json.length() > TAMANHO_MAXIMO_DETALHES - 32) {
+                json.setLength(inicio);
+                break;
+            }
+            incluidas++;
+        }
+        json.append(']');
+        int naoIncluidas = acoes.size() - incluidas + omitidas;
+        if (naoIncluidas > 0) {
+            json.append(",\"omitidas\":").append(naoIncluidas);
+        }
+        json.append('}');
+
+        Auditoria auditoria = new Auditoria();
+        auditoria.setUsuario(usuario);
+        auditoria.setAcao(acoes.get(acoes.size() - 1));
+        auditoria.setDetalhes(json.toString());
+        auditoria.setDataHora(dataHora);
+        return auditoria;
+    }
+}
@@ -0,0 +1,187 @@
+package br.com.vidaplus.sghss.logging;
+
+import br.com.vidaplus.sghss.dto.response.ContagemJanelaDTO;
+import br.com.vidaplus.sghss.metricas.FonteMetricas;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores em memória das ações auditadas, em janelas deslizantes: ações por usuário no último
+ * minuto (12 baldes de 5 s) e ações por método de serviço na última hora (60 baldes de 1 min).
+ * Alimentados pelo {@link AuditoriaAspect} em toda chamada interceptada, inclusive as não gravadas
+ * pela política de amostragem, respondem aos painéis de anomalias sem GROUP BY na tabela auditoria:
+ * a consulta de um usuário custa O(1) e o ranking de ações percorre apenas os métodos de serviço.
+ * Usuários sem ações na janela são descartados quando a capacidade é atingida.
+ *
+ * @author Patricky Lucas
+ */
+@Component
+public class AnaliticoAuditoria implements FonteMetricas {
+
+    private static final int BALDES_USUARIO = 12;
+    private static final long LARGURA_USUARIO_MILLIS = TimeUnit.SECONDS.toMillis(5);
+    private static final int BALDES_ACAO = 60;
+    private static final long LARGURA_ACAO_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    /**
+     * Intervalo mínimo entre varreduras de usuários ociosos.
+     */
+    private static final long INTERVALO_LIMPEZA_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private final int capacidadeUsuarios;
+    private final Map<String, ContadorJanelaDeslizante> porUsuario = new ConcurrentHashMap<>();
+    private final Map<Method, Acao> porAcao = new ConcurrentHashMap<>();
+    private final ContadorJanelaDeslizante total = new ContadorJanelaDeslizante(BALDES_USUARIO, LARGURA_USUARIO_MILLIS);
+    private final AtomicLong proximaLimpeza = new AtomicLong();
+    private final LongAdder usuariosIgnorados = new LongAdder();
+
+    /**
+     * Construtor dos contadores analíticos.
+     *
+     * @param capacidadeUsuarios número máximo de usuários acompanhados ao mesmo tempo
+     */
+    public AnaliticoAuditoria(@Value("${sghss.auditoria.analitico.capacidade-usuarios:10000}") int capacidadeUsuarios) {
+        this.capacidadeUsuarios = Math.max(1, capacidadeUsuarios);
+    }
+
+    /**
+     * Conta uma chamada do método de serviço pelo usuário.
+     *
+     * @param usuario nome do usuário autenticado (ou ANÔNIMO)
+     * @param metodo  método de serviço chamado
+     */
+    public void registrar(String usuario, Method metodo) {
+        registrar(usuario, metodo, System.currentTimeMillis());
+    }
+
+    void registrar(String usuario, Method metodo, long agoraMillis) {
+        total.incrementar(agoraMillis);
+        porAcao.computeIfAbsent(metodo, Acao::new).contador.incrementar(agoraMillis);
+
+        ContadorJanelaDeslizante contador = porUsuario.get(usuario);
+        if (contador == null) {
+            if (porUsuario.size() >= capacidadeUsuarios) {
+                descartarOciosos(agoraMillis);
+                if (porUsuario.size() >= capacidadeUsuarios) {
+                    usuariosIgnorados.increment();
+                    return;
+                }
+            }
+            contador = porUsuario.computeIfAbsent(usuario,
+                    u -> new ContadorJanelaDeslizante(BALDES_USUARIO, LARGURA_USUARIO_MILLIS));
+        }
+        contador.incrementar(agoraMillis);
+    }
+
+    /**
+     * Ações do usuário no último minuto.
+     *
+     * @param usuario nome do usuário
+     * @return contagem do usuário na janela de um minuto
+     */
+    public ContagemJanelaDTO acoesDoUsuario(String usuario) {
+        return acoesDoUsuario(usuario, System.currentTimeMillis());
+    }
+
+    ContagemJanelaDTO acoesDoUsuario(String usuario, long agoraMillis) {
+        ContadorJanelaDeslizante contador = porUsuario.get(usuario);
+        return new ContagemJanelaDTO(usuario, contador == null ? 0 : contador.somar(agoraMillis), janelaUsuarioSegundos());
+    }
+
+    /**
+     * Usuários com mais ações no último minuto.
+     *
+     * @param limite quantidade máxima de usuários
+     * @return contagens em ordem decrescente
+     */
+    public List<ContagemJanelaDTO> usuariosMaisAtivos(int limite) {
+        return usuariosMaisAtivos(limite, System.currentTimeMillis());
+    }
+
+    List<ContagemJanelaDTO> usuariosMaisAtivos(int limite, long agoraMillis) {
+        List<ContagemJanelaDTO> contagens = new ArrayList<>();
+        porUsuario.forEach((usuario, contador) ->
+                adicionarSePositivo(contagens, usuario, contador.somar(agoraMillis), janelaUsuarioSegundos()));
+        return ordenar(contagens, limite);
+    }
+
+    /**
+     * Ações (métodos de serviço) mais executadas na última hora.
+     *
+     * @param limite quantidade máxima de ações
+     * @return contagens em ordem decrescente
+     */
+    public List<ContagemJanelaDTO> acoesMaisFrequentes(int limite) {
+        return acoesMaisFrequentes(limite, System.currentTimeMillis());
+    }
+
+    List<ContagemJanelaDTO> acoesMaisFrequentes(int limite, long agoraMillis) {
+        long janela = TimeUnit.MILLISECONDS.toSeconds(BALDES_ACAO * LARGURA_ACAO_MILLIS);
+        List<ContagemJanelaDTO> contagens = new ArrayList<>();
+        porAcao.values().forEach(acao ->
+                adicionarSePositivo(contagens, acao.nome, acao.contador.somar(agoraMillis), janela));
+        return ordenar(contagens, limite);
+    }
+
+    @Override
+    public String nomeMetricas() {
+        return "analiticoAuditoria";
+    }
+
+    @Override
+    public Map<String, Object> metricas() {
+        Map<String, Object> metricas = new LinkedHashMap<>();
+        metricas.put("acoesUltimoMinuto", total.somar(System.currentTimeMillis()));
+        metricas.put("usuariosAcompanhados", porUsuario.size());
+        metricas.put("acoesAcompanhadas", porAcao.size());
+        metricas.put("usuariosIgnorados", usuariosIgnorados.sum());
+        return metricas;
+    }
+
+    private void descartarOciosos(long agoraMillis) {
+        long proxima = proximaLimpeza.get();
+        if (agoraMillis < proxima || !proximaLimpeza.compareAndSet(proxima, agoraMillis + INTERVALO_LIMPEZA_MILLIS)) {
+            return;
+        }
+        porUsuario.values().removeIf(contador -> contador.somar(agoraMillis) == 0);
+    }
+
+    private static void adicionarSePositivo(List<ContagemJanelaDTO> contagens, String chave, long quantidade, long janela) {
+        if (quantidade > 0) {
+            contagens.add(new ContagemJanelaDTO(chave, quantidade, janela));
+        }
+    }
+
+    private static List<ContagemJanelaDTO> ordenar(List<ContagemJanelaDTO> contagens, int limite) {
+        contagens.sort(Comparator.comparingLong(ContagemJanelaDTO::getQuantidade).reversed()
+                .thenComparing(ContagemJanelaDTO::getChave));
+        return contagens.size() > limite ? new ArrayList<>(contagens.subList(0, limite)) : contagens;
+    }
+
+    private static long janelaUsuarioSegundos() {
+        return TimeUnit.MILLISECONDS.toSeconds(BALDES_USUARIO * LARGURA_USUARIO_MILLIS);
+    }
+
+    /**
+     * Contador de um método de serviço, com o nome no mesmo formato da ação gravada na auditoria.
+     */
+    private static final class Acao {
+        private final String nome;
+        private final ContadorJanelaDeslizante contador = new ContadorJanelaDeslizante(BALDES_ACAO, LARGURA_ACAO_MILLIS);
+
+        private Acao(Method metodo) {
+            this.nome = metodo.getDeclaringClass().getSimpleName() + "." + metodo.getName() + "(..)";
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.vidaplus.sghss.logging;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Define a política de auditoria de um método de serviço ou de todos os métodos de uma classe
+ * (a anotação no método prevalece). Sem anotação, leituras (métodos listar* e buscar*) seguem a
+ * política de leitura configurada e as demais chamadas são sempre auditadas.
+ * Propriedades sghss.auditoria.politica.Classe.metodo prevalecem sobre a anotação.
+ *
+ * @author Patricky Lucas
+ * @see SeletorAuditoria
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Auditavel {
+
+    /**
+     * Política de auditoria.
+     */
+    PoliticaAuditoria value() default PoliticaAuditoria.SEMPRE;
+
+    /**
+     * Percentual de chamadas auditadas na política AMOSTRA (0 a 100);
+     * negativo usa o percentual de leitura configurado.
+     */
+    int percentual() default -1;
+}
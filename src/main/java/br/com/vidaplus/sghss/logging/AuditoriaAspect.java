@@ -1,19 +1,27 @@
 package br.com.vidaplus.sghss.logging;
 
 import br.com.vidaplus.sghss.model.Auditoria;
-import br.com.vidaplus.sghss.repository.AuditoriaRepository;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
 import java.time.LocalDateTime;
 
 /**
  * Aspecto para auditoria de ações executadas nos serviços do sistema.
- * Registra informações sobre o usuário, ação executada e detalhes dos parâmetros.
+ * Registra informações sobre o usuário, ação executada e detalhes dos parâmetros,
+ * codificados de forma compacta pelo {@link CodificadorDetalhes}.
+ * Cada chamada passa antes pela política do método ({@link SeletorAuditoria}), que pode suprimi-la
+ * ou auditá-la por amostragem; todas as chamadas, gravadas ou não, alimentam os contadores
+ * em janela deslizante do {@link AnaliticoAuditoria}. Com sghss.auditoria.agrupar-por-requisicao=true,
+ * as chamadas feitas durante uma requisição HTTP são acumuladas e gravadas como um único registro
+ * ao seu término.
  *
  * @author Patricky Lucas
  */
@@ -22,17 +30,47 @@ import java.time.LocalDateTime;
 public class AuditoriaAspect {
 
     /**
-     * Repositório para persistência das informações de auditoria.
+     * Destino dos registros de auditoria (gravação síncrona ou assíncrona em lotes).
      */
-    private final AuditoriaRepository auditoriaRepository;
+    private final DestinoAuditoria destinoAuditoria;
 
     /**
-     * Construtor para injeção de dependência do repositório de auditoria.
+     * Codificador dos argumentos dos métodos auditados.
+     */
+    private final CodificadorDetalhes codificadorDetalhes;
+
+    /**
+     * Política de auditoria por método (sempre, amostragem ou nunca).
+     */
+    private final SeletorAuditoria seletorAuditoria;
+
+    /**
+     * Contadores de ações por usuário e por método em janelas deslizantes.
+     */
+    private final AnaliticoAuditoria analiticoAuditoria;
+
+    /**
+     * Se verdadeiro, as chamadas de uma mesma requisição HTTP são agrupadas em um único registro.
+     */
+    private final boolean agruparPorRequisicao;
+
+    /**
+     * Construtor para injeção de dependência do destino de auditoria e do codificador de detalhes.
      *
-     * @param auditoriaRepository Repositório para persistência das informações de auditoria.
+     * @param destinoAuditoria     Destino dos registros de auditoria.
+     * @param codificadorDetalhes  Codificador dos argumentos dos métodos auditados.
+     * @param seletorAuditoria     Política de auditoria por método.
+     * @param analiticoAuditoria   Contadores de ações em janelas deslizantes.
+     * @param agruparPorRequisicao Se verdadeiro, agrupa as chamadas de cada requisição HTTP em um único registro.
      */
-    public AuditoriaAspect(AuditoriaRepository auditoriaRepository) {
-        this.auditoriaRepository = auditoriaRepository;
+    public AuditoriaAspect(DestinoAuditoria destinoAuditoria, CodificadorDetalhes codificadorDetalhes,
+                           SeletorAuditoria seletorAuditoria, AnaliticoAuditoria analiticoAuditoria,
+                           @Value("${sghss.auditoria.agrupar-por-requisicao:false}") boolean agruparPorRequisicao) {
+        this.destinoAuditoria = destinoAuditoria;
+        this.codificadorDetalhes = codificadorDetalhes;
+        this.seletorAuditoria = seletorAuditoria;
+        this.analiticoAuditoria = analiticoAuditoria;
+        this.agruparPorRequisicao = agruparPorRequisicao;
     }
 
     /**
@@ -44,17 +82,32 @@ public class AuditoriaAspect {
      */
     @AfterReturning("execution(* br.com.vidaplus.sghss.service.*.*(..)) && !execution(* br.com.vidaplus.sghss.service.CustomUserDetailsService.loadUserByUsername(..))")
     public void auditar(JoinPoint joinPoint) {
+        Method metodo = ((MethodSignature) joinPoint.getSignature()).getMethod();
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String usuario = (authentication != null && authentication.getName() != null) ? authentication.getName() : "ANÔNIMO";
+        analiticoAuditoria.registrar(usuario, metodo);
+        if (!seletorAuditoria.deveAuditar(metodo)) {
+            return;
+        }
+
         String acao = joinPoint.getSignature().toShortString();
-        String detalhes = "Args: " + java.util.Arrays.toString(joinPoint.getArgs());
+        String detalhes = codificadorDetalhes.codificar(metodo, joinPoint.getArgs());
+
+        if (agruparPorRequisicao) {
+            AcumuladorAuditoria acumulador = AcumuladorAuditoria.daRequisicaoAtual();
+            if (acumulador != null) {
+                acumulador.adicionar(usuario, acao, detalhes, LocalDateTime.now());
+                return;
+            }
+        }
 
+        // Fora de uma requisição HTTP (ex.: carga inicial) ou sem agrupamento: um registro por chamada
         Auditoria auditoria = new Auditoria();
         auditoria.setUsuario(usuario);
         auditoria.setAcao(acao);
         auditoria.setDetalhes(detalhes);
         auditoria.setDataHora(LocalDateTime.now());
 
-        auditoriaRepository.save(auditoria);
+        destinoAuditoria.registrar(auditoria);
     }
 }
\ No newline at end of file
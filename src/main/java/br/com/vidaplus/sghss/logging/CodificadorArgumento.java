@@ -0,0 +1,51 @@
+package br.com.vidaplus.sghss.logging;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Codifica um tipo de argumento nos detalhes da auditoria, escrevendo apenas identificadores
+ * e campos selecionados. Qualquer bean deste tipo é registrado no {@link CodificadorDetalhes};
+ * o codificador também vale para subclasses (incluindo proxies do Hibernate).
+ * <p>
+ * Implementações não devem navegar por associações além do id, para não disparar carregamentos lazy.
+ *
+ * @param <T> tipo do argumento
+ * @author Patricky Lucas
+ */
+public interface CodificadorArgumento<T> {
+
+    /**
+     * Tipo de argumento atendido.
+     */
+    Class<T> tipo();
+
+    /**
+     * Escreve os campos do argumento.
+     *
+     * @param valor     argumento (nunca nulo)
+     * @param escritor  destino dos campos
+     */
+    void codificar(T valor, EscritorDetalhes escritor);
+
+    /**
+     * Cria um codificador a partir de uma função.
+     *
+     * @param tipo      tipo de argumento atendido
+     * @param codificar função que escreve os campos do argumento
+     * @param <T>       tipo do argumento
+     * @return codificador
+     */
+    static <T> CodificadorArgumento<T> de(Class<T> tipo, BiConsumer<T, EscritorDetalhes> codificar) {
+        return new CodificadorArgumento<>() {
+            @Override
+            public Class<T> tipo() {
+                return tipo;
+            }
+
+            @Override
+            public void codificar(T valor, EscritorDetalhes escritor) {
+                codificar.accept(valor, escritor);
+            }
+        };
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.vidaplus.sghss.logging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Monta os detalhes da auditoria a partir dos argumentos do método auditado, como um objeto JSON
+ * compacto indexado pelo nome dos parâmetros (ex.: {"id":12,"dto":{"pacienteId":3,...}}).
+ * Os argumentos são codificados pelos {@link CodificadorArgumento} registrados como beans;
+ * parâmetros com nome sensível (senha, password, token) são mascarados.
+ * <p>
+ * Para manter o caminho quente leve, os nomes dos parâmetros são resolvidos uma vez por método,
+ * o codificador de cada classe é resolvido uma vez por classe e cada thread reutiliza o mesmo buffer.
+ *
+ * @author Patricky Lucas
+ */
+@Component
+public class CodificadorDetalhes {
+
+    private static final CodificadorArgumento<Object> NENHUM = CodificadorArgumento.de(Object.class, (valor, escritor) -> {
+    });
+
+    private final Map<Class<?>, CodificadorArgumento<?>> registrados = new HashMap<>();
+    private final ClassValue<CodificadorArgumento<?>> porClasse = new ClassValue<>() {
+        @Override
+        protected CodificadorArgumento<?> computeValue(Class<?> tipo) {
+            return resolver(tipo);
+        }
+    };
+    private final Map<Method, ParametrosMetodo> parametros = new ConcurrentHashMap<>();
+    private final ThreadLocal<EscritorDetalhes> escritores;
+
+    /**
+     * Construtor do codificador de detalhes.
+     *
+     * @param codificadores codificadores de argumentos registrados
+     * @param tamanhoMaximo tamanho máximo dos detalhes de cada chamada
+     * @param tamanhoTexto  tamanho máximo de cada texto
+     */
+    public CodificadorDetalhes(List<CodificadorArgumento<?>> codificadores,
+                               @Value("${sghss.auditoria.detalhes.tamanho-maximo:255}") int tamanhoMaximo,
+                               @Value("${sghss.auditoria.detalhes.tamanho-texto:64}") int tamanhoTexto) {
+        for (CodificadorArgumento<?> codificador : codificadores) {
+            registrados.put(codificador.tipo(), codificador);
+        }
+        this.escritores = ThreadLocal.withInitial(() -> new EscritorDetalhes(this, tamanhoMaximo, tamanhoTexto));
+    }
+
+    /**
+     * Codifica os argumentos de uma chamada.
+     *
+     * @param metodo    método chamado
+     * @param argumentos argumentos da chamada
+     * @return detalhes em JSON compacto
+     */
+    public String codificar(Method metodo, Object[] argumentos) {
+        ParametrosMetodo parametrosMetodo = parametros.computeIfAbsent(metodo, ParametrosMetodo::new);
+        EscritorDetalhes escritor = escritores.get();
+        escritor.iniciar();
+        for (int i = 0; i < argumentos.length && i < parametrosMetodo.nomes.length; i++) {
+            if (parametrosMetodo.sensiveis[i]) {
+                escritor.mascarado(parametrosMetodo.nomes[i]);
+            } else {
+                escritor.campo(parametrosMetodo.nomes[i], argumentos[i]);
+            }
+        }
+        return escritor.concluir();
+    }
+
+    /**
+     * Codificador registrado para a classe (ou para a superclasse/interface mais próxima), ou null.
+     */
+    CodificadorArgumento<?> codificadorPara(Class<?> tipo) {
+        CodificadorArgumento<?> codificador = porClasse.get(tipo);
+        return codificador == NENHUM ? null : codificador;
+    }
+
+    private CodificadorArgumento<?> resolver(Class<?> tipo) {
+        for (Class<?> atual = tipo; atual != null && atual != Object.class; atual = atual.getSuperclass()) {
+            CodificadorArgumento<?> codificador = registrados.get(atual);
+            if (codificador != null) {
+                return codificador;
+            }
+            for (Class<?> interfaceImplementada : atual.getInterfaces()) {
+                codificador = registrados.get(interfaceImplementada);
+                if (codificador != null) {
+                    return codificador;
+                }
+            }
+        }
+        return NENHUM;
+    }
+
+    /**
+     * Nomes dos parâmetros de um método e quais deles são sensíveis.
+     */
+    private static final class ParametrosMetodo {
+
+        private final String[] nomes;
+        private final boolean[] sensiveis;
+
+        ParametrosMetodo(Method metodo) {
+            Parameter[] parametrosMetodo = metodo.getParameters();
+            nomes = new String[parametrosMetodo.length];
+            sensiveis = new boolean[parametrosMetodo.length];
+            for (int i = 0; i < parametrosMetodo.length; i++) {
+                nomes[i] = parametrosMetodo[i].getName();
+                String nome = nomes[i].toLowerCase(Locale.ROOT);
+                sensiveis[i] = nome.contains("password") || nome.contains("senha") || nome.contains("token");
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package br.com.vidaplus.sghss.logging;
+
+import br.com.vidaplus.sghss.dto.UsuarioDTO;
+import br.com.vidaplus.sghss.dto.request.AuthRequest;
+import br.com.vidaplus.sghss.dto.request.ConsultaRequestDTO;
+import br.com.vidaplus.sghss.dto.request.FiltroConsultaDTO;
+import br.com.vidaplus.sghss.dto.request.JornadaTrabalhoRequestDTO;
+import br.com.vidaplus.sghss.dto.request.PacienteComUsuarioRequestDTO;
+import br.com.vidaplus.sghss.dto.request.PacienteRequestDTO;
+import br.com.vidaplus.sghss.dto.request.ProfissionalSaudeComUsuarioRequestDTO;
+import br.com.vidaplus.sghss.dto.request.ProfissionalSaudeRequestDTO;
+import br.com.vidaplus.sghss.dto.request.ProntuarioRequestDTO;
+import br.com.vidaplus.sghss.dto.request.RefreshTokenRequestDTO;
+import br.com.vidaplus.sghss.model.Consulta;
+import br.com.vidaplus.sghss.model.Paciente;
+import br.com.vidaplus.sghss.model.ProfissionalSaude;
+import br.com.vidaplus.sghss.model.Prontuario;
+import br.com.vidaplus.sghss.model.Usuario;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Codificadores de auditoria das entidades e DTOs do domínio. As entidades registram o id e,
+ * nas associações, apenas o id do objeto associado (o que não inicializa proxies lazy).
+ * Textos clínicos (histórico, registros de prontuário) entram somente pelo tamanho,
+ * e senhas e tokens são mascarados.
+ *
+ * @author Patricky Lucas
+ */
+@Configuration
+public class CodificadoresDominio {
+
+    @Bean
+    public CodificadorArgumento<Consulta> codificadorConsulta() {
+        return CodificadorArgumento.de(Consulta.class, (consulta, escritor) -> escritor
+                .campo("id", consulta.getId())
+                .campo("pacienteId", consulta.getPaciente() == null ? null : consulta.getPaciente().getId())
+                .campo("profissionalId", consulta.getProfissional() == null ? null : consulta.getProfissional().getId())
+                .campo("data", consulta.getData())
+                .campo("status", consulta.getStatus() == null ? null : consulta.getStatus().getDescricao()));
+    }
+
+    @Bean
+    public CodificadorArgumento<Paciente> codificadorPaciente() {
+        return CodificadorArgumento.de(Paciente.class, (paciente, escritor) -> escritor
+                .campo("id", paciente.getId()));
+    }
+
+    @Bean
+    public CodificadorArgumento<ProfissionalSaude> codificadorProfissionalSaude() {
+        return CodificadorArgumento.de(ProfissionalSaude.class, (profissional, escritor) -> escritor
+                .campo("id", profissional.getId())
+                .campo("especialidade", profissional.getEspecialidade()));
+    }
+
+    @Bean
+    public CodificadorArgumento<Prontuario> codificadorProntuario() {
+        return CodificadorArgumento.de(Prontuario.class, (prontuario, escritor) -> escritor
+                .campo("id", prontuario.getId())
+                .campo("pacienteId", prontuario.getPaciente() == null ? null : prontuario.getPaciente().getId())
+                .campo("tamanhoRegistros", tamanho(prontuario.getRegistros())));
+    }
+
+    @Bean
+    public CodificadorArgumento<Usuario> codificadorUsuario() {
+        return CodificadorArgumento.de(Usuario.class, (usuario, escritor) -> escritor
+                .campo("username", usuario.getUsername()));
+    }
+
+    @Bean
+    public CodificadorArgumento<UsuarioDTO> codificadorUsuarioDTO() {
+        return CodificadorArgumento.de(UsuarioDTO.class, (usuario, escritor) -> escritor
+                .campo("username", usuario.getUsername())
+                .mascarado("password")
+                .campo("roleNome", usuario.getRoleNome()));
+    }
+
+    @Bean
+    public CodificadorArgumento<AuthRequest> codificadorAuthRequest() {
+        return CodificadorArgumento.de(AuthRequest.class, (auth, escritor) -> escritor
+                .campo("username", auth.getUsername())
+                .mascarado("password"));
+    }
+
+    @Bean
+    public CodificadorArgumento<RefreshTokenRequestDTO> codificadorRefreshTokenRequest() {
+        return CodificadorArgumento.de(RefreshTokenRequestDTO.class, (request, escritor) -> escritor
+                .mascarado("refreshToken"));
+    }
+
+    @Bean
+    public CodificadorArgumento<ConsultaRequestDTO> codificadorConsultaRequest() {
+        return CodificadorArgumento.de(ConsultaRequestDTO.class, (dto, escritor) -> escritor
+                .campo("pacienteId", dto.getPacienteId())
+                .campo("profissionalId", dto.getProfissionalId())
+                .campo("data", dto.getData())
+                .campo("status", dto.getStatus()));
+    }
+
+    @Bean
+    public CodificadorArgumento<FiltroConsultaDTO> codificadorFiltroConsulta() {
+        return CodificadorArgumento.de(FiltroConsultaDTO.class, (filtro, escritor) -> escritor
+                .campo("profissionalId", filtro.getProfissionalId())
+                .campo("pacienteId", filtro.getPacienteId())
+                .campo("status", filtro.getStatus())
+                .campo("de", filtro.getDe())
+                .campo("ate", filtro.getAte()));
+    }
+
+    @Bean
+    public CodificadorArgumento<JornadaTrabalhoRequestDTO> codificadorJornadaTrabalhoRequest() {
+        return CodificadorArgumento.de(JornadaTrabalhoRequestDTO.class, (dto, escritor) -> escritor
+                .campo("diaSemana", dto.getDiaSemana())
+                .campo("inicio", dto.getInicio())
+                .campo("fim", dto.getFim())
+                .campo("intervaloInicio", dto.getIntervaloInicio())
+                .campo("intervaloFim", dto.getIntervaloFim())
+                .campo("duracaoSlotMinutos", (long) dto.getDuracaoSlotMinutos()));
+    }
+
+    @Bean
+    public CodificadorArgumento<PacienteRequestDTO> codificadorPacienteRequest() {
+        return CodificadorArgumento.de(PacienteRequestDTO.class, (dto, escritor) -> escritor
+                .campo("nome", dto.getNome())
+                .campo("tamanhoHistoricoClinico", tamanho(dto.getHistoricoClinico())));
+    }
+
+    @Bean
+    public CodificadorArgumento<PacienteComUsuarioRequestDTO> codificadorPacienteComUsuarioRequest() {
+        return CodificadorArgumento.de(PacienteComUsuarioRequestDTO.class, (dto, escritor) -> escritor
+                .campo("paciente", dto.getPaciente())
+                .campo("usuario", dto.getUsuario()));
+    }
+
+    @Bean
+    public CodificadorArgumento<ProfissionalSaudeRequestDTO> codificadorProfissionalSaudeRequest() {
+        return CodificadorArgumento.de(ProfissionalSaudeRequestDTO.class, (dto, escritor) -> escritor
+                .campo("nome", dto.getNome())
+                .campo("especialidade", dto.getEspecialidade())
+                .campo("registroProfissional", dto.getRegistroProfissional()));
+    }
+
+    @Bean
+    public CodificadorArgumento<ProfissionalSaudeComUsuarioRequestDTO> codificadorProfissionalSaudeComUsuarioRequest() {
+        return CodificadorArgumento.de(ProfissionalSaudeComUsuarioRequestDTO.class, (dto, escritor) -> escritor
+                .campo("profissional", dto.getProfissional())
+                .campo("usuario", dto.getUsuario()));
+    }
+
+    @Bean
+    public CodificadorArgumento<ProntuarioRequestDTO> codificadorProntuarioRequest() {
+        return CodificadorArgumento.de(ProntuarioRequestDTO.class, (dto, escritor) -> escritor
+                .campo("pacienteId", dto.getPacienteId())
+                .campo("tamanhoRegistros", tamanho(dto.getRegistros())));
+    }
+
+    private static Long tamanho(String texto) {
+        return texto == null ? null : (long) texto.length();
+    }
+}
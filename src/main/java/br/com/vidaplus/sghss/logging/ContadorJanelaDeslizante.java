@@ -0,0 +1,77 @@
+package br.com.vidaplus.sghss.logging;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contador de eventos em uma janela deslizante, formado por um anel de baldes de tempo com
+ * {@link LongAdder}. Cada balde cobre uma fatia fixa da janela e é substituído (via CAS) quando
+ * o anel dá a volta, de modo que incrementar e somar custam O(baldes), sem travas e sem depender
+ * do número de eventos. A precisão é a largura de um balde.
+ *
+ * @author Patricky Lucas
+ */
+final class ContadorJanelaDeslizante {
+
+    private final long larguraMillis;
+    private final AtomicReferenceArray<Balde> baldes;
+
+    /**
+     * @param baldes        quantidade de baldes do anel
+     * @param larguraMillis fatia de tempo de cada balde; a janela cobre baldes * larguraMillis
+     */
+    ContadorJanelaDeslizante(int baldes, long larguraMillis) {
+        this.larguraMillis = larguraMillis;
+        this.baldes = new AtomicReferenceArray<>(baldes);
+    }
+
+    /**
+     * Conta um evento no instante informado.
+     *
+     * @param agoraMillis instante do evento, em milissegundos
+     */
+    void incrementar(long agoraMillis) {
+        long fatia = agoraMillis / larguraMillis;
+        int indice = (int) (fatia % baldes.length());
+        Balde balde = baldes.get(indice);
+        while (balde == null || balde.fatia < fatia) {
+            // Balde de uma volta anterior do anel: substitui por um novo, zerado
+            Balde novo = new Balde(fatia);
+            if (baldes.compareAndSet(indice, balde, novo)) {
+                balde = novo;
+                break;
+            }
+            balde = baldes.get(indice);
+        }
+        if (balde.fatia == fatia) {
+            balde.contador.increment();
+        }
+    }
+
+    /**
+     * Soma os eventos da janela que termina no instante informado.
+     *
+     * @param agoraMillis fim da janela, em milissegundos
+     * @return quantidade de eventos na janela
+     */
+    long somar(long agoraMillis) {
+        long fatiaAtual = agoraMillis / larguraMillis;
+        long total = 0;
+        for (int i = 0; i < baldes.length(); i++) {
+            Balde balde = baldes.get(i);
+            if (balde != null && balde.fatia > fatiaAtual - baldes.length() && balde.fatia <= fatiaAtual) {
+                total += balde.contador.sum();
+            }
+        }
+        return total;
+    }
+
+    private static final class Balde {
+        private final long fatia;
+        private final LongAdder contador = new LongAdder();
+
+        private Balde(long fatia) {
+            this.fatia = fatia;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.vidaplus.sghss.logging;
+
+import br.com.vidaplus.sghss.model.Auditoria;
+
+/**
+ * Destino dos registros de auditoria produzidos pelo AuditoriaAspect.
+ * A implementação ativa é escolhida pela propriedade sghss.auditoria.gravacao.
+ *
+ * @author Patricky Lucas
+ */
+public interface DestinoAuditoria {
+
+    /**
+     * Registra um evento de auditoria.
+     *
+     * @param auditoria evento a ser registrado
+     */
+    void registrar(Auditoria auditoria);
+}
@@ -0,0 +1,182 @@
+package br.com.vidaplus.sghss.logging;
+
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Array;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Escreve os detalhes da auditoria em JSON compacto, com limites de tamanho: textos são cortados em
+ * {@code tamanhoTexto} caracteres, coleções são resumidas ao tamanho e objetos sem codificador
+ * registrado aparecem apenas pelo nome da classe (nunca por toString). Quando o total passa de
+ * {@code tamanhoMaximo}, os campos seguintes são ignorados.
+ * <p>
+ * Cada thread reutiliza a mesma instância (e o mesmo buffer), obtida pelo {@link CodificadorDetalhes}.
+ *
+ * @author Patricky Lucas
+ */
+public final class EscritorDetalhes {
+
+    static final String MASCARA = "****";
+    private static final int PROFUNDIDADE_MAXIMA = 3;
+
+    private final CodificadorDetalhes codificador;
+    private final StringBuilder buffer;
+    private final int tamanhoMaximo;
+    private final int tamanhoTexto;
+    private int profundidade;
+
+    EscritorDetalhes(CodificadorDetalhes codificador, int tamanhoMaximo, int tamanhoTexto) {
+        this.codificador = codificador;
+        this.buffer = new StringBuilder(tamanhoMaximo + 64);
+        this.tamanhoMaximo = tamanhoMaximo;
+        this.tamanhoTexto = tamanhoTexto;
+    }
+
+    /**
+     * Escreve um campo de texto (cortado no tamanho máximo de texto).
+     */
+    public EscritorDetalhes campo(String nome, String valor) {
+        if (nome(nome)) {
+            texto(valor);
+        }
+        return this;
+    }
+
+    /**
+     * Escreve um campo numérico.
+     */
+    public EscritorDetalhes campo(String nome, Long valor) {
+        if (nome(nome)) {
+            if (valor == null) {
+                buffer.append("null");
+            } else {
+                buffer.append(valor.longValue());
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Escreve um campo de qualquer tipo, usando o codificador registrado para ele ou as regras padrão.
+     */
+    public EscritorDetalhes campo(String nome, Object valor) {
+        if (nome(nome)) {
+            valor(valor);
+        }
+        return this;
+    }
+
+    /**
+     * Escreve um campo sensível (senha, token) sem o seu valor.
+     */
+    public EscritorDetalhes mascarado(String nome) {
+        if (nome(nome)) {
+            buffer.append('"').append(MASCARA).append('"');
+        }
+        return this;
+    }
+
+    void iniciar() {
+        buffer.setLength(0);
+        profundidade = 0;
+        buffer.append('{');
+    }
+
+    String concluir() {
+        if (buffer.length() >= tamanhoMaximo) {
+            buffer.setLength(tamanhoMaximo - 1);
+            buffer.append('…');
+        } else {
+            buffer.append('}');
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Escreve o nome do campo (e a vírgula que o separa do anterior).
+     *
+     * @return false se o limite de tamanho já foi atingido e o campo deve ser ignorado
+     */
+    private boolean nome(String nome) {
+        if (buffer.length() >= tamanhoMaximo) {
+            return false;
+        }
+        if (buffer.charAt(buffer.length() - 1) != '{') {
+            buffer.append(',');
+        }
+        texto(nome, Integer.MAX_VALUE);
+        buffer.append(':');
+        return true;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void valor(Object valor) {
+        if (valor == null) {
+            buffer.append("null");
+        } else if (valor instanceof CharSequence texto) {
+            texto(texto);
+        } else if (valor instanceof Long || valor instanceof Integer || valor instanceof Short) {
+            buffer.append(((Number) valor).longValue());
+        } else if (valor instanceof Number || valor instanceof Boolean) {
+            buffer.append(valor);
+        } else if (valor instanceof Enum<?> constante) {
+            texto(constante.name());
+        } else if (valor instanceof TemporalAccessor || valor instanceof Character) {
+            buffer.append('"').append(valor).append('"');
+        } else if (valor instanceof Optional<?> opcional) {
+            valor(opcional.orElse(null));
+        } else if (valor instanceof Collection<?> colecao) {
+            resumo(colecao.size());
+        } else if (valor instanceof Map<?, ?> mapa) {
+            resumo(mapa.size());
+        } else if (valor.getClass().isArray()) {
+            resumo(Array.getLength(valor));
+        } else {
+            CodificadorArgumento codificadorArgumento = codificador.codificadorPara(valor.getClass());
+            if (codificadorArgumento == null || profundidade >= PROFUNDIDADE_MAXIMA) {
+                texto(ClassUtils.getUserClass(valor).getSimpleName(), Integer.MAX_VALUE);
+                return;
+            }
+            profundidade++;
+            buffer.append('{');
+            codificadorArgumento.codificar(valor, this);
+            buffer.append('}');
+            profundidade--;
+        }
+    }
+
+    private void resumo(int tamanho) {
+        buffer.append("{\"tamanho\":").append(tamanho).append('}');
+    }
+
+    private void texto(CharSequence texto) {
+        texto(texto, tamanhoTexto);
+    }
+
+    private void texto(CharSequence texto, int tamanhoMaximoTexto) {
+        if (texto == null) {
+            buffer.append("null");
+            return;
+        }
+        int limite = Math.min(texto.length(), tamanhoMaximoTexto);
+        buffer.append('"');
+        for (int i = 0; i < limite; i++) {
+            char c = texto.charAt(i);
+            if (c == '"' || c == '\\') {
+                buffer.append('\\').append(c);
+            } else if (c < 0x20) {
+                buffer.append(' ');
+            } else {
+                buffer.append(c);
+            }
+        }
+        if (texto.length() > limite) {
+            buffer.append('…');
+        }
+        buffer.append('"');
+    }
+}
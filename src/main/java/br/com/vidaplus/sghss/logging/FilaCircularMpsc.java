@@ -0,0 +1,104 @@
+package br.com.vidaplus.sghss.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Fila circular limitada, sem travas, para vários produtores e um único consumidor (MPSC).
+ * Segue o algoritmo de Vyukov: cada posição tem um número de sequência que indica se ela está
+ * livre para o próximo produtor ou publicada para o consumidor. Produtores disputam apenas
+ * a cauda (compare-and-set); o consumidor avança a cabeça sem sincronização adicional.
+ *
+ * @param <E> tipo dos elementos
+ * @author Patricky Lucas
+ */
+final class FilaCircularMpsc<E> {
+
+    private final int mascara;
+    private final AtomicReferenceArray<E> elementos;
+    private final AtomicLongArray sequencias;
+    private final AtomicLong cauda = new AtomicLong();
+    private final AtomicLong cabeca = new AtomicLong();
+
+    /**
+     * Construtor da fila.
+     *
+     * @param capacidadeMinima capacidade desejada (arredondada para a próxima potência de 2)
+     */
+    FilaCircularMpsc(int capacidadeMinima) {
+        int capacidade = Integer.highestOneBit(Math.max(2, capacidadeMinima) - 1) << 1;
+        this.mascara = capacidade - 1;
+        this.elementos = new AtomicReferenceArray<>(capacidade);
+        this.sequencias = new AtomicLongArray(capacidade);
+        for (int i = 0; i < capacidade; i++) {
+            sequencias.set(i, i);
+        }
+    }
+
+    /**
+     * Insere um elemento, sem bloquear. Pode ser chamado por várias threads.
+     *
+     * @param elemento elemento a ser inserido
+     * @return true se inserido, false se a fila estiver cheia
+     */
+    boolean oferecer(E elemento) {
+        long posicao = cauda.get();
+        while (true) {
+            int indice = (int) (posicao & mascara);
+            long diferenca = sequencias.getAcquire(indice) - posicao;
+            if (diferenca == 0) {
+                if (cauda.compareAndSet(posicao, posicao + 1)) {
+                    elementos.setPlain(indice, elemento);
+                    sequencias.setRelease(indice, posicao + 1);
+                    return true;
+                }
+                posicao = cauda.get();
+            } else if (diferenca < 0) {
+                return false;
+            } else {
+                posicao = cauda.get();
+            }
+        }
+    }
+
+    /**
+     * Remove até {@code maximo} elementos, entregando-os ao consumidor.
+     * Deve ser chamado sempre pela mesma thread (ou por threads que não executem ao mesmo tempo).
+     *
+     * @param consumidor destino dos elementos removidos
+     * @param maximo     número máximo de elementos removidos
+     * @return quantidade de elementos removidos
+     */
+    int drenar(Consumer<? super E> consumidor, int maximo) {
+        long posicao = cabeca.get();
+        int removidos = 0;
+        while (removidos < maximo) {
+            int indice = (int) (posicao & mascara);
+            if (sequencias.getAcquire(indice) != posicao + 1) {
+                break;
+            }
+            E elemento = elementos.getPlain(indice);
+            elementos.setPlain(indice, null);
+            sequencias.setRelease(indice, posicao + mascara + 1);
+            posicao++;
+            removidos++;
+            consumidor.accept(elemento);
+        }
+        cabeca.setRelease(posicao);
+        return removidos;
+    }
+
+    /**
+     * Quantidade aproximada de elementos na fila.
+     */
+    int tamanho() {
+        long tamanho = cauda.get() - cabeca.getAcquire();
+        return (int) Math.max(0, Math.min(tamanho, mascara + 1));
+    }
+
+    int capacidade() {
+        return mascara + 1;
+    }
+}
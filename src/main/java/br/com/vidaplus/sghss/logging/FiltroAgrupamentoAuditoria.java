@@ -0,0 +1,53 @@
+package br.com.vidaplus.sghss.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Grava, ao término de cada requisição HTTP, o registro de auditoria agrupado com todas as
+ * chamadas de serviço feitas durante a requisição (ver {@link AcumuladorAuditoria}).
+ * Ativado com sghss.auditoria.agrupar-por-requisicao=true.
+ *
+ * @author Patricky Lucas
+ */
+@Component
+@ConditionalOnProperty(name = "sghss.auditoria.agrupar-por-requisicao", havingValue = "true")
+public class FiltroAgrupamentoAuditoria extends OncePerRequestFilter {
+
+    private final DestinoAuditoria destinoAuditoria;
+
+    public FiltroAgrupamentoAuditoria(DestinoAuditoria destinoAuditoria) {
+        this.destinoAuditoria = destinoAuditoria;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            AcumuladorAuditoria acumulador = (AcumuladorAuditoria) request.getAttribute(AcumuladorAuditoria.ATRIBUTO);
+            if (acumulador != null) {
+                request.removeAttribute(AcumuladorAuditoria.ATRIBUTO);
+                if (!acumulador.isVazio()) {
+                    destinoAuditoria.registrar(acumulador.paraAuditoria());
+                }
+            }
+        }
+    }
+
+    /**
+     * Também grava as chamadas feitas durante o despacho de erro.
+     */
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return false;
+    }
+}
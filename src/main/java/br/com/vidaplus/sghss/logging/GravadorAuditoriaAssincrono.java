@@ -0,0 +1,243 @@
+package br.com.vidaplus.sghss.logging;
+
+import br.com.vidaplus.sghss.metricas.FonteMetricas;
+import br.com.vidaplus.sghss.model.Auditoria;
+import br.com.vidaplus.sghss.repository.AuditoriaRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Destino de auditoria assíncrono (padrão). Os eventos são colocados em uma fila circular
+ * limitada e sem travas, e uma thread dedicada os grava em lotes (saveAll em uma única
+ * transação, convertido pelo Hibernate em INSERTs JDBC em lote), fora da thread da requisição.
+ * Um lote é gravado quando atinge o tamanho configurado ou quando o intervalo de gravação
+ * expira. Se a fila estiver cheia, o evento é gravado de forma síncrona (contabilizado nas
+ * métricas como pressão). Um lote que falha é mantido e regravado com espera exponencial,
+ * enquanto a fila acumula os eventos seguintes. No desligamento da aplicação, todos os eventos
+ * pendentes são gravados; só são descartados (e registrados em log) se o banco continuar
+ * falhando nas últimas tentativas.
+ *
+ * @author Patricky Lucas
+ */
+@Component
+@ConditionalOnProperty(name = "sghss.auditoria.gravacao", havingValue = "assincrona", matchIfMissing = true)
+public class GravadorAuditoriaAssincrono implements DestinoAuditoria, FonteMetricas {
+
+    private static final Logger log = LoggerFactory.getLogger(GravadorAuditoriaAssincrono.class);
+
+    /**
+     * Tempo máximo de espera pela thread de gravação no desligamento.
+     */
+    private static final long ESPERA_ENCERRAMENTO_MILLIS = 10_000;
+
+    /**
+     * Espera máxima entre novas tentativas de um lote que falhou.
+     */
+    private static final long ESPERA_MAXIMA_NOVA_TENTATIVA_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * Tentativas de um lote que falhou, no desligamento, antes de descartar os eventos restantes.
+     */
+    private static final int TENTATIVAS_ENCERRAMENTO = 3;
+
+    /**
+     * Retorno de {@link #gravarProximoLote()} quando a gravação falha.
+     */
+    private static final int FALHOU = -1;
+
+    private final AuditoriaRepository auditoriaRepository;
+    private final FilaCircularMpsc<Auditoria> fila;
+    private final int tamanhoLote;
+    private final long intervaloNanos;
+
+    private volatile boolean executando;
+    private Thread gravador;
+
+    /**
+     * Lote que falhou e aguarda nova tentativa; acessado apenas pela thread que grava.
+     */
+    private List<Auditoria> pendente;
+
+    private final LongAdder enfileirados = new LongAdder();
+    private final LongAdder gravados = new LongAdder();
+    private final LongAdder lotes = new LongAdder();
+    private final LongAdder gravacoesSincronas = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final LongAdder descartados = new LongAdder();
+
+    /**
+     * Construtor do gravador assíncrono.
+     *
+     * @param auditoriaRepository repositório usado nas gravações em lote e quando a fila está cheia
+     * @param capacidade          capacidade da fila (arredondada para potência de 2)
+     * @param tamanhoLote         número máximo de eventos por lote
+     * @param intervaloMillis     intervalo máximo entre gravações, em milissegundos
+     */
+    public GravadorAuditoriaAssincrono(AuditoriaRepository auditoriaRepository,
+                                       @Value("${sghss.auditoria.fila.capacidade:8192}") int capacidade,
+                                       @Value("${sghss.auditoria.lote.tamanho:256}") int tamanhoLote,
+                                       @Value("${sghss.auditoria.lote.intervalo-ms:200}") long intervaloMillis) {
+        this.auditoriaRepository = auditoriaRepository;
+        this.fila = new FilaCircularMpsc<>(capacidade);
+        this.tamanhoLote = Math.max(1, tamanhoLote);
+        this.intervaloNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, intervaloMillis));
+    }
+
+    /**
+     * Inicia a thread de gravação.
+     */
+    @PostConstruct
+    public void iniciar() {
+        executando = true;
+        gravador = new Thread(this::executar, "auditoria-gravador");
+        gravador.setDaemon(true);
+        gravador.start();
+    }
+
+    @Override
+    public void registrar(Auditoria auditoria) {
+        if (executando && fila.oferecer(auditoria)) {
+            enfileirados.increment();
+            if (fila.tamanho() >= tamanhoLote) {
+                LockSupport.unpark(gravador);
+            }
+            return;
+        }
+        // Fila cheia (ou gravador encerrado): grava na própria thread para não perder o evento
+        gravacoesSincronas.increment();
+        auditoriaRepository.save(auditoria);
+    }
+
+    /**
+     * Interrompe a thread de gravação e grava todos os eventos pendentes.
+     */
+    @PreDestroy
+    public void encerrar() {
+        executando = false;
+        if (gravador != null) {
+            LockSupport.unpark(gravador);
+            try {
+                gravador.join(ESPERA_ENCERRAMENTO_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (gravador == null || !gravador.isAlive()) {
+            // Eventos enfileirados durante o encerramento do gravador
+            esvaziar();
+        }
+    }
+
+    @Override
+    public String nomeMetricas() {
+        return "auditoria";
+    }
+
+    @Override
+    public Map<String, Object> metricas() {
+        Map<String, Object> metricas = new LinkedHashMap<>();
+        metricas.put("capacidadeFila", fila.capacidade());
+        metricas.put("tamanhoFila", fila.tamanho());
+        metricas.put("enfileirados", enfileirados.sum());
+        metricas.put("gravados", gravados.sum());
+        metricas.put("lotes", lotes.sum());
+        metricas.put("gravacoesSincronas", gravacoesSincronas.sum());
+        metricas.put("falhas", falhas.sum());
+        metricas.put("descartados", descartados.sum());
+        return metricas;
+    }
+
+    private void executar() {
+        long espera = intervaloNanos;
+        while (executando) {
+            int quantidade = gravarProximoLote();
+            if (quantidade == FALHOU) {
+                aguardar(espera);
+                espera = Math.min(espera * 2, ESPERA_MAXIMA_NOVA_TENTATIVA_NANOS);
+            } else {
+                espera = intervaloNanos;
+                if (quantidade < tamanhoLote) {
+                    LockSupport.parkNanos(this, intervaloNanos);
+                }
+            }
+        }
+        esvaziar();
+    }
+
+    /**
+     * Espera antes de uma nova tentativa, sem encurtar a espera quando a fila acorda o gravador.
+     */
+    private void aguardar(long nanos) {
+        long limite = System.nanoTime() + nanos;
+        long restante;
+        while (executando && (restante = limite - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, restante);
+        }
+    }
+
+    /**
+     * Grava o lote pendente e a fila até esvaziá-los. Se o banco continuar falhando, descarta
+     * os eventos restantes depois de algumas tentativas, para não travar o desligamento.
+     */
+    private void esvaziar() {
+        int falhasSeguidas = 0;
+        int quantidade;
+        while ((quantidade = gravarProximoLote()) != 0) {
+            if (quantidade != FALHOU) {
+                falhasSeguidas = 0;
+            } else if (++falhasSeguidas < TENTATIVAS_ENCERRAMENTO) {
+                LockSupport.parkNanos(this, intervaloNanos);
+            } else {
+                List<Auditoria> restantes = new ArrayList<>(pendente);
+                fila.drenar(restantes::add, Integer.MAX_VALUE);
+                pendente = null;
+                descartados.add(restantes.size());
+                log.error("Auditoria encerrada com {} eventos não gravados após {} tentativas",
+                        restantes.size(), TENTATIVAS_ENCERRAMENTO);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Grava o lote pendente, se houver, ou o próximo lote da fila.
+     *
+     * @return quantidade de eventos gravados, 0 se não houver eventos ou {@link #FALHOU}
+     */
+    private int gravarProximoLote() {
+        List<Auditoria> lote = pendente;
+        if (lote == null) {
+            lote = new ArrayList<>(Math.min(tamanhoLote, fila.tamanho()));
+            if (fila.drenar(lote::add, tamanhoLote) == 0) {
+                return 0;
+            }
+        }
+        try {
+            auditoriaRepository.saveAll(lote);
+        } catch (RuntimeException e) {
+            falhas.increment();
+            // IDs já alocados da sequência são descartados: a nova tentativa aloca outros
+            lote.forEach(auditoria -> auditoria.setId(null));
+            pendente = lote;
+            log.error("Falha ao gravar lote de {} eventos de auditoria; nova tentativa agendada", lote.size(), e);
+            return FALHOU;
+        }
+        pendente = null;
+        gravados.add(lote.size());
+        lotes.increment();
+        return lote.size();
+    }
+}
@@ -0,0 +1,173 @@
+package br.com.vidaplus.sghss.logging;
+
+import br.com.vidaplus.sghss.metricas.FonteMetricas;
+import br.com.vidaplus.sghss.model.Auditoria;
+import br.com.vidaplus.sghss.repository.AuditoriaRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Destino de auditoria para períodos de pico: os eventos são acrescentados a um log local de
+ * segmentos mapeados em memória ({@link LogSegmentosAuditoria}), sem depender da latência do MySQL.
+ * Uma thread de remessa sela o segmento ativo periodicamente e grava os segmentos selados na
+ * tabela auditoria, em lotes. Eventos não enviados permanecem em disco e são remetidos na próxima
+ * inicialização, a partir do checkpoint. Ativado com sghss.auditoria.gravacao=segmentos.
+ *
+ * @author Patricky Lucas
+ */
+@Component
+@ConditionalOnProperty(name = "sghss.auditoria.gravacao", havingValue = "segmentos")
+public class GravadorAuditoriaSegmentos implements DestinoAuditoria, FonteMetricas {
+
+    private static final Logger log = LoggerFactory.getLogger(GravadorAuditoriaSegmentos.class);
+
+    /**
+     * Tempo máximo de espera pela thread de remessa no desligamento.
+     */
+    private static final long ESPERA_ENCERRAMENTO_MILLIS = 10_000;
+
+    private final AuditoriaRepository auditoriaRepository;
+    private final Path diretorio;
+    private final int tamanhoSegmento;
+    private final int tamanhoLote;
+    private final long rotacaoNanos;
+
+    private LogSegmentosAuditoria segmentos;
+    private volatile boolean executando;
+    private Thread remessa;
+
+    private final LongAdder anexados = new LongAdder();
+    private final LongAdder remetidos = new LongAdder();
+    private final LongAdder gravacoesSincronas = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+
+    /**
+     * Construtor do gravador por segmentos.
+     *
+     * @param auditoriaRepository repositório usado na remessa e quando o log local não aceita o evento
+     * @param diretorio           diretório dos segmentos e do checkpoint
+     * @param tamanhoSegmento     tamanho de cada segmento, em bytes
+     * @param tamanhoLote         número máximo de eventos por lote remetido
+     * @param rotacaoMillis       idade máxima do segmento ativo antes de ser selado, em milissegundos
+     */
+    public GravadorAuditoriaSegmentos(AuditoriaRepository auditoriaRepository,
+                                      @Value("${sghss.auditoria.segmentos.diretorio:auditoria-segmentos}") String diretorio,
+                                      @Value("${sghss.auditoria.segmentos.tamanho-bytes:16777216}") int tamanhoSegmento,
+                                      @Value("${sghss.auditoria.lote.tamanho:256}") int tamanhoLote,
+                                      @Value("${sghss.auditoria.segmentos.rotacao-ms:1000}") long rotacaoMillis) {
+        this.auditoriaRepository = auditoriaRepository;
+        this.diretorio = Path.of(diretorio);
+        this.tamanhoSegmento = tamanhoSegmento;
+        this.tamanhoLote = Math.max(1, tamanhoLote);
+        this.rotacaoNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, rotacaoMillis));
+    }
+
+    /**
+     * Abre o log local e inicia a thread de remessa.
+     */
+    @PostConstruct
+    public void iniciar() {
+        try {
+            segmentos = new LogSegmentosAuditoria(diretorio, tamanhoSegmento);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível abrir o log de auditoria em " + diretorio, e);
+        }
+        executando = true;
+        remessa = new Thread(this::executar, "auditoria-remessa");
+        remessa.setDaemon(true);
+        remessa.start();
+    }
+
+    @Override
+    public void registrar(Auditoria auditoria) {
+        try {
+            if (segmentos.anexar(auditoria)) {
+                anexados.increment();
+                return;
+            }
+        } catch (IOException e) {
+            log.error("Falha ao acrescentar evento ao log de auditoria local", e);
+        }
+        // Log fechado, evento maior que um segmento ou erro de disco: grava na própria thread
+        gravacoesSincronas.increment();
+        auditoriaRepository.save(auditoria);
+    }
+
+    /**
+     * Interrompe a remessa, sela o segmento ativo e tenta remeter os segmentos pendentes.
+     * O que não puder ser gravado agora fica em disco para a próxima inicialização.
+     */
+    @PreDestroy
+    public void encerrar() {
+        executando = false;
+        if (remessa != null) {
+            LockSupport.unpark(remessa);
+            try {
+                remessa.join(ESPERA_ENCERRAMENTO_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            segmentos.fechar();
+            if (remessa == null || !remessa.isAlive()) {
+                remeter();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Eventos de auditoria pendentes serão remetidos na próxima inicialização", e);
+        }
+    }
+
+    @Override
+    public String nomeMetricas() {
+        return "auditoriaSegmentos";
+    }
+
+    @Override
+    public Map<String, Object> metricas() {
+        Map<String, Object> metricas = new LinkedHashMap<>();
+        metricas.put("anexados", anexados.sum());
+        metricas.put("remetidos", remetidos.sum());
+        metricas.put("gravacoesSincronas", gravacoesSincronas.sum());
+        metricas.put("falhas", falhas.sum());
+        metricas.put("registrosCorrompidos", segmentos.registrosCorrompidos());
+        try {
+            metricas.put("segmentosPendentes", segmentos.segmentosPendentes());
+        } catch (IOException e) {
+            metricas.put("segmentosPendentes", -1);
+        }
+        return metricas;
+    }
+
+    private void executar() {
+        while (executando) {
+            try {
+                segmentos.selarSeExpirado(rotacaoNanos);
+                remeter();
+            } catch (IOException | RuntimeException e) {
+                // O checkpoint não avança: o lote será remetido novamente na próxima tentativa
+                falhas.increment();
+                log.error("Falha ao remeter segmentos de auditoria", e);
+            }
+            LockSupport.parkNanos(this, rotacaoNanos);
+        }
+    }
+
+    private void remeter() throws IOException {
+        remetidos.add(segmentos.entregar(auditoriaRepository::saveAll, tamanhoLote));
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.vidaplus.sghss.logging;
+
+import br.com.vidaplus.sghss.model.Auditoria;
+import br.com.vidaplus.sghss.repository.AuditoriaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Destino de auditoria que grava cada evento imediatamente, na thread da requisição.
+ * Ativado com sghss.auditoria.gravacao=sincrona.
+ *
+ * @author Patricky Lucas
+ */
+@Component
+@ConditionalOnProperty(name = "sghss.auditoria.gravacao", havingValue = "sincrona")
+public class GravadorAuditoriaSincrono implements DestinoAuditoria {
+
+    private final AuditoriaRepository auditoriaRepository;
+
+    public GravadorAuditoriaSincrono(AuditoriaRepository auditoriaRepository) {
+        this.auditoriaRepository = auditoriaRepository;
+    }
+
+    @Override
+    public void registrar(Auditoria auditoria) {
+        auditoriaRepository.save(auditoria);
+    }
+}
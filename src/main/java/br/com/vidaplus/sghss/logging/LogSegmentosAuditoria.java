@@ -0,0 +1,336 @@
+package br.com.vidaplus.sghss.logging;
+
+import br.com.vidaplus.sghss.model.Auditoria;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Log local de auditoria, somente de acréscimo, dividido em segmentos de tamanho fixo
+ * mapeados em memória. Cada registro é gravado como [tamanho][crc32][conteúdo], com as datas
+ * em epoch e os textos em UTF-8 prefixados pelo tamanho; tamanho zero marca o fim dos dados
+ * do segmento.
+ * <p>
+ * Os produtores escrevem sempre no segmento ativo; ao encher (ou por idade) ele é selado
+ * (force) e um novo segmento é aberto. Os segmentos selados são lidos em ordem por um único
+ * consumidor, que avança um checkpoint (segmento e deslocamento já entregues) gravado de forma
+ * atômica no diretório. Ao reabrir o log, todos os segmentos existentes são considerados selados
+ * e a entrega continua do checkpoint: a garantia é de entrega ao menos uma vez.
+ *
+ * @author Patricky Lucas
+ */
+final class LogSegmentosAuditoria {
+
+    private static final Logger log = LoggerFactory.getLogger(LogSegmentosAuditoria.class);
+
+    private static final String EXTENSAO = ".seg";
+    private static final String CHECKPOINT = "checkpoint";
+    private static final int CABECALHO_REGISTRO = 2 * Integer.BYTES;
+
+    private final Path diretorio;
+    private final int tamanhoSegmento;
+
+    private MappedByteBuffer ativo;
+    private volatile long numeroAtivo;
+    private long abertoEmNanos;
+    private boolean fechado;
+
+    private long segmentoCheckpoint;
+    private int deslocamentoCheckpoint;
+    private final AtomicLong registrosCorrompidos = new AtomicLong();
+
+    /**
+     * Abre (ou cria) o log no diretório informado e inicia um novo segmento ativo.
+     *
+     * @param diretorio       diretório dos segmentos e do checkpoint
+     * @param tamanhoSegmento tamanho de cada segmento, em bytes
+     * @throws IOException se o diretório ou o segmento não puderem ser criados
+     */
+    LogSegmentosAuditoria(Path diretorio, int tamanhoSegmento) throws IOException {
+        this.diretorio = Files.createDirectories(diretorio);
+        this.tamanhoSegmento = tamanhoSegmento;
+        lerCheckpoint();
+        long ultimo = segmentos().stream().mapToLong(Long::longValue).max().orElse(segmentoCheckpoint - 1);
+        abrirSegmento(Math.max(ultimo + 1, segmentoCheckpoint));
+    }
+
+    /**
+     * Acrescenta um registro ao segmento ativo, selando-o se não houver espaço.
+     *
+     * @param auditoria evento a ser gravado
+     * @return false se o log estiver fechado ou o registro for maior que um segmento
+     * @throws IOException se não for possível abrir um novo segmento
+     */
+    boolean anexar(Auditoria auditoria) throws IOException {
+        byte[] conteudo = codificar(auditoria);
+        int necessario = CABECALHO_REGISTRO + conteudo.length;
+        if (necessario + Integer.BYTES > tamanhoSegmento) {
+            return false;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(conteudo);
+        synchronized (this) {
+            if (fechado) {
+                return false;
+            }
+            // Mantém sempre espaço para o marcador de fim (tamanho zero)
+            if (ativo.remaining() < necessario + Integer.BYTES) {
+                selar();
+            }
+            ativo.putInt(conteudo.length).putInt((int) crc.getValue()).put(conteudo);
+        }
+        return true;
+    }
+
+    /**
+     * Sela o segmento ativo se ele contiver registros e estiver aberto há pelo menos o tempo informado,
+     * tornando seus registros disponíveis para entrega.
+     *
+     * @param idadeMinimaNanos idade mínima do segmento ativo, em nanossegundos
+     * @throws IOException se não for possível abrir um novo segmento
+     */
+    synchronized void selarSeExpirado(long idadeMinimaNanos) throws IOException {
+        if (!fechado && ativo.position() > 0 && System.nanoTime() - abertoEmNanos >= idadeMinimaNanos) {
+            selar();
+        }
+    }
+
+    /**
+     * Entrega os registros dos segmentos selados, em lotes, a partir do checkpoint. O checkpoint
+     * avança somente após cada lote ser aceito; segmentos totalmente entregues são removidos.
+     * Deve ser chamado por um único consumidor por vez.
+     *
+     * @param destino    receptor de cada lote; uma exceção interrompe a entrega sem avançar o checkpoint
+     * @param tamanhoLote número máximo de registros por lote
+     * @return quantidade de registros entregues
+     * @throws IOException se um segmento ou o checkpoint não puderem ser lidos ou gravados
+     */
+    int entregar(Consumer<List<Auditoria>> destino, int tamanhoLote) throws IOException {
+        int entregues = 0;
+        for (long numero : segmentos()) {
+            if (numero >= numeroAtivo) {
+                break;
+            }
+            if (numero < segmentoCheckpoint) {
+                Files.deleteIfExists(caminho(numero));
+                continue;
+            }
+            ByteBuffer segmento = mapearLeitura(numero);
+            segmento.position(numero == segmentoCheckpoint ? deslocamentoCheckpoint : 0);
+            List<Auditoria> lote = new ArrayList<>(tamanhoLote);
+            while (true) {
+                Auditoria auditoria = decodificarProximo(segmento, numero);
+                if (auditoria != null) {
+                    lote.add(auditoria);
+                }
+                if (auditoria == null || lote.size() == tamanhoLote) {
+                    if (!lote.isEmpty()) {
+                        destino.accept(lote);
+                        entregues += lote.size();
+                        gravarCheckpoint(numero, segmento.position());
+                        lote = new ArrayList<>(tamanhoLote);
+                    }
+                    if (auditoria == null) {
+                        break;
+                    }
+                }
+            }
+            gravarCheckpoint(numero + 1, 0);
+            Files.deleteIfExists(caminho(numero));
+        }
+        return entregues;
+    }
+
+    /**
+     * Sela o segmento ativo e impede novos acréscimos. Segmentos já selados continuam disponíveis
+     * para {@link #entregar(Consumer, int)}.
+     *
+     * @throws IOException se o segmento ativo vazio não puder ser removido
+     */
+    synchronized void fechar() throws IOException {
+        if (fechado) {
+            return;
+        }
+        fechado = true;
+        if (ativo.position() > 0) {
+            ativo.force();
+            numeroAtivo++;
+        } else {
+            Files.deleteIfExists(caminho(numeroAtivo));
+        }
+    }
+
+    /**
+     * Número de segmentos selados aguardando entrega.
+     */
+    long segmentosPendentes() throws IOException {
+        return segmentos().stream().filter(numero -> numero < numeroAtivo).count();
+    }
+
+    long registrosCorrompidos() {
+        return registrosCorrompidos.get();
+    }
+
+    private void selar() throws IOException {
+        ativo.force();
+        abrirSegmento(numeroAtivo + 1);
+    }
+
+    private void abrirSegmento(long numero) throws IOException {
+        try (FileChannel canal = FileChannel.open(caminho(numero),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ativo = canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanhoSegmento);
+        }
+        numeroAtivo = numero;
+        abertoEmNanos = System.nanoTime();
+    }
+
+    private ByteBuffer mapearLeitura(long numero) throws IOException {
+        try (FileChannel canal = FileChannel.open(caminho(numero), StandardOpenOption.READ)) {
+            return canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        }
+    }
+
+    /**
+     * Lê o próximo registro do segmento, ou retorna null ao encontrar o fim dos dados.
+     * Um registro truncado ou com CRC inválido (queda durante a escrita) encerra a leitura do segmento.
+     */
+    private Auditoria decodificarProximo(ByteBuffer segmento, long numero) {
+        if (segmento.remaining() < CABECALHO_REGISTRO) {
+            return null;
+        }
+        int inicio = segmento.position();
+        int tamanho = segmento.getInt();
+        if (tamanho == 0) {
+            segmento.position(inicio);
+            return null;
+        }
+        int crcGravado = segmento.getInt();
+        if (tamanho < 0 || tamanho > segmento.remaining()) {
+            descartarResto(segmento, numero, inicio);
+            return null;
+        }
+        byte[] conteudo = new byte[tamanho];
+        segmento.get(conteudo);
+        CRC32 crc = new CRC32();
+        crc.update(conteudo);
+        if ((int) crc.getValue() != crcGravado) {
+            descartarResto(segmento, numero, inicio);
+            return null;
+        }
+        return decodificar(ByteBuffer.wrap(conteudo));
+    }
+
+    private void descartarResto(ByteBuffer segmento, long numero, int inicio) {
+        registrosCorrompidos.incrementAndGet();
+        log.warn("Registro de auditoria corrompido no segmento {} (posição {}); restante do segmento descartado",
+                numero, inicio);
+        segmento.position(segmento.limit());
+    }
+
+    private static byte[] codificar(Auditoria auditoria) {
+        byte[] usuario = bytes(auditoria.getUsuario());
+        byte[] acao = bytes(auditoria.getAcao());
+        byte[] detalhes = bytes(auditoria.getDetalhes());
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + Integer.BYTES
+                + tamanhoCodificado(usuario) + tamanhoCodificado(acao) + tamanhoCodificado(detalhes));
+        LocalDateTime dataHora = auditoria.getDataHora();
+        if (dataHora == null) {
+            buffer.putLong(Long.MIN_VALUE).putInt(0);
+        } else {
+            buffer.putLong(dataHora.toEpochSecond(ZoneOffset.UTC)).putInt(dataHora.getNano());
+        }
+        colocar(buffer, usuario);
+        colocar(buffer, acao);
+        colocar(buffer, detalhes);
+        return buffer.array();
+    }
+
+    private static Auditoria decodificar(ByteBuffer buffer) {
+        Auditoria auditoria = new Auditoria();
+        long segundos = buffer.getLong();
+        int nanos = buffer.getInt();
+        if (segundos != Long.MIN_VALUE) {
+            auditoria.setDataHora(LocalDateTime.ofEpochSecond(segundos, nanos, ZoneOffset.UTC));
+        }
+        auditoria.setUsuario(texto(buffer));
+        auditoria.setAcao(texto(buffer));
+        auditoria.setDetalhes(texto(buffer));
+        return auditoria;
+    }
+
+    private static byte[] bytes(String texto) {
+        return texto == null ? null : texto.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int tamanhoCodificado(byte[] bytes) {
+        return Integer.BYTES + (bytes == null ? 0 : bytes.length);
+    }
+
+    private static void colocar(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    private static String texto(ByteBuffer buffer) {
+        int tamanho = buffer.getInt();
+        if (tamanho < 0) {
+            return null;
+        }
+        String texto = new String(buffer.array(), buffer.position(), tamanho, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + tamanho);
+        return texto;
+    }
+
+    private List<Long> segmentos() throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos.map(arquivo -> arquivo.getFileName().toString())
+                    .filter(nome -> nome.endsWith(EXTENSAO))
+                    .map(nome -> Long.parseLong(nome.substring(0, nome.length() - EXTENSAO.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path caminho(long numero) {
+        return diretorio.resolve(String.format("%020d%s", numero, EXTENSAO));
+    }
+
+    private void lerCheckpoint() throws IOException {
+        Path arquivo = diretorio.resolve(CHECKPOINT);
+        if (Files.exists(arquivo)) {
+            String[] partes = Files.readString(arquivo).trim().split(":");
+            segmentoCheckpoint = Long.parseLong(partes[0]);
+            deslocamentoCheckpoint = Integer.parseInt(partes[1]);
+        }
+    }
+
+    private void gravarCheckpoint(long numero, int deslocamento) throws IOException {
+        Path temporario = diretorio.resolve(CHECKPOINT + ".tmp");
+        Files.writeString(temporario, numero + ":" + deslocamento);
+        Files.move(temporario, diretorio.resolve(CHECKPOINT),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        segmentoCheckpoint = numero;
+        deslocamentoCheckpoint = deslocamento;
+    }
+}
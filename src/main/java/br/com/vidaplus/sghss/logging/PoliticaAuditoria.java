@@ -0,0 +1,24 @@
+package br.com.vidaplus.sghss.logging;
+
+/**
+ * Política de auditoria de um método de serviço.
+ *
+ * @author Patricky Lucas
+ */
+public enum PoliticaAuditoria {
+
+    /**
+     * Toda chamada é auditada.
+     */
+    SEMPRE,
+
+    /**
+     * Apenas uma amostra aleatória das chamadas (um percentual) é auditada.
+     */
+    AMOSTRA,
+
+    /**
+     * As chamadas não são auditadas.
+     */
+    NUNCA
+}
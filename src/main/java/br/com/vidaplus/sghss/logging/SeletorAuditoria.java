@@ -0,0 +1,144 @@
+package br.com.vidaplus.sghss.logging;
+
+import br.com.vidaplus.sghss.metricas.FonteMetricas;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decide, por chamada, se um método de serviço deve ser auditado, conforme a sua política
+ * ({@link PoliticaAuditoria}). A política de cada método é resolvida uma única vez, na ordem:
+ * <ol>
+ *     <li>propriedade sghss.auditoria.politica.Classe.metodo (sempre, nunca, amostra ou amostra:N);</li>
+ *     <li>anotação {@link Auditavel} no método ou na classe;</li>
+ *     <li>leituras (listar*, buscar*): sghss.auditoria.leitura.politica, com sghss.auditoria.leitura.amostra-percentual;</li>
+ *     <li>demais métodos: sempre.</li>
+ * </ol>
+ * Assim o volume de auditoria acompanha as escritas, e não o tráfego de leitura.
+ * As chamadas suprimidas são contadas nas métricas.
+ *
+ * @author Patricky Lucas
+ */
+@Component
+public class SeletorAuditoria implements FonteMetricas {
+
+    private static final String PREFIXO_PROPRIEDADE = "sghss.auditoria.politica.";
+
+    private final Environment environment;
+    private final PoliticaAuditoria politicaLeitura;
+    private final int percentualLeitura;
+    private final Map<Method, Regra> regras = new ConcurrentHashMap<>();
+
+    private final LongAdder auditadas = new LongAdder();
+    private final LongAdder amostradas = new LongAdder();
+    private final LongAdder suprimidas = new LongAdder();
+
+    /**
+     * Construtor do seletor de auditoria.
+     *
+     * @param environment       ambiente, para as políticas configuradas por método
+     * @param politicaLeitura   política padrão das leituras
+     * @param percentualLeitura percentual auditado das leituras na política AMOSTRA
+     */
+    public SeletorAuditoria(Environment environment,
+                            @Value("${sghss.auditoria.leitura.politica:amostra}") String politicaLeitura,
+                            @Value("${sghss.auditoria.leitura.amostra-percentual:10}") int percentualLeitura) {
+        this.environment = environment;
+        this.politicaLeitura = PoliticaAuditoria.valueOf(politicaLeitura.trim().toUpperCase(Locale.ROOT));
+        this.percentualLeitura = limitarPercentual(percentualLeitura);
+    }
+
+    /**
+     * Indica se a chamada atual do método deve ser auditada.
+     *
+     * @param metodo método de serviço chamado
+     * @return true se a chamada deve ser auditada
+     */
+    public boolean deveAuditar(Method metodo) {
+        Regra regra = regras.computeIfAbsent(metodo, this::resolver);
+        boolean auditar = switch (regra.politica) {
+            case SEMPRE -> true;
+            case NUNCA -> false;
+            case AMOSTRA -> ThreadLocalRandom.current().nextInt(100) < regra.percentual;
+        };
+        if (!auditar) {
+            suprimidas.increment();
+        } else if (regra.politica == PoliticaAuditoria.AMOSTRA) {
+            amostradas.increment();
+        } else {
+            auditadas.increment();
+        }
+        return auditar;
+    }
+
+    @Override
+    public String nomeMetricas() {
+        return "seletorAuditoria";
+    }
+
+    @Override
+    public Map<String, Object> metricas() {
+        Map<String, Object> metricas = new LinkedHashMap<>();
+        metricas.put("auditadas", auditadas.sum());
+        metricas.put("amostradas", amostradas.sum());
+        metricas.put("suprimidas", suprimidas.sum());
+        metricas.put("metodosResolvidos", regras.size());
+        return metricas;
+    }
+
+    private Regra resolver(Method metodo) {
+        String configurada = environment.getProperty(
+                PREFIXO_PROPRIEDADE + metodo.getDeclaringClass().getSimpleName() + "." + metodo.getName());
+        if (configurada != null) {
+            return regraConfigurada(configurada.trim().toLowerCase(Locale.ROOT));
+        }
+
+        Auditavel anotacao = AnnotatedElementUtils.findMergedAnnotation(metodo, Auditavel.class);
+        if (anotacao == null) {
+            anotacao = AnnotatedElementUtils.findMergedAnnotation(metodo.getDeclaringClass(), Auditavel.class);
+        }
+        if (anotacao != null) {
+            return new Regra(anotacao.value(), anotacao.percentual() < 0 ? percentualLeitura : limitarPercentual(anotacao.percentual()));
+        }
+
+        String nome = metodo.getName();
+        if (nome.startsWith("listar") || nome.startsWith("buscar")) {
+            return new Regra(politicaLeitura, percentualLeitura);
+        }
+        return new Regra(PoliticaAuditoria.SEMPRE, 100);
+    }
+
+    private Regra regraConfigurada(String valor) {
+        if (valor.startsWith("amostra:")) {
+            return new Regra(PoliticaAuditoria.AMOSTRA, limitarPercentual(Integer.parseInt(valor.substring("amostra:".length()))));
+        }
+        return new Regra(PoliticaAuditoria.valueOf(valor.toUpperCase(Locale.ROOT)), percentualLeitura);
+    }
+
+    private static int limitarPercentual(int percentual) {
+        return Math.max(0, Math.min(100, percentual));
+    }
+
+    /**
+     * Política resolvida de um método.
+     */
+    private static final class Regra {
+
+        private final PoliticaAuditoria politica;
+        private final int percentual;
+
+        Regra(PoliticaAuditoria politica, int percentual) {
+            this.politica = politica;
+            this.percentual = percentual;
+        }
+    }
+}
@@ -71,6 +71,8 @@ public class AuditoriaMapper {
 
     /**
      * Limpa e formata os detalhes da auditoria, removendo informações sensíveis e normalizando o formato.
+     * Detalhes no formato JSON compacto (gerados pelo CodificadorDetalhes) já chegam mascarados
+     * e são retornados sem alteração; as demais regras valem para registros antigos ("Args: [...]").
      *
      * @param detalhes os detalhes da auditoria a serem limpos
      * @param metodo o nome do método para aplicar regras específicas de limpeza
@@ -78,6 +80,7 @@ public class AuditoriaMapper {
      */
     private static String limparDetalhes(String detalhes, String metodo) {
         if (detalhes == null || detalhes.trim().isEmpty()) return "[]";
+        if (detalhes.startsWith("{")) return detalhes;
 
         // Remove prefixo 'Args: ' e normaliza espaços
         String argumentos = detalhes
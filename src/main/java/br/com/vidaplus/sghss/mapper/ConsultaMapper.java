@@ -5,6 +5,7 @@ import br.com.vidaplus.sghss.dto.response.ConsultaResponseDTO;
 import br.com.vidaplus.sghss.model.Consulta;
 import br.com.vidaplus.sghss.model.Paciente;
 import br.com.vidaplus.sghss.model.ProfissionalSaude;
+import br.com.vidaplus.sghss.model.StatusConsulta;
 import org.springframework.stereotype.Component;
 
 /**
@@ -44,7 +45,7 @@ public class ConsultaMapper {
      */
     public Consulta toEntity(ConsultaRequestDTO dto, Paciente paciente, ProfissionalSaude profissional) {
         Consulta consulta = new Consulta();
-        consulta.setStatus(dto.getStatus());
+        consulta.setStatus(StatusConsulta.de(dto.getStatus()));
         consulta.setData(dto.getData());
         consulta.setPaciente(paciente);
         consulta.setProfissional(profissional);
@@ -59,7 +60,7 @@ public class ConsultaMapper {
      */
     public  Consulta toEntity(ConsultaRequestDTO dto) {
         Consulta consulta = new Consulta();
-        consulta.setStatus(dto.getStatus());
+        consulta.setStatus(StatusConsulta.de(dto.getStatus()));
         consulta.setData(dto.getData());
         return consulta;
     }
@@ -0,0 +1,31 @@
+package br.com.vidaplus.sghss.mapper;
+
+import br.com.vidaplus.sghss.dto.response.JornadaTrabalhoResponseDTO;
+import br.com.vidaplus.sghss.model.JornadaTrabalho;
+
+/**
+ * Mapper para converter entre JornadaTrabalho e JornadaTrabalhoResponseDTO.
+ *
+ * @author Patricky Lucas
+ */
+public class JornadaTrabalhoMapper {
+
+    /**
+     * Converte uma entidade JornadaTrabalho para um DTO de resposta.
+     *
+     * @param jornada a entidade JornadaTrabalho a ser convertida
+     * @return um DTO de resposta contendo os dados da jornada
+     */
+    public static JornadaTrabalhoResponseDTO toResponseDTO(JornadaTrabalho jornada) {
+        return new JornadaTrabalhoResponseDTO(
+                jornada.getId(),
+                jornada.getProfissional().getId(),
+                jornada.getDiaSemana(),
+                jornada.getInicio(),
+                jornada.getFim(),
+                jornada.getIntervaloInicio(),
+                jornada.getIntervaloFim(),
+                jornada.getDuracaoSlotMinutos()
+        );
+    }
+}
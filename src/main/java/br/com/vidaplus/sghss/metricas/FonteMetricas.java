@@ -0,0 +1,26 @@
+package br.com.vidaplus.sghss.metricas;
+
+import java.util.Map;
+
+/**
+ * Contrato para componentes que expõem métricas internas (caches, filas, limitadores).
+ * Todas as implementações registradas como beans são agregadas pelo endpoint de métricas.
+ *
+ * @author Patricky Lucas
+ */
+public interface FonteMetricas {
+
+    /**
+     * Nome da seção de métricas, usado como chave na resposta do endpoint.
+     *
+     * @return nome da fonte de métricas
+     */
+    String nomeMetricas();
+
+    /**
+     * Fotografia instantânea das métricas da fonte.
+     *
+     * @return mapa com o nome e o valor de cada métrica
+     */
+    Map<String, Object> metricas();
+}
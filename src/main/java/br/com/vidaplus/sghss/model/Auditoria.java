@@ -13,17 +13,36 @@ import java.time.LocalDateTime;
  * @author Patricky Lucas
  */
 @Entity
-@Table(name = "auditoria")
+@Table(name = "auditoria", indexes = {
+        // Índices compostos da paginação por cursor (keyset), ordenada por (dataHora, id) decrescente
+        @Index(name = "idx_auditoria_data_hora_id", columnList = "data_hora, id"),
+        @Index(name = "idx_auditoria_usuario_data_hora_id", columnList = "usuario, data_hora, id"),
+        @Index(name = "idx_auditoria_acao_data_hora_id", columnList = "acao, data_hora, id")
+})
 @Getter
 @Setter
 public class Auditoria {
+    /**
+     * Identificador gerado por sequência com alocação em blocos (pooled), o que permite
+     * ao Hibernate agrupar os INSERTs em lotes JDBC (IDENTITY desativa o batching).
+     * Em bancos sem sequências (MySQL) o Hibernate emula a sequência com a tabela auditoria_seq.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "auditoria_seq")
+    @SequenceGenerator(name = "auditoria_seq", sequenceName = "auditoria_seq", allocationSize = 50)
     private Long id;
 
     private String usuario;
     private String acao;
+    /**
+     * Argumentos da chamada (ou das chamadas agrupadas da requisição) em JSON compacto.
+     */
+    @Column(length = 2048)
     private String detalhes;
+    /**
+     * Chave das partições mensais da tabela (ver ParticionamentoAuditoria), por isso obrigatória.
+     */
+    @Column(nullable = false)
     private LocalDateTime dataHora;
 
 
@@ -2,11 +2,13 @@ package br.com.vidaplus.sghss.model;
 
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Classe que representa uma consulta médica no sistema.
@@ -19,11 +21,35 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Data
 @Entity
-@Table(name = "consultas")
+@Table(name = "consultas", indexes = {
+        // Índices compostos da busca paginada: agenda do profissional, histórico do paciente e intervalo de datas
+        @Index(name = "idx_consultas_profissional_data", columnList = "profissional_id, data"),
+        @Index(name = "idx_consultas_paciente_data", columnList = "paciente_id, data"),
+        @Index(name = "idx_consultas_data", columnList = "data"),
+        // Filtros e painéis por status, no intervalo de datas
+        @Index(name = "idx_consultas_status_data", columnList = "status, data")
+}, uniqueConstraints = {
+        // Última barreira contra duas consultas ativas do profissional no mesmo intervalo de 15 minutos
+        @UniqueConstraint(name = Consulta.RESTRICAO_SLOT, columnNames = {"profissional_id", "slot"})
+})
 public class Consulta {
 
+    /**
+     * Nome da chave única (profissional, intervalo).
+     */
+    public static final String RESTRICAO_SLOT = "uk_consultas_profissional_slot";
+
+    /**
+     * Duração, em minutos, do intervalo da chave única.
+     */
+    public static final int MINUTOS_POR_SLOT = 15;
+
+    /**
+     * Identificador gerado por sequência com alocação em blocos (pooled), permitindo INSERTs em lote.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "consultas_seq")
+    @SequenceGenerator(name = "consultas_seq", sequenceName = "consultas_seq", allocationSize = 50)
     private Long id;
 
     @JsonProperty("paciente")
@@ -41,16 +67,39 @@ public class Consulta {
     @Column(nullable = false)
     private LocalDateTime data;
 
+    /**
+     * Status da consulta, gravado como código numérico pelo {@link StatusConsultaConverter}.
+     */
     @JsonProperty("status")
-    @Column(nullable = false, length = 20)
-    private String status; // Agendada, Concluída, Cancelada
+    @Column(nullable = false, columnDefinition = "tinyint")
+    private StatusConsulta status;
+
+    /**
+     * Início do intervalo de 15 minutos reservado pela consulta, ou null se cancelada (o MySQL aceita
+     * vários NULL na chave única, liberando o horário). Derivado de data e status antes de gravar.
+     */
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @Column(name = "slot")
+    private LocalDateTime slot;
 
 
-    public Consulta(String status, Long id, Paciente paciente, ProfissionalSaude profissional, LocalDateTime data) {
+    public Consulta(StatusConsulta status, Long id, Paciente paciente, ProfissionalSaude profissional, LocalDateTime data) {
         this.status = status;
         this.id = id;
         this.paciente = paciente;
         this.profissional = profissional;
         this.data = data;
     }
-}
\ No newline at end of file
+
+    @PrePersist
+    @PreUpdate
+    void reservarSlot() {
+        if (data == null || status == null || !status.ocupaHorario()) {
+            slot = null;
+        } else {
+            LocalDateTime minuto = data.truncatedTo(ChronoUnit.MINUTES);
+            slot = minuto.withMinute(minuto.getMinute() / MINUTOS_POR_SLOT * MINUTOS_POR_SLOT);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.vidaplus.sghss.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * Classe que representa a jornada de trabalho de um profissional de saúde em um dia da semana:
+ * horário de início e fim, intervalo opcional e duração de cada atendimento.
+ * Os horários são múltiplos de 15 minutos, a unidade da agenda de disponibilidade.
+ *
+ * @author Patricky Lucas
+ */
+@Entity
+@Table(name = "jornadas_trabalho", uniqueConstraints =
+        @UniqueConstraint(name = "uk_jornada_profissional_dia", columnNames = {"profissional_id", "dia_semana"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class JornadaTrabalho {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "profissional_id", nullable = false)
+    private ProfissionalSaude profissional;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dia_semana", nullable = false, length = 10)
+    private DayOfWeek diaSemana;
+
+    @Column(nullable = false)
+    private LocalTime inicio;
+
+    @Column(nullable = false)
+    private LocalTime fim;
+
+    private LocalTime intervaloInicio;
+
+    private LocalTime intervaloFim;
+
+    /**
+     * Duração de cada atendimento, em minutos (múltiplo de 15).
+     */
+    @Column(nullable = false)
+    private int duracaoSlotMinutos;
+}
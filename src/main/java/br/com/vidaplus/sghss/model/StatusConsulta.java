@@ -0,0 +1,132 @@
+package br.com.vidaplus.sghss.model;
+
+import br.com.vidaplus.sghss.exception.ParametroInvalidoException;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Status de uma consulta e as transições permitidas entre eles:
+ * Agendada → Confirmada → Concluída, e Cancelada ou Falta a partir de um status ainda em aberto.
+ * Cada status é gravado como um código numérico pequeno ({@link StatusConsultaConverter}) e as
+ * transições ficam em uma máscara de bits por status, verificada em O(1).
+ *
+ * @author Patricky Lucas
+ */
+public enum StatusConsulta {
+
+    AGENDADA(1, "Agendada"),
+    CONFIRMADA(2, "Confirmada"),
+    CONCLUIDA(3, "Concluída"),
+    CANCELADA(4, "Cancelada"),
+    FALTA(5, "Falta");
+
+    private static final StatusConsulta[] POR_CODIGO = new StatusConsulta[6];
+    private static final Map<String, StatusConsulta> POR_TEXTO = new HashMap<>();
+
+    static {
+        AGENDADA.permitir(AGENDADA, CONFIRMADA, CANCELADA);
+        CONFIRMADA.permitir(CONFIRMADA, CONCLUIDA, CANCELADA, FALTA);
+        for (StatusConsulta status : values()) {
+            POR_CODIGO[status.codigo] = status;
+            POR_TEXTO.put(normalizar(status.descricao), status);
+        }
+    }
+
+    private final byte codigo;
+    private final String descricao;
+
+    /**
+     * Bit {@code 1 << ordinal()} ligado para cada status de destino permitido.
+     */
+    private int destinos;
+
+    StatusConsulta(int codigo, String descricao) {
+        this.codigo = (byte) codigo;
+        this.descricao = descricao;
+    }
+
+    /**
+     * @return código gravado no banco
+     */
+    public byte getCodigo() {
+        return codigo;
+    }
+
+    /**
+     * @return descrição exibida na API (ex.: "Concluída")
+     */
+    public String getDescricao() {
+        return descricao;
+    }
+
+    /**
+     * Verifica se a consulta pode passar deste status para o status informado (inclusive permanecer
+     * nele, para alterar data ou participantes de uma consulta em aberto).
+     *
+     * @param destino novo status
+     * @return true se a transição for permitida
+     */
+    public boolean podeMudarPara(StatusConsulta destino) {
+        return (destinos & (1 << destino.ordinal())) != 0;
+    }
+
+    /**
+     * @return true se a consulta não admite mais alterações (Concluída, Cancelada ou Falta)
+     */
+    public boolean isFinal() {
+        return destinos == 0;
+    }
+
+    /**
+     * @return true se a consulta reserva o horário do profissional (todos, exceto Cancelada)
+     */
+    public boolean ocupaHorario() {
+        return this != CANCELADA;
+    }
+
+    /**
+     * Converte o código gravado no banco.
+     *
+     * @param codigo código do status
+     * @return status correspondente
+     * @throws IllegalArgumentException se o código não existir
+     */
+    public static StatusConsulta doCodigo(int codigo) {
+        if (codigo <= 0 || codigo >= POR_CODIGO.length || POR_CODIGO[codigo] == null) {
+            throw new IllegalArgumentException("Código de status de consulta desconhecido: " + codigo);
+        }
+        return POR_CODIGO[codigo];
+    }
+
+    /**
+     * Converte o status informado na API, sem diferenciar maiúsculas nem acentos
+     * ("Concluída", "concluida" e "CONCLUIDA" são o mesmo status).
+     *
+     * @param texto descrição ou nome do status
+     * @return status correspondente
+     * @throws ParametroInvalidoException se o texto não corresponder a nenhum status
+     */
+    public static StatusConsulta de(String texto) {
+        StatusConsulta status = texto == null ? null : POR_TEXTO.get(normalizar(texto));
+        if (status == null) {
+            throw new ParametroInvalidoException("Status de consulta inválido: " + texto
+                    + ". Valores aceitos: Agendada, Confirmada, Concluída, Cancelada, Falta.");
+        }
+        return status;
+    }
+
+    private void permitir(StatusConsulta... permitidos) {
+        for (StatusConsulta permitido : permitidos) {
+            destinos |= 1 << permitido.ordinal();
+        }
+    }
+
+    private static String normalizar(String texto) {
+        return Normalizer.normalize(texto.trim(), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.vidaplus.sghss.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Conversor JPA que grava o {@link StatusConsulta} como o seu código numérico (TINYINT),
+ * em vez do nome ou da descrição.
+ *
+ * @author Patricky Lucas
+ */
+@Converter(autoApply = true)
+public class StatusConsultaConverter implements AttributeConverter<StatusConsulta, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(StatusConsulta status) {
+        return status == null ? null : status.getCodigo();
+    }
+
+    @Override
+    public StatusConsulta convertToEntityAttribute(Byte codigo) {
+        return codigo == null ? null : StatusConsulta.doCodigo(codigo);
+    }
+}
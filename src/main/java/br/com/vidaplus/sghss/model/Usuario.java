@@ -1,14 +1,13 @@
 package br.com.vidaplus.sghss.model;
 
+import br.com.vidaplus.sghss.security.Papeis;
 import jakarta.persistence.*;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Classe que representa um usuário do sistema.
@@ -46,9 +45,7 @@ public class Usuario implements UserDetails {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return roles.stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.getNome()))
-                .collect(Collectors.toList());
+        return Papeis.autoridades(Papeis.deRoles(roles));
     }
 
     public String getPassword() {
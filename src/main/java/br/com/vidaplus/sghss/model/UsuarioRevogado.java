@@ -0,0 +1,33 @@
+package br.com.vidaplus.sghss.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Classe que representa a revogação de acesso de um usuário: todo token emitido até o instante
+ * registrado é rejeitado. Compartilhada entre as instâncias da aplicação e preservada entre
+ * reinícios; cada instância mantém uma cópia em memória.
+ *
+ * @author Patricky Lucas
+ */
+@Entity
+@Table(name = "usuarios_revogados", indexes =
+        @Index(name = "idx_usuarios_revogados_revogado_em", columnList = "revogado_em"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsuarioRevogado {
+
+    @Id
+    private String username;
+
+    /**
+     * Instante da revogação, em epoch millis.
+     */
+    @Column(name = "revogado_em", nullable = false)
+    private long revogadoEm;
+}
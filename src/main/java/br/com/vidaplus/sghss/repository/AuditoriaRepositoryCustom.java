@@ -0,0 +1,38 @@
+package br.com.vidaplus.sghss.repository;
+
+import br.com.vidaplus.sghss.dto.request.FiltroAuditoriaDTO;
+import br.com.vidaplus.sghss.model.Auditoria;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Consultas de auditoria montadas dinamicamente, implementadas em {@link AuditoriaRepositoryCustomImpl}.
+ *
+ * @author Patricky Lucas
+ */
+public interface AuditoriaRepositoryCustom {
+
+    /**
+     * Busca uma página de auditorias, da mais recente para a mais antiga, ordenada por (dataHora, id).
+     * A página começa logo após o cursor (keyset), de modo que o custo depende do tamanho da página
+     * e não da posição na tabela.
+     *
+     * @param filtro filtros opcionais por usuário, ação e janela de tempo
+     * @param cursor posição do último registro já entregue, ou null para a primeira página
+     * @param limite número máximo de registros
+     * @return auditorias da página
+     */
+    List<Auditoria> buscarPagina(FiltroAuditoriaDTO filtro, CursorAuditoria cursor, int limite);
+
+    /**
+     * Percorre, em ordem cronológica, todas as auditorias que atendem ao filtro, entregando-as uma a uma.
+     * A leitura usa um cursor somente para frente em uma sessão sem estado, de modo que a memória
+     * usada não depende da quantidade de registros.
+     *
+     * @param filtro     filtros opcionais por usuário, ação e janela de tempo
+     * @param consumidor receptor de cada auditoria, chamado na thread que invocou o método
+     * @return quantidade de auditorias percorridas
+     */
+    long percorrer(FiltroAuditoriaDTO filtro, Consumer<Auditoria> consumidor);
+}
@@ -0,0 +1,108 @@
+package br.com.vidaplus.sghss.repository;
+
+import br.com.vidaplus.sghss.dto.request.FiltroAuditoriaDTO;
+import br.com.vidaplus.sghss.model.Auditoria;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.SelectionQuery;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Implementação das consultas dinâmicas de auditoria. Apenas os filtros informados entram no
+ * WHERE, para que o MySQL escolha o índice composto correspondente (usuario/acao, data_hora, id)
+ * e percorra somente as linhas necessárias. Os limites de tempo (de, ate e o cursor) comparam
+ * data_hora diretamente, sem funções, para que o MySQL descarte as partições mensais fora do intervalo.
+ *
+ * @author Patricky Lucas
+ */
+public class AuditoriaRepositoryCustomImpl implements AuditoriaRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Fetch size da exportação. Com o MySQL Connector/J, Integer.MIN_VALUE faz o driver
+     * entregar as linhas uma a uma (streaming), em vez de carregar todo o resultado.
+     */
+    @Value("${sghss.auditoria.exportacao.fetch-size:-2147483648}")
+    private int fetchSizeExportacao = Integer.MIN_VALUE;
+
+    @Override
+    public List<Auditoria> buscarPagina(FiltroAuditoriaDTO filtro, CursorAuditoria cursor, int limite) {
+        Map<String, Object> parametros = new HashMap<>();
+        List<String> condicoes = condicoes(filtro, parametros);
+        if (cursor != null) {
+            condicoes.add("(a.dataHora < :cursorDataHora or (a.dataHora = :cursorDataHora and a.id < :cursorId))");
+            parametros.put("cursorDataHora", cursor.getDataHora());
+            parametros.put("cursorId", cursor.getId());
+        }
+
+        TypedQuery<Auditoria> query = entityManager.createQuery(
+                jpql(condicoes, "a.dataHora desc, a.id desc"), Auditoria.class);
+        parametros.forEach(query::setParameter);
+        return query.setMaxResults(limite).getResultList();
+    }
+
+    @Override
+    public long percorrer(FiltroAuditoriaDTO filtro, Consumer<Auditoria> consumidor) {
+        Map<String, Object> parametros = new HashMap<>();
+        String jpql = jpql(condicoes(filtro, parametros), "a.dataHora asc, a.id asc");
+
+        SessionFactory sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+        try (StatelessSession sessao = sessionFactory.openStatelessSession()) {
+            SelectionQuery<Auditoria> query = sessao.createSelectionQuery(jpql, Auditoria.class)
+                    .setFetchSize(fetchSizeExportacao)
+                    .setReadOnly(true);
+            parametros.forEach(query::setParameter);
+
+            long quantidade = 0;
+            try (ScrollableResults<Auditoria> resultados = query.scroll(ScrollMode.FORWARD_ONLY)) {
+                while (resultados.next()) {
+                    consumidor.accept(resultados.get());
+                    quantidade++;
+                }
+            }
+            return quantidade;
+        }
+    }
+
+    private static List<String> condicoes(FiltroAuditoriaDTO filtro, Map<String, Object> parametros) {
+        List<String> condicoes = new ArrayList<>();
+        if (filtro.getUsuario() != null && !filtro.getUsuario().isBlank()) {
+            condicoes.add("a.usuario = :usuario");
+            parametros.put("usuario", filtro.getUsuario());
+        }
+        if (filtro.getAcao() != null && !filtro.getAcao().isBlank()) {
+            condicoes.add("a.acao = :acao");
+            parametros.put("acao", filtro.getAcao());
+        }
+        if (filtro.getDe() != null) {
+            condicoes.add("a.dataHora >= :de");
+            parametros.put("de", filtro.getDe());
+        }
+        if (filtro.getAte() != null) {
+            condicoes.add("a.dataHora < :ate");
+            parametros.put("ate", filtro.getAte());
+        }
+        return condicoes;
+    }
+
+    private static String jpql(List<String> condicoes, String ordenacao) {
+        StringBuilder jpql = new StringBuilder("select a from Auditoria a");
+        if (!condicoes.isEmpty()) {
+            jpql.append(" where ").append(String.join(" and ", condicoes));
+        }
+        return jpql.append(" order by ").append(ordenacao).toString();
+    }
+}
@@ -1,16 +1,101 @@
 package br.com.vidaplus.sghss.repository;
 
+import br.com.vidaplus.sghss.dto.response.ConsultaResponseDTO;
 import br.com.vidaplus.sghss.model.Consulta;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repository interface para a entidade Consulta.
  * Esta interface estende JpaRepository, fornecendo métodos
- * para operações CRUD e consultas personalizadas.
+ * para operações CRUD e consultas personalizadas. A busca paginada com filtros
+ * fica em {@link ConsultaRepositoryCustom}.
+ * <p>
+ * As leituras para resposta usam projeções por construtor em {@link ConsultaResponseDTO}: um único
+ * SELECT com JOIN traz apenas as colunas do DTO, sem carregar as entidades Paciente e
+ * ProfissionalSaude (e, com elas, uma consulta SQL extra por associação EAGER).
  *
  * @author Patricky Lucas
  */
 @Repository
-public interface ConsultaRepository extends JpaRepository<Consulta, Long> {
-}
\ No newline at end of file
+public interface ConsultaRepository extends JpaRepository<Consulta, Long>, ConsultaRepositoryCustom {
+
+    /**
+     * Projeção de {@link Consulta} em {@link ConsultaResponseDTO}, compartilhada pelas consultas de resposta.
+     */
+    String PROJECAO_RESPOSTA = "select new br.com.vidaplus.sghss.dto.response.ConsultaResponseDTO("
+            + "c.id, c.status, c.data, p.id, p.nome, pr.id, pr.nome) "
+            + "from Consulta c join c.paciente p join c.profissional pr";
+
+    /**
+     * Lista todas as consultas já projetadas no DTO de resposta, em ordem cronológica.
+     *
+     * @return lista de ConsultaResponseDTO
+     */
+    @Query(PROJECAO_RESPOSTA + " order by c.data asc, c.id asc")
+    List<ConsultaResponseDTO> listarRespostas();
+
+    /**
+     * Busca uma consulta pelo ID, já projetada no DTO de resposta.
+     *
+     * @param id ID da consulta
+     * @return ConsultaResponseDTO encontrado ou Optional vazio
+     */
+    @Query(PROJECAO_RESPOSTA + " where c.id = :id")
+    Optional<ConsultaResponseDTO> buscarRespostaPorId(Long id);
+
+    /**
+     * Busca o nome de usuário do paciente da consulta, usado na verificação de acesso do próprio paciente.
+     *
+     * @param id ID da consulta
+     * @return username do paciente, ou Optional vazio se a consulta não existir ou o paciente não tiver usuário
+     */
+    @Query("select u.username from Consulta c join c.paciente p join p.usuario u where c.id = :id")
+    Optional<String> buscarUsernameDoPaciente(Long id);
+
+    /**
+     * Lista profissional e horário das consultas não canceladas dos profissionais no intervalo,
+     * usado para montar os mapas de ocupação da agenda (índice (profissional_id, data)).
+     *
+     * @param profissionalIds IDs dos profissionais
+     * @param de              início do intervalo (inclusivo)
+     * @param ate             fim do intervalo (exclusivo)
+     * @return pares [profissionalId, data]
+     */
+    @Query("select c.profissional.id, c.data from Consulta c where c.profissional.id in :profissionalIds "
+            + "and c.data >= :de and c.data < :ate and c.status <> br.com.vidaplus.sghss.model.StatusConsulta.CANCELADA")
+    List<Object[]> listarHorariosOcupados(Collection<Long> profissionalIds, LocalDateTime de, LocalDateTime ate);
+
+    /**
+     * Verifica se o profissional tem consulta não cancelada começando dentro do intervalo aberto,
+     * ignorando a própria consulta em uma alteração (índice (profissional_id, data)).
+     *
+     * @param profissionalId ID do profissional
+     * @param de             início do intervalo (exclusivo)
+     * @param ate            fim do intervalo (exclusivo)
+     * @param ignorarId      ID da consulta a ignorar, ou null
+     * @return true se houver conflito
+     */
+    @Query("select count(c) > 0 from Consulta c where c.profissional.id = :profissionalId "
+            + "and c.data > :de and c.data < :ate and c.status <> br.com.vidaplus.sghss.model.StatusConsulta.CANCELADA "
+            + "and (:ignorarId is null or c.id <> :ignorarId)")
+    boolean existeConflito(Long profissionalId, LocalDateTime de, LocalDateTime ate, Long ignorarId);
+
+    /**
+     * Trava a linha do profissional ({@code SELECT ... FOR UPDATE}) até o fim da transação,
+     * serializando no banco os agendamentos do mesmo profissional gravados por nós diferentes.
+     * Deve ser o primeiro comando da transação: no MySQL (REPEATABLE READ), a leitura seguinte de
+     * conflitos só abre o seu snapshot depois de obtida a trava e enxerga o que o outro nó confirmou.
+     *
+     * @param profissionalId ID do profissional
+     * @return o próprio ID, ou Optional vazio se o profissional não existir
+     */
+    @Query(value = "select id from profissionais where id = :profissionalId for update", nativeQuery = true)
+    Optional<Long> travarAgendaDoProfissional(Long profissionalId);
+}
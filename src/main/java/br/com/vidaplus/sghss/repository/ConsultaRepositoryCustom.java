@@ -0,0 +1,24 @@
+package br.com.vidaplus.sghss.repository;
+
+import br.com.vidaplus.sghss.dto.request.FiltroConsultaDTO;
+import br.com.vidaplus.sghss.dto.response.ConsultaResponseDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Consultas de agendamentos montadas dinamicamente, implementadas em {@link ConsultaRepositoryCustomImpl}.
+ *
+ * @author Patricky Lucas
+ */
+public interface ConsultaRepositoryCustom {
+
+    /**
+     * Busca uma página de consultas em ordem cronológica (data, id), projetadas diretamente no
+     * DTO de resposta por um único SELECT com JOIN em paciente e profissional.
+     *
+     * @param filtro   filtros opcionais por profissional, paciente, status e intervalo de datas
+     * @param paginacao número e tamanho da página
+     * @return página de consultas, com o total de itens que atendem aos filtros
+     */
+    Page<ConsultaResponseDTO> buscar(FiltroConsultaDTO filtro, Pageable paginacao);
+}
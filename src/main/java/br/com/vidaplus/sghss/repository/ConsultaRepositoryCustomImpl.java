@@ -0,0 +1,78 @@
+package br.com.vidaplus.sghss.repository;
+
+import br.com.vidaplus.sghss.dto.request.FiltroConsultaDTO;
+import br.com.vidaplus.sghss.dto.response.ConsultaResponseDTO;
+import br.com.vidaplus.sghss.model.StatusConsulta;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementação da busca dinâmica de consultas. Apenas os filtros informados entram no WHERE,
+ * para que o MySQL use o índice composto correspondente ((profissional_id, data), (paciente_id, data)
+ * ou (data)) e leia somente as linhas do intervalo pedido, como a agenda de um dia.
+ *
+ * @author Patricky Lucas
+ */
+public class ConsultaRepositoryCustomImpl implements ConsultaRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ConsultaResponseDTO> buscar(FiltroConsultaDTO filtro, Pageable paginacao) {
+        Map<String, Object> parametros = new HashMap<>();
+        String where = where(filtro, parametros);
+
+        TypedQuery<ConsultaResponseDTO> query = entityManager.createQuery(
+                ConsultaRepository.PROJECAO_RESPOSTA + where + " order by c.data asc, c.id asc", ConsultaResponseDTO.class);
+        parametros.forEach(query::setParameter);
+        List<ConsultaResponseDTO> consultas = query
+                .setFirstResult((int) paginacao.getOffset())
+                .setMaxResults(paginacao.getPageSize())
+                .getResultList();
+
+        // O COUNT só é executado quando o total não pode ser deduzido da própria página
+        return PageableExecutionUtils.getPage(consultas, paginacao, () -> {
+            // Paciente e profissional são obrigatórios: a contagem dispensa os JOINs
+            TypedQuery<Long> contagem = entityManager.createQuery("select count(c) from Consulta c" + where, Long.class);
+            parametros.forEach(contagem::setParameter);
+            return contagem.getSingleResult();
+        });
+    }
+
+    private static String where(FiltroConsultaDTO filtro, Map<String, Object> parametros) {
+        List<String> condicoes = new ArrayList<>();
+        if (filtro.getProfissionalId() != null) {
+            // Compara a chave estrangeira (profissional_id), coberta pelo índice composto
+            condicoes.add("c.profissional.id = :profissionalId");
+            parametros.put("profissionalId", filtro.getProfissionalId());
+        }
+        if (filtro.getPacienteId() != null) {
+            condicoes.add("c.paciente.id = :pacienteId");
+            parametros.put("pacienteId", filtro.getPacienteId());
+        }
+        if (filtro.getStatus() != null && !filtro.getStatus().isBlank()) {
+            // Código numérico, coberto pelo índice (status, data), sem comparação de texto com acentos
+            condicoes.add("c.status = :status");
+            parametros.put("status", StatusConsulta.de(filtro.getStatus()));
+        }
+        if (filtro.getDe() != null) {
+            condicoes.add("c.data >= :de");
+            parametros.put("de", filtro.getDe());
+        }
+        if (filtro.getAte() != null) {
+            condicoes.add("c.data < :ate");
+            parametros.put("ate", filtro.getAte());
+        }
+        return condicoes.isEmpty() ? "" : " where " + String.join(" and ", condicoes);
+    }
+}
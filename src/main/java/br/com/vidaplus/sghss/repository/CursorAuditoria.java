@@ -0,0 +1,74 @@
+package br.com.vidaplus.sghss.repository;
+
+import br.com.vidaplus.sghss.exception.ParametroInvalidoException;
+import br.com.vidaplus.sghss.model.Auditoria;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posição da paginação por cursor (keyset) de auditorias: a chave (dataHora, id) do último
+ * registro entregue. É exposta aos clientes como um texto opaco em Base64 (URL-safe).
+ *
+ * @author Patricky Lucas
+ */
+public final class CursorAuditoria {
+
+    private static final char SEPARADOR = '|';
+
+    private final LocalDateTime dataHora;
+    private final long id;
+
+    public CursorAuditoria(LocalDateTime dataHora, long id) {
+        this.dataHora = dataHora;
+        this.id = id;
+    }
+
+    /**
+     * Cria o cursor que aponta para depois do registro informado.
+     *
+     * @param auditoria último registro da página
+     * @return cursor da próxima página
+     */
+    public static CursorAuditoria apos(Auditoria auditoria) {
+        return new CursorAuditoria(auditoria.getDataHora(), auditoria.getId());
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente.
+     *
+     * @param texto cursor opaco
+     * @return cursor decodificado
+     * @throws ParametroInvalidoException se o cursor estiver malformado
+     */
+    public static CursorAuditoria decodificar(String texto) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(texto), StandardCharsets.UTF_8);
+            int separador = valor.lastIndexOf(SEPARADOR);
+            return new CursorAuditoria(LocalDateTime.parse(valor.substring(0, separador)),
+                    Long.parseLong(valor.substring(separador + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new ParametroInvalidoException("Cursor de paginação inválido.");
+        }
+    }
+
+    /**
+     * Codifica o cursor como texto opaco.
+     *
+     * @return cursor em Base64 (URL-safe, sem preenchimento)
+     */
+    public String codificar() {
+        String valor = dataHora.toString() + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getDataHora() {
+        return dataHora;
+    }
+
+    public long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.vidaplus.sghss.repository;
+
+import br.com.vidaplus.sghss.model.JornadaTrabalho;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface para a entidade JornadaTrabalho.
+ * Esta interface estende JpaRepository, fornecendo métodos
+ * para operações CRUD e consultas personalizadas.
+ *
+ * @author Patricky Lucas
+ */
+@Repository
+public interface JornadaTrabalhoRepository extends JpaRepository<JornadaTrabalho, Long> {
+
+    /**
+     * Lista as jornadas de um profissional, na ordem dos dias da semana.
+     *
+     * @param profissionalId ID do profissional
+     * @return jornadas do profissional
+     */
+    List<JornadaTrabalho> findByProfissionalIdOrderByDiaSemanaAsc(Long profissionalId);
+
+    /**
+     * Busca a jornada de um profissional em um dia da semana.
+     *
+     * @param profissionalId ID do profissional
+     * @param diaSemana      dia da semana
+     * @return jornada encontrada ou Optional vazio
+     */
+    Optional<JornadaTrabalho> findByProfissionalIdAndDiaSemana(Long profissionalId, DayOfWeek diaSemana);
+
+    /**
+     * Lista todas as jornadas com o profissional carregado na mesma consulta, para montar a agenda em memória.
+     *
+     * @return todas as jornadas cadastradas
+     */
+    @Query("select j from JornadaTrabalho j join fetch j.profissional")
+    List<JornadaTrabalho> listarComProfissional();
+}
@@ -0,0 +1,210 @@
+package br.com.vidaplus.sghss.repository;
+
+import br.com.vidaplus.sghss.metricas.FonteMetricas;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Particionamento mensal da tabela auditoria no MySQL (RANGE COLUMNS sobre data_hora) e expurgo
+ * por retenção. Na inicialização, uma tabela ainda não particionada é convertida: a chave primária
+ * passa a ser (id, data_hora), exigência do MySQL para particionar por data_hora, e as linhas
+ * anteriores ao mês atual ficam na partição pinicial, já com as partições do mês atual e dos
+ * próximos meses. Diariamente, o agendamento cria as partições dos próximos meses (reorganizando
+ * a partição final, sempre vazia) e remove com DROP PARTITION as partições que saíram da janela
+ * de retenção, sem DELETE linha a linha.
+ * <p>
+ * Os INSERTs atingem apenas a partição do mês corrente, cujos índices não crescem com o histórico,
+ * e as consultas com intervalo em data_hora (filtros de/ate e o cursor da paginação) leem só as
+ * partições do intervalo. Ativado com sghss.auditoria.particoes.habilitado=true; em outros bancos
+ * o agendamento não faz nada.
+ *
+ * @author Patricky Lucas
+ */
+@Component
+public class ParticionamentoAuditoria implements FonteMetricas {
+
+    private static final Logger log = LoggerFactory.getLogger(ParticionamentoAuditoria.class);
+
+    private static final String PARTICAO_INICIAL = "pinicial";
+
+    private static final DateTimeFormatter LIMITE = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String SQL_PARTICOES =
+            "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'auditoria' ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean habilitado;
+    private final int mesesAdiante;
+    private final int mesesRetencao;
+
+    private volatile boolean ativo;
+    private volatile int particoes;
+
+    private final AtomicLong criadas = new AtomicLong();
+    private final AtomicLong removidas = new AtomicLong();
+    private final AtomicLong falhas = new AtomicLong();
+
+    /**
+     * Construtor do particionamento da auditoria.
+     *
+     * @param jdbcTemplate  acesso JDBC usado nos comandos DDL
+     * @param habilitado    se verdadeiro, converte e mantém a tabela particionada (somente MySQL)
+     * @param mesesAdiante  quantidade de meses futuros com partição já criada
+     * @param mesesRetencao quantidade de meses completos mantidos antes do mês atual
+     */
+    public ParticionamentoAuditoria(JdbcTemplate jdbcTemplate,
+                                    @Value("${sghss.auditoria.particoes.habilitado:false}") boolean habilitado,
+                                    @Value("${sghss.auditoria.particoes.meses-adiante:3}") int mesesAdiante,
+                                    @Value("${sghss.auditoria.particoes.retencao-meses:12}") int mesesRetencao) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.habilitado = habilitado;
+        this.mesesAdiante = mesesAdiante;
+        this.mesesRetencao = mesesRetencao;
+    }
+
+    /**
+     * Depois que o Hibernate criou ou atualizou o esquema, particiona a tabela (se necessário)
+     * e executa a primeira manutenção.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preparar() {
+        if (!habilitado) {
+            return;
+        }
+        String banco = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        if (banco == null || !banco.toLowerCase().contains("mysql")) {
+            log.info("Particionamento da auditoria ignorado: banco {} não suportado", banco);
+            return;
+        }
+        try {
+            if (lerParticoes().isEmpty()) {
+                converter(YearMonth.now());
+            }
+            ativo = true;
+            manter();
+        } catch (DataAccessException e) {
+            falhas.incrementAndGet();
+            log.error("Falha ao particionar a tabela auditoria; a retenção não será aplicada", e);
+        }
+    }
+
+    /**
+     * Cria as partições dos próximos meses e remove as que saíram da janela de retenção.
+     */
+    @Scheduled(cron = "${sghss.auditoria.particoes.cron:0 15 2 * * *}")
+    public synchronized void manter() {
+        if (!ativo) {
+            return;
+        }
+        try {
+            Map<String, LocalDateTime> existentes = lerParticoes();
+            PlanoParticoes plano = PlanoParticoes.calcular(YearMonth.now(), existentes, mesesAdiante, mesesRetencao);
+
+            if (!plano.getCriar().isEmpty()) {
+                // A conversão já cria os meses adiante e cada execução mantém essa folga, então a
+                // partição final está vazia: a reorganização só altera metadados
+                jdbcTemplate.execute("ALTER TABLE auditoria REORGANIZE PARTITION " + PlanoParticoes.PARTICAO_FUTURA
+                        + " INTO (" + definicoes(plano.getCriar()) + ")");
+                criadas.addAndGet(plano.getCriar().size());
+                log.info("Partições de auditoria criadas: {}", plano.getCriar());
+            }
+            // As partições do mês atual em diante nunca entram no expurgo
+            List<String> remover = plano.getRemover();
+            if (!remover.isEmpty()) {
+                jdbcTemplate.execute("ALTER TABLE auditoria DROP PARTITION " + String.join(", ", remover));
+                removidas.addAndGet(remover.size());
+                log.info("Partições de auditoria fora da retenção de {} meses removidas: {}", mesesRetencao, remover);
+            }
+            particoes = lerParticoes().size();
+        } catch (DataAccessException e) {
+            // Outra instância pode ter feito a mesma manutenção; a próxima execução recalcula o plano
+            falhas.incrementAndGet();
+            log.error("Falha na manutenção das partições de auditoria", e);
+        }
+    }
+
+    @Override
+    public String nomeMetricas() {
+        return "particoesAuditoria";
+    }
+
+    @Override
+    public Map<String, Object> metricas() {
+        Map<String, Object> metricas = new LinkedHashMap<>();
+        metricas.put("ativo", ativo);
+        metricas.put("particoes", particoes);
+        metricas.put("retencaoMeses", mesesRetencao);
+        metricas.put("criadas", criadas.get());
+        metricas.put("removidas", removidas.get());
+        metricas.put("falhas", falhas.get());
+        return metricas;
+    }
+
+    /**
+     * Converte a tabela em particionada. As linhas anteriores ao mês atual ficam em pinicial,
+     * removida quando todo o seu intervalo sai da janela de retenção; as do mês atual já caem na
+     * partição do mês, e a partição final nasce vazia.
+     */
+    private void converter(YearMonth atual) {
+        log.warn("Convertendo a tabela auditoria em particionada por mês; em tabelas grandes a operação é demorada");
+        Map<String, LocalDateTime> inicial = Map.of(PARTICAO_INICIAL, PlanoParticoes.inicio(atual));
+        List<YearMonth> meses = PlanoParticoes.calcular(atual, inicial, mesesAdiante, mesesRetencao).getCriar();
+        jdbcTemplate.execute("ALTER TABLE auditoria MODIFY data_hora DATETIME(6) NOT NULL, "
+                + "DROP PRIMARY KEY, ADD PRIMARY KEY (id, data_hora) "
+                + "PARTITION BY RANGE COLUMNS(data_hora) ("
+                + "PARTITION " + PARTICAO_INICIAL + " VALUES LESS THAN ('" + LIMITE.format(PlanoParticoes.inicio(atual)) + "'), "
+                + definicoes(meses) + ")");
+        criadas.addAndGet(meses.size());
+        log.info("Partições de auditoria criadas na conversão: {}", meses);
+    }
+
+    /**
+     * Lê as partições da tabela, com o limite superior de cada uma (null para MAXVALUE).
+     * Retorna vazio se a tabela não for particionada.
+     */
+    private Map<String, LocalDateTime> lerParticoes() {
+        Map<String, LocalDateTime> existentes = new LinkedHashMap<>();
+        jdbcTemplate.query(SQL_PARTICOES, rs -> {
+            String nome = rs.getString(1);
+            if (nome != null) {
+                existentes.put(nome, limite(rs.getString(2)));
+            }
+        });
+        return existentes;
+    }
+
+    private static LocalDateTime limite(String descricao) {
+        if (descricao == null || "MAXVALUE".equalsIgnoreCase(descricao)) {
+            return null;
+        }
+        return LocalDateTime.parse(descricao.replace("'", "").trim().replace(' ', 'T'));
+    }
+
+    private static String definicoes(List<YearMonth> meses) {
+        StringJoiner definicoes = new StringJoiner(", ");
+        for (YearMonth mes : meses) {
+            definicoes.add("PARTITION " + PlanoParticoes.nome(mes) + " VALUES LESS THAN ('"
+                    + LIMITE.format(PlanoParticoes.inicio(mes.plusMonths(1))) + "')");
+        }
+        definicoes.add("PARTITION " + PlanoParticoes.PARTICAO_FUTURA + " VALUES LESS THAN (MAXVALUE)");
+        return definicoes.toString();
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.vidaplus.sghss.repository;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plano de manutenção das partições mensais da tabela auditoria: quais meses ainda precisam de
+ * partição (até alguns meses à frente do atual) e quais partições já saíram da janela de retenção.
+ * Não acessa o banco; recebe as partições existentes com o limite superior de cada uma
+ * (VALUES LESS THAN), com null representando MAXVALUE.
+ *
+ * @author Patricky Lucas
+ */
+final class PlanoParticoes {
+
+    /**
+     * Partição final (VALUES LESS THAN MAXVALUE), mantida vazia para que a criação dos meses
+     * seguintes seja apenas uma reorganização de metadados.
+     */
+    static final String PARTICAO_FUTURA = "pfuturo";
+
+    private static final DateTimeFormatter NOME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final List<YearMonth> criar;
+    private final List<String> remover;
+
+    private PlanoParticoes(List<YearMonth> criar, List<String> remover) {
+        this.criar = criar;
+        this.remover = remover;
+    }
+
+    /**
+     * Calcula o plano para o mês atual.
+     *
+     * @param atual         mês corrente
+     * @param existentes    partições existentes (nome para limite superior, null = MAXVALUE), em ordem
+     * @param mesesAdiante  quantidade de meses futuros que devem ter partição própria
+     * @param mesesRetencao quantidade de meses completos mantidos antes do mês atual
+     * @return plano com os meses a criar e as partições a remover
+     */
+    static PlanoParticoes calcular(YearMonth atual, Map<String, LocalDateTime> existentes,
+                                   int mesesAdiante, int mesesRetencao) {
+        LocalDateTime corte = inicio(atual.minusMonths(Math.max(0, mesesRetencao)));
+        LocalDateTime ultimoLimite = null;
+        List<String> remover = new ArrayList<>();
+        for (Map.Entry<String, LocalDateTime> particao : existentes.entrySet()) {
+            LocalDateTime limite = particao.getValue();
+            if (limite == null) {
+                continue;
+            }
+            if (!limite.isAfter(corte)) {
+                remover.add(particao.getKey());
+            }
+            if (ultimoLimite == null || limite.isAfter(ultimoLimite)) {
+                ultimoLimite = limite;
+            }
+        }
+
+        // Cada mês é criado a partir do primeiro ainda não coberto pelas partições existentes
+        YearMonth proximo = ultimoLimite == null ? atual : YearMonth.from(ultimoLimite);
+        YearMonth ultimo = atual.plusMonths(Math.max(0, mesesAdiante));
+        List<YearMonth> criar = new ArrayList<>();
+        for (YearMonth mes = proximo; !mes.isAfter(ultimo); mes = mes.plusMonths(1)) {
+            criar.add(mes);
+        }
+        return new PlanoParticoes(Collections.unmodifiableList(criar), Collections.unmodifiableList(remover));
+    }
+
+    /**
+     * Meses que devem ganhar partição, em ordem cronológica.
+     */
+    List<YearMonth> getCriar() {
+        return criar;
+    }
+
+    /**
+     * Partições inteiramente anteriores ao corte de retenção.
+     */
+    List<String> getRemover() {
+        return remover;
+    }
+
+    /**
+     * Nome da partição do mês (por exemplo, p202505).
+     */
+    static String nome(YearMonth mes) {
+        return NOME.format(mes);
+    }
+
+    /**
+     * Início do mês, usado como limite superior (exclusivo) da partição do mês anterior.
+     */
+    static LocalDateTime inicio(YearMonth mes) {
+        return mes.atDay(1).atStartOfDay();
+    }
+}
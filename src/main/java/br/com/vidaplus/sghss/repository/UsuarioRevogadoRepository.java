@@ -0,0 +1,40 @@
+package br.com.vidaplus.sghss.repository;
+
+import br.com.vidaplus.sghss.model.UsuarioRevogado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Repository interface para a entidade UsuarioRevogado.
+ * Esta interface estende JpaRepository, fornecendo métodos
+ * para operações CRUD e consultas personalizadas.
+ *
+ * @author Patricky Lucas
+ */
+@Repository
+public interface UsuarioRevogadoRepository extends JpaRepository<UsuarioRevogado, String> {
+
+    /**
+     * Lista as revogações a partir do instante informado (índice em revogado_em).
+     *
+     * @param desde instante inicial, em epoch millis (inclusivo)
+     * @return revogações registradas desde o instante
+     */
+    List<UsuarioRevogado> findByRevogadoEmGreaterThanEqual(long desde);
+
+    /**
+     * Remove as revogações anteriores ao limite, que já não afetam nenhum token válido.
+     *
+     * @param limite instante limite, em epoch millis (exclusivo)
+     * @return quantidade de revogações removidas
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from UsuarioRevogado u where u.revogadoEm < :limite")
+    int removerVencidas(long limite);
+}
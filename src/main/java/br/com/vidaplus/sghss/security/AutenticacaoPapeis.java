@@ -0,0 +1,29 @@
+package br.com.vidaplus.sghss.security;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+/**
+ * Autenticação criada pelo filtro JWT, que carrega a máscara de papéis do token
+ * além das authorities compartilhadas correspondentes.
+ *
+ * @author Patricky Lucas
+ */
+public class AutenticacaoPapeis extends UsernamePasswordAuthenticationToken {
+
+    private final int papeis;
+
+    /**
+     * Construtor da autenticação.
+     *
+     * @param principal principal autenticado (username ou UserDetails)
+     * @param papeis    máscara de papéis do usuário
+     */
+    public AutenticacaoPapeis(Object principal, int papeis) {
+        super(principal, null, Papeis.autoridades(papeis));
+        this.papeis = papeis;
+    }
+
+    public int getPapeis() {
+        return papeis;
+    }
+}
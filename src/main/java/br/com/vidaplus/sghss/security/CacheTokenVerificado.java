@@ -0,0 +1,160 @@
+package br.com.vidaplus.sghss.security;
+
+import br.com.vidaplus.sghss.metricas.FonteMetricas;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Cache limitado de tokens JWT já verificados.
+ * As entradas são indexadas pelo hash SHA-256 do token (o token em si não é mantido em memória),
+ * de forma que requisições repetidas com o mesmo token não precisem refazer a verificação HMAC
+ * nem a decodificação JSON. Nenhuma entrada é devolvida após a expiração do token.
+ *
+ * @author Patricky Lucas
+ */
+@Component
+public class CacheTokenVerificado implements FonteMetricas {
+
+    /**
+     * Intervalo mínimo entre varreduras de entradas expiradas.
+     */
+    private static final long INTERVALO_LIMPEZA_MILLIS = 30_000;
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    });
+
+    private final ConcurrentHashMap<ByteBuffer, TokenVerificado> entradas = new ConcurrentHashMap<>();
+    private final int capacidadeMaxima;
+    private final AtomicLong proximaLimpeza = new AtomicLong();
+
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final LongAdder remocoes = new LongAdder();
+
+    /**
+     * Construtor do cache de tokens.
+     *
+     * @param capacidadeMaxima número máximo de tokens mantidos em memória
+     */
+    public CacheTokenVerificado(@Value("${sghss.security.token-cache.capacidade:10000}") int capacidadeMaxima) {
+        this.capacidadeMaxima = capacidadeMaxima;
+    }
+
+    /**
+     * Obtém o token verificado do cache ou, em caso de ausência, executa a verificação
+     * e armazena o resultado até a expiração do token.
+     *
+     * @param token       token JWT recebido na requisição
+     * @param verificador função que verifica o token quando ele não está em cache
+     * @return o token verificado, ou vazio se o token for inválido ou estiver expirado
+     */
+    public Optional<TokenVerificado> obter(String token, Function<String, Optional<TokenVerificado>> verificador) {
+        long agora = System.currentTimeMillis();
+        limparExpiradosSeNecessario(agora);
+
+        ByteBuffer chave = digest(token);
+        TokenVerificado emCache = entradas.get(chave);
+        if (emCache != null) {
+            if (!emCache.expirado(agora)) {
+                acertos.increment();
+                return Optional.of(emCache);
+            }
+            if (entradas.remove(chave, emCache)) {
+                remocoes.increment();
+            }
+        }
+
+        falhas.increment();
+        Optional<TokenVerificado> verificado = verificador.apply(token);
+        verificado.ifPresent(tokenVerificado -> armazenar(chave, tokenVerificado, agora));
+        return verificado;
+    }
+
+    /**
+     * Remove todas as entradas do cache.
+     */
+    public void limpar() {
+        entradas.clear();
+    }
+
+    public long getAcertos() {
+        return acertos.sum();
+    }
+
+    public long getFalhas() {
+        return falhas.sum();
+    }
+
+    public int getTamanho() {
+        return entradas.size();
+    }
+
+    @Override
+    public String nomeMetricas() {
+        return "cacheTokens";
+    }
+
+    @Override
+    public Map<String, Object> metricas() {
+        Map<String, Object> metricas = new LinkedHashMap<>();
+        metricas.put("tamanho", entradas.size());
+        metricas.put("capacidade", capacidadeMaxima);
+        metricas.put("acertos", acertos.sum());
+        metricas.put("falhas", falhas.sum());
+        metricas.put("remocoes", remocoes.sum());
+        return metricas;
+    }
+
+    private void armazenar(ByteBuffer chave, TokenVerificado token, long agora) {
+        if (entradas.size() >= capacidadeMaxima) {
+            removerExpirados(agora);
+            // Ainda cheio: descarta entradas arbitrárias até abrir espaço
+            Iterator<ByteBuffer> iterator = entradas.keySet().iterator();
+            while (entradas.size() >= capacidadeMaxima && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                remocoes.increment();
+            }
+        }
+        entradas.put(chave, token);
+    }
+
+    private void limparExpiradosSeNecessario(long agora) {
+        long limite = proximaLimpeza.get();
+        if (agora >= limite && proximaLimpeza.compareAndSet(limite, agora + INTERVALO_LIMPEZA_MILLIS)) {
+            removerExpirados(agora);
+        }
+    }
+
+    private void removerExpirados(long agora) {
+        Iterator<TokenVerificado> iterator = entradas.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().expirado(agora)) {
+                iterator.remove();
+                remocoes.increment();
+            }
+        }
+    }
+
+    private static ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(SHA256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
@@ -0,0 +1,162 @@
+package br.com.vidaplus.sghss.security;
+
+import br.com.vidaplus.sghss.metricas.FonteMetricas;
+import br.com.vidaplus.sghss.service.CustomUserDetailsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementação de UserDetailsService com cache em memória por nome de usuário.
+ * Evita que o login e o filtro JWT consultem o banco (e o join EAGER de roles)
+ * repetidamente para o mesmo usuário. As entradas expiram após um TTL configurável
+ * e são invalidadas sempre que um UsuarioAlteradoEvent é publicado.
+ *
+ * @author Patricky Lucas
+ */
+@Primary
+@Component
+public class CachingUserDetailsService implements UserDetailsService, FonteMetricas {
+
+    private final CustomUserDetailsService delegate;
+    private final ConcurrentHashMap<String, Entrada> entradas = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int capacidadeMaxima;
+
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final LongAdder expiradas = new LongAdder();
+    private final LongAdder removidasPorCapacidade = new LongAdder();
+    private final LongAdder invalidacoes = new LongAdder();
+
+    /**
+     * Construtor do serviço com cache.
+     *
+     * @param delegate         serviço que carrega o usuário do banco de dados
+     * @param ttlSegundos      tempo de vida de cada entrada, em segundos
+     * @param capacidadeMaxima número máximo de usuários mantidos em memória
+     */
+    public CachingUserDetailsService(CustomUserDetailsService delegate,
+                                     @Value("${sghss.security.usuario-cache.ttl-segundos:300}") long ttlSegundos,
+                                     @Value("${sghss.security.usuario-cache.capacidade:10000}") int capacidadeMaxima) {
+        this.delegate = delegate;
+        this.ttlMillis = ttlSegundos * 1000;
+        this.capacidadeMaxima = capacidadeMaxima;
+    }
+
+    /**
+     * Carrega os detalhes do usuário, consultando o banco apenas quando não há entrada válida em cache.
+     * Sempre devolve uma cópia, para que a limpeza de credenciais feita pelo Spring Security
+     * após a autenticação não afete a entrada armazenada.
+     *
+     * @param username Nome de usuário a ser carregado.
+     * @return Detalhes do usuário.
+     * @throws UsernameNotFoundException Se o usuário não for encontrado.
+     */
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        long agora = System.currentTimeMillis();
+        Entrada entrada = entradas.get(username);
+        if (entrada != null) {
+            if (entrada.expiraEm > agora) {
+                acertos.increment();
+                return copiar(entrada.userDetails);
+            }
+            if (entradas.remove(username, entrada)) {
+                expiradas.increment();
+            }
+        }
+
+        falhas.increment();
+        UserDetails carregado = delegate.loadUserByUsername(username);
+        armazenar(username, new Entrada(copiar(carregado), agora + ttlMillis), agora);
+        return carregado;
+    }
+
+    /**
+     * Descarta a entrada do usuário alterado. Executado após o commit da transação
+     * que publicou o evento (ou imediatamente, se não houver transação).
+     *
+     * @param evento evento de alteração de usuário
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarUsuario(UsuarioAlteradoEvent evento) {
+        invalidar(evento.getUsername());
+    }
+
+    /**
+     * Remove o usuário do cache.
+     *
+     * @param username nome do usuário
+     */
+    public void invalidar(String username) {
+        if (entradas.remove(username) != null) {
+            invalidacoes.increment();
+        }
+    }
+
+    @Override
+    public String nomeMetricas() {
+        return "cacheUsuarios";
+    }
+
+    @Override
+    public Map<String, Object> metricas() {
+        long totalAcertos = acertos.sum();
+        long totalFalhas = falhas.sum();
+        long total = totalAcertos + totalFalhas;
+
+        Map<String, Object> metricas = new LinkedHashMap<>();
+        metricas.put("tamanho", entradas.size());
+        metricas.put("capacidade", capacidadeMaxima);
+        metricas.put("acertos", totalAcertos);
+        metricas.put("falhas", totalFalhas);
+        metricas.put("taxaAcerto", total == 0 ? 0.0 : (double) totalAcertos / total);
+        metricas.put("expiradas", expiradas.sum());
+        metricas.put("removidasPorCapacidade", removidasPorCapacidade.sum());
+        metricas.put("invalidacoes", invalidacoes.sum());
+        return metricas;
+    }
+
+    private void armazenar(String username, Entrada entrada, long agora) {
+        if (entradas.size() >= capacidadeMaxima) {
+            entradas.values().removeIf(e -> {
+                boolean vencida = e.expiraEm <= agora;
+                if (vencida) {
+                    expiradas.increment();
+                }
+                return vencida;
+            });
+            Iterator<String> iterator = entradas.keySet().iterator();
+            while (entradas.size() >= capacidadeMaxima && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                removidasPorCapacidade.increment();
+            }
+        }
+        entradas.put(username, entrada);
+    }
+
+    private static UserDetails copiar(UserDetails userDetails) {
+        return new User(userDetails.getUsername(), userDetails.getPassword(), userDetails.isEnabled(),
+                userDetails.isAccountNonExpired(), userDetails.isCredentialsNonExpired(),
+                userDetails.isAccountNonLocked(), userDetails.getAuthorities());
+    }
+
+    /**
+     * Entrada do cache: detalhes do usuário e instante de expiração.
+     */
+    private record Entrada(UserDetails userDetails, long expiraEm) {
+    }
+}
@@ -1,21 +1,14 @@
 package br.com.vidaplus.sghss.security;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Filtro de autenticação JWT que intercepta requisições HTTP
@@ -30,10 +23,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      */
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final CacheTokenVerificado cacheTokens;
+    private final RevogacaoUsuarios revogacaoUsuarios;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    /**
+     * Quando verdadeiro, o principal é montado apenas a partir das claims verificadas,
+     * sem consultar o banco de dados a cada requisição.
+     */
+    private final boolean stateless;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService, CacheTokenVerificado cacheTokens,
+                                   RevogacaoUsuarios revogacaoUsuarios, boolean stateless) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.cacheTokens = cacheTokens;
+        this.revogacaoUsuarios = revogacaoUsuarios;
+        this.stateless = stateless;
+    }
+
+    /**
+     * Não processa tokens nas rotas públicas (autenticação e Swagger): nelas não há
+     * decodificação de token nem consulta ao usuário.
+     *
+     * @param request A requisição HTTP recebida.
+     * @return true se a rota for pública, false caso contrário.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return RotasPublicas.corresponde(request);
     }
 
     /**
@@ -54,36 +71,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String authHeader = request.getHeader("Authorization");
 
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+        if (authHeader != null && authHeader.startsWith("Bearer ") && SecurityContextHolder.getContext().getAuthentication() == null) {
             String token = authHeader.substring(7);
 
-            String username = jwtUtil.extractUsername(token);
-
-            if (username != null && jwtUtil.validateToken(token, username) && SecurityContextHolder.getContext().getAuthentication() == null) {
-
-                // Carregar o usuário para garantir que ele existe e trazer detalhes adicionais
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-                // Extrair claims do token para pegar as roles
-                Claims claims = jwtUtil.obterClaims(token);
-
-                // Extrair lista de roles (strings) do claim "roles"
-                List<String> roles = claims.get("roles", List.class);
-
-                // Mapear para GrantedAuthority adicionando prefixo "ROLE_"
-                List<GrantedAuthority> authorities = roles.stream()
-                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                        .collect(Collectors.toList());
-
-                // Criar token de autenticação com as authorities do token JWT
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
-
-                // Setar autenticação no contexto do Spring Security
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+            // Verifica assinatura e expiração uma única vez (ou reaproveita a verificação em cache);
+            // refresh tokens só são aceitos no endpoint de renovação, nunca como credencial de acesso
+            cacheTokens.obter(token, jwtUtil::verificarToken)
+                    .filter(tokenVerificado -> !tokenVerificado.isRefresh())
+                    .filter(tokenVerificado -> !revogacaoUsuarios.estaRevogado(tokenVerificado))
+                    .ifPresent(this::autenticar);
         }
 
         chain.doFilter(request, response);
     }
+
+    /**
+     * Configura o contexto de segurança a partir de um token já verificado.
+     *
+     * @param tokenVerificado token com assinatura e validade já verificadas
+     */
+    private void autenticar(TokenVerificado tokenVerificado) {
+        // No modo stateless o principal é o próprio username; caso contrário, carrega o usuário
+        // para garantir que ele existe e trazer detalhes adicionais
+        Object principal = stateless
+                ? tokenVerificado.getUsername()
+                : userDetailsService.loadUserByUsername(tokenVerificado.getUsername());
+
+        // Autenticação com a máscara de papéis do token e as authorities compartilhadas correspondentes
+        AutenticacaoPapeis authToken = new AutenticacaoPapeis(principal, tokenVerificado.getPapeis());
+
+        // Setar autenticação no contexto do Spring Security
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
 }
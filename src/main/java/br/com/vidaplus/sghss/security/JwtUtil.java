@@ -1,16 +1,18 @@
 package br.com.vidaplus.sghss.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Classe utilitária para manipulação de tokens JWT.
@@ -27,27 +29,72 @@ public class JwtUtil {
      */
     private static final String SECRET_KEY = "umaChaveSuperSeguraDePeloMenos32Caracteres!";
 
+    /**
+     * Tempo de validade dos tokens de acesso emitidos, em milissegundos.
+     */
+    public static final long VALIDADE_TOKEN_MILLIS = 1000 * 60 * 15; // 15 minutos
+
+    /**
+     * Tempo de validade dos refresh tokens emitidos, em milissegundos.
+     */
+    public static final long VALIDADE_REFRESH_TOKEN_MILLIS = 1000L * 60 * 60 * 24 * 7; // 7 dias
+
+    /**
+     * Claim com a máscara de papéis do usuário (ver Papeis).
+     */
+    private static final String CLAIM_PAPEIS = "papeis";
+
+    /**
+     * Claim que identifica o tipo do token; ausente nos tokens de acesso.
+     */
+    private static final String CLAIM_TIPO = "tipo";
+    private static final String TIPO_REFRESH = "refresh";
+
+    /**
+     * Chave HMAC derivada uma única vez a partir da chave secreta.
+     */
+    private final SecretKey chave = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+
+    /**
+     * Parser reutilizável (imutável e thread-safe) configurado com a chave de verificação.
+     */
+    private final JwtParser parser = Jwts.parser().verifyWith(chave).build();
+
     /**
      * Gera um token JWT para o usuário fornecido.
-     * O token inclui o nome de usuário e as roles do usuário como claims,
+     * O token inclui o nome de usuário e a máscara de papéis do usuário como claims,
      * e é assinado com a chave secreta definida.
      *
      * @param userDetails Detalhes do usuário para quem o token será gerado.
      * @return Um token JWT assinado.
      */
     public String generateToken(UserDetails userDetails) {
-        List<String> roles = userDetails.getAuthorities()
-                .stream()
-                .map(GrantedAuthority::getAuthority)
-                .map(role -> role.replace("ROLE_", "")) // remove prefixo para armazenar limpo
-                .collect(Collectors.toList());
+        return Jwts.builder()
+                .subject(userDetails.getUsername())
+                .claim(CLAIM_PAPEIS, Papeis.deAutoridades(userDetails.getAuthorities()))
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + VALIDADE_TOKEN_MILLIS))
+                .signWith(chave)
+                .compact();
+    }
 
+    /**
+     * Gera um refresh token para o usuário fornecido.
+     * O refresh token não carrega papéis (eles são recarregados a cada renovação)
+     * e possui um identificador único (jti) usado na rotação e na revogação.
+     *
+     * @param username Nome do usuário para quem o token será gerado.
+     * @return Um refresh token assinado.
+     */
+    public String generateRefreshToken(String username) {
+        long agora = System.currentTimeMillis();
         return Jwts.builder()
-                .setSubject(userDetails.getUsername())
-                .claim("roles", roles)  // adiciona roles como claim
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60)) // 1 hora
-                .signWith(Keys.hmacShaKeyFor(SECRET_KEY.getBytes()), SignatureAlgorithm.HS256)
+                .subject(username)
+                .id(UUID.randomUUID().toString())
+                .claim(CLAIM_TIPO, TIPO_REFRESH)
+                .issuedAt(new Date(agora))
+                .expiration(new Date(agora + VALIDADE_REFRESH_TOKEN_MILLIS))
+                .signWith(chave)
                 .compact();
     }
 
@@ -70,30 +117,41 @@ public class JwtUtil {
      * @return true se o token for válido, false caso contrário.
      */
     public boolean validateToken(String token, String username) {
-        return username.equals(extractUsername(token)) && !isTokenExpired(token);
+        Claims claims = obterClaims(token);
+        return username.equals(claims.getSubject()) && !claims.getExpiration().before(new Date());
     }
 
-/**
-     * Obtém as claims do token JWT fornecido.
+    /**
+     * Verifica a assinatura e a validade do token uma única vez, devolvendo
+     * as informações necessárias para autenticar a requisição.
      *
-     * @param token O token JWT do qual as claims serão extraídas.
-     * @return As claims contidas no token.
+     * @param token O token JWT a ser verificado.
+     * @return Um Optional com o token verificado, ou vazio se o token for inválido ou estiver expirado.
      */
-    public Claims obterClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(Keys.hmacShaKeyFor(SECRET_KEY.getBytes()))
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public Optional<TokenVerificado> verificarToken(String token) {
+        try {
+            Claims claims = obterClaims(token);
+            Date expiracao = claims.getExpiration();
+            if (claims.getSubject() == null || expiracao == null || expiracao.before(new Date())) {
+                return Optional.empty();
+            }
+            Integer papeis = claims.get(CLAIM_PAPEIS, Integer.class);
+            long emitidoEm = claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+            boolean refresh = TIPO_REFRESH.equals(claims.get(CLAIM_TIPO, String.class));
+            return Optional.of(new TokenVerificado(claims.getSubject(), papeis != null ? papeis : 0, emitidoEm, expiracao.getTime(),
+                    claims.getId(), refresh));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     /**
-     * Verifica se o token JWT fornecido está expirado.
+     * Obtém as claims do token JWT fornecido.
      *
-     * @param token O token JWT a ser verificado.
-     * @return true se o token estiver expirado, false caso contrário.
+     * @param token O token JWT do qual as claims serão extraídas.
+     * @return As claims contidas no token.
      */
-    private boolean isTokenExpired(String token) {
-        return obterClaims(token).getExpiration().before(new Date());
+    public Claims obterClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,186 @@
+package br.com.vidaplus.sghss.security;
+
+import br.com.vidaplus.sghss.exception.TentativasExcedidasException;
+import br.com.vidaplus.sghss.metricas.FonteMetricas;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limitador em memória de tentativas de login, por nome de usuário e por endereço IP.
+ * Cada chave possui um balde de tokens sem travas (GCRA): o estado é um único AtomicLong
+ * com o instante teórico da próxima chegada, atualizado por compare-and-set.
+ * A verificação acontece antes do BCrypt, de modo que clientes abusivos são rejeitados
+ * sem consumir CPU. Chaves ociosas (balde cheio novamente) são descartadas periodicamente.
+ * Com a tabela cheia de chaves ativas, novas chaves são rejeitadas até a primeira delas ficar
+ * ociosa (falha fechada), em vez de passarem sem limite.
+ *
+ * @author Patricky Lucas
+ */
+@Component
+public class LimitadorLogin implements FonteMetricas {
+
+    /**
+     * Intervalo mínimo entre varreduras de chaves ociosas.
+     */
+    private static final long INTERVALO_LIMPEZA_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final Baldes porUsuario;
+    private final Baldes porIp;
+
+    /**
+     * Construtor do limitador.
+     *
+     * @param rajadaUsuario    tentativas consecutivas permitidas por usuário
+     * @param porMinutoUsuario tentativas repostas por minuto, por usuário
+     * @param rajadaIp         tentativas consecutivas permitidas por IP
+     * @param porMinutoIp      tentativas repostas por minuto, por IP
+     * @param capacidadeMaxima número máximo de chaves mantidas em memória por dimensão
+     */
+    public LimitadorLogin(@Value("${sghss.security.login.usuario.rajada:5}") int rajadaUsuario,
+                          @Value("${sghss.security.login.usuario.por-minuto:5}") int porMinutoUsuario,
+                          @Value("${sghss.security.login.ip.rajada:100}") int rajadaIp,
+                          @Value("${sghss.security.login.ip.por-minuto:600}") int porMinutoIp,
+                          @Value("${sghss.security.login.capacidade:100000}") int capacidadeMaxima) {
+        this.porUsuario = new Baldes(rajadaUsuario, porMinutoUsuario, capacidadeMaxima);
+        this.porIp = new Baldes(rajadaIp, porMinutoIp, capacidadeMaxima);
+    }
+
+    /**
+     * Consome uma tentativa de login para o usuário e o IP informados.
+     *
+     * @param username nome de usuário informado no login
+     * @param ip       endereço IP de origem da requisição
+     * @throws TentativasExcedidasException se o limite do IP ou do usuário tiver sido excedido
+     */
+    public void verificar(String username, String ip) {
+        verificar(username, ip, System.nanoTime());
+    }
+
+    void verificar(String username, String ip, long agoraNanos) {
+        long esperaIp = porIp.consumir(ip == null ? "" : ip, agoraNanos);
+        if (esperaIp > 0) {
+            throw new TentativasExcedidasException("Muitas tentativas de login a partir deste endereço.",
+                    emSegundos(esperaIp));
+        }
+        String chaveUsuario = username == null ? "" : username.toLowerCase(Locale.ROOT);
+        long esperaUsuario = porUsuario.consumir(chaveUsuario, agoraNanos);
+        if (esperaUsuario > 0) {
+            throw new TentativasExcedidasException("Muitas tentativas de login para este usuário.",
+                    emSegundos(esperaUsuario));
+        }
+    }
+
+    @Override
+    public String nomeMetricas() {
+        return "limitadorLogin";
+    }
+
+    @Override
+    public Map<String, Object> metricas() {
+        Map<String, Object> metricas = new LinkedHashMap<>();
+        metricas.put("chavesUsuario", porUsuario.baldes.size());
+        metricas.put("chavesIp", porIp.baldes.size());
+        metricas.put("rejeicoesUsuario", porUsuario.rejeicoes.sum());
+        metricas.put("rejeicoesIp", porIp.rejeicoes.sum());
+        metricas.put("removidasOciosas", porUsuario.ociosas.sum() + porIp.ociosas.sum());
+        metricas.put("rejeicoesTabelaCheia", porUsuario.tabelaCheia.sum() + porIp.tabelaCheia.sum());
+        return metricas;
+    }
+
+    private static long emSegundos(long nanos) {
+        return Math.max(1, (nanos + 999_999_999L) / 1_000_000_000L);
+    }
+
+    /**
+     * Conjunto de baldes de tokens de uma dimensão (usuário ou IP).
+     */
+    private static final class Baldes {
+
+        private final ConcurrentHashMap<String, AtomicLong> baldes = new ConcurrentHashMap<>();
+        private final long intervaloNanos;
+        private final long toleranciaNanos;
+        private final int capacidadeMaxima;
+        private final AtomicLong proximaLimpeza = new AtomicLong(System.nanoTime());
+
+        private final LongAdder rejeicoes = new LongAdder();
+        private final LongAdder ociosas = new LongAdder();
+        private final LongAdder tabelaCheia = new LongAdder();
+
+        private Baldes(int rajada, int porMinuto, int capacidadeMaxima) {
+            this.intervaloNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, porMinuto);
+            this.toleranciaNanos = intervaloNanos * Math.max(1, rajada);
+            this.capacidadeMaxima = capacidadeMaxima;
+        }
+
+        /**
+         * Tenta consumir um token da chave.
+         *
+         * @return 0 se permitido, ou o tempo em nanossegundos até a próxima tentativa permitida
+         */
+        private long consumir(String chave, long agora) {
+            limparOciososSeNecessario(agora);
+
+            AtomicLong chegadaTeorica = baldes.get(chave);
+            if (chegadaTeorica == null) {
+                if (baldes.size() >= capacidadeMaxima) {
+                    long espera = removerOciosos(agora);
+                    if (baldes.size() >= capacidadeMaxima) {
+                        // Tabela cheia de chaves ativas: rejeita até a primeira chave ficar ociosa
+                        tabelaCheia.increment();
+                        rejeicoes.increment();
+                        return Math.max(1, espera);
+                    }
+                }
+                chegadaTeorica = baldes.computeIfAbsent(chave, k -> new AtomicLong(agora));
+            }
+
+            while (true) {
+                long atual = chegadaTeorica.get();
+                long proxima = Math.max(atual, agora) + intervaloNanos;
+                long excesso = proxima - agora - toleranciaNanos;
+                if (excesso > 0) {
+                    rejeicoes.increment();
+                    return excesso;
+                }
+                if (chegadaTeorica.compareAndSet(atual, proxima)) {
+                    return 0;
+                }
+            }
+        }
+
+        private void limparOciososSeNecessario(long agora) {
+            long limite = proximaLimpeza.get();
+            if (agora - limite >= 0 && proximaLimpeza.compareAndSet(limite, agora + INTERVALO_LIMPEZA_NANOS)) {
+                removerOciosos(agora);
+            }
+        }
+
+        /**
+         * Remove os baldes ociosos: o instante teórico já passou, o balde está cheio e removê-lo
+         * não altera o comportamento.
+         *
+         * @return tempo em nanossegundos até o primeiro balde restante ficar ocioso
+         */
+        private long removerOciosos(long agora) {
+            long[] menorEspera = {Long.MAX_VALUE};
+            baldes.values().removeIf(chegada -> {
+                long espera = chegada.get() - agora;
+                if (espera <= 0) {
+                    ociosas.increment();
+                    return true;
+                }
+                menorEspera[0] = Math.min(menorEspera[0], espera);
+                return false;
+            });
+            return menorEspera[0];
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package br.com.vidaplus.sghss.security;
+
+import br.com.vidaplus.sghss.model.Role;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Representação dos papéis fixos do sistema (ADMIN, MEDICO, PACIENTE) como máscara de bits.
+ * A máscara é gravada no token JWT e no principal, e as verificações de papel nos controllers
+ * passam a ser um único teste de bits. As instâncias de GrantedAuthority são compartilhadas,
+ * e a lista de authorities de cada combinação de papéis é calculada uma única vez.
+ *
+ * @author Patricky Lucas
+ */
+public final class Papeis {
+
+    public static final int ADMIN = 1;
+    public static final int MEDICO = 1 << 1;
+    public static final int PACIENTE = 1 << 2;
+
+    private static final String[] NOMES = {"ADMIN", "MEDICO", "PACIENTE"};
+
+    private static final GrantedAuthority[] AUTORIDADES = {
+            new SimpleGrantedAuthority("ROLE_ADMIN"),
+            new SimpleGrantedAuthority("ROLE_MEDICO"),
+            new SimpleGrantedAuthority("ROLE_PACIENTE")
+    };
+
+    /**
+     * Lista imutável de authorities para cada máscara possível.
+     */
+    @SuppressWarnings("unchecked")
+    private static final List<GrantedAuthority>[] AUTORIDADES_POR_MASCARA = new List[1 << NOMES.length];
+
+    static {
+        for (int mascara = 0; mascara < AUTORIDADES_POR_MASCARA.length; mascara++) {
+            List<GrantedAuthority> autoridades = new ArrayList<>();
+            for (int i = 0; i < AUTORIDADES.length; i++) {
+                if ((mascara & (1 << i)) != 0) {
+                    autoridades.add(AUTORIDADES[i]);
+                }
+            }
+            AUTORIDADES_POR_MASCARA[mascara] = List.copyOf(autoridades);
+        }
+    }
+
+    private Papeis() {
+    }
+
+    /**
+     * Converte o nome de um papel (com ou sem o prefixo "ROLE_") no seu bit.
+     *
+     * @param nome nome do papel
+     * @return o bit do papel, ou 0 se o nome não corresponder a um papel conhecido
+     */
+    public static int doNome(String nome) {
+        if (nome == null) {
+            return 0;
+        }
+        return switch (nome) {
+            case "ADMIN", "ROLE_ADMIN" -> ADMIN;
+            case "MEDICO", "ROLE_MEDICO" -> MEDICO;
+            case "PACIENTE", "ROLE_PACIENTE" -> PACIENTE;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Calcula a máscara a partir dos papéis persistidos do usuário.
+     *
+     * @param roles papéis do usuário
+     * @return máscara de papéis
+     */
+    public static int deRoles(Collection<Role> roles) {
+        int mascara = 0;
+        for (Role role : roles) {
+            mascara |= doNome(role.getNome());
+        }
+        return mascara;
+    }
+
+    /**
+     * Calcula a máscara a partir de uma coleção de authorities.
+     *
+     * @param autoridades authorities do usuário
+     * @return máscara de papéis
+     */
+    public static int deAutoridades(Collection<? extends GrantedAuthority> autoridades) {
+        int mascara = 0;
+        for (GrantedAuthority autoridade : autoridades) {
+            mascara |= doNome(autoridade.getAuthority());
+        }
+        return mascara;
+    }
+
+    /**
+     * Obtém a máscara de papéis da autenticação. Para autenticações criadas pelo filtro JWT
+     * a máscara é lida diretamente, sem percorrer as authorities.
+     *
+     * @param authentication autenticação atual (pode ser nula)
+     * @return máscara de papéis, ou 0 se não houver autenticação
+     */
+    public static int de(Authentication authentication) {
+        if (authentication instanceof AutenticacaoPapeis autenticacaoPapeis) {
+            return autenticacaoPapeis.getPapeis();
+        }
+        return authentication == null ? 0 : deAutoridades(authentication.getAuthorities());
+    }
+
+    /**
+     * Verifica se a autenticação possui ao menos um dos papéis informados.
+     *
+     * @param authentication autenticação atual (pode ser nula)
+     * @param papeis         máscara com os papéis aceitos (ex.: ADMIN | MEDICO)
+     * @return true se algum dos papéis estiver presente
+     */
+    public static boolean possuiAlgum(Authentication authentication, int papeis) {
+        return (de(authentication) & papeis) != 0;
+    }
+
+    /**
+     * Obtém a lista compartilhada e imutável de authorities da máscara.
+     *
+     * @param mascara máscara de papéis
+     * @return authorities correspondentes
+     */
+    public static List<GrantedAuthority> autoridades(int mascara) {
+        return AUTORIDADES_POR_MASCARA[mascara & (AUTORIDADES_POR_MASCARA.length - 1)];
+    }
+}
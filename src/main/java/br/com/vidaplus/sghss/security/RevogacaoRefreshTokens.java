@@ -0,0 +1,195 @@
+package br.com.vidaplus.sghss.security;
+
+import br.com.vidaplus.sghss.metricas.FonteMetricas;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lista local de refresh tokens revogados (já utilizados na rotação ou encerrados no logout).
+ * Os identificadores (jti) são agrupados em baldes pela hora de expiração do token: cada balde
+ * tem um filtro de Bloom, que responde sem travas a maioria das consultas negativas, e um conjunto
+ * exato que confirma os positivos. Quando todos os tokens de um balde expiram, o balde inteiro
+ * é descartado, sem varrer identificadores individualmente.
+ *
+ * @author Patricky Lucas
+ */
+@Component
+public class RevogacaoRefreshTokens implements FonteMetricas {
+
+    /**
+     * Largura de cada balde, pela data de expiração dos tokens.
+     */
+    private static final long DURACAO_BALDE_MILLIS = 1000 * 60 * 60; // 1 hora
+
+    /**
+     * Número de posições do filtro de Bloom marcadas por identificador.
+     */
+    private static final int FUNCOES_HASH = 4;
+
+    /**
+     * Intervalo mínimo entre varreduras de baldes vencidos.
+     */
+    private static final long INTERVALO_LIMPEZA_MILLIS = 60_000;
+
+    private final ConcurrentHashMap<Long, Balde> baldes = new ConcurrentHashMap<>();
+    private final int mascaraBits;
+    private final AtomicLong proximaLimpeza = new AtomicLong();
+
+    private final LongAdder consultas = new LongAdder();
+    private final LongAdder negativasPeloFiltro = new LongAdder();
+    private final LongAdder revogacoes = new LongAdder();
+    private final LongAdder baldesDescartados = new LongAdder();
+
+    /**
+     * Construtor da lista de revogação.
+     *
+     * @param bitsPorBalde tamanho do filtro de Bloom de cada balde, em bits (arredondado para potência de 2)
+     */
+    public RevogacaoRefreshTokens(@Value("${sghss.security.refresh.bloom-bits:65536}") int bitsPorBalde) {
+        int bits = Integer.highestOneBit(Math.max(64, bitsPorBalde));
+        this.mascaraBits = bits - 1;
+    }
+
+    /**
+     * Verifica se o refresh token já foi revogado.
+     *
+     * @param id             identificador único do token (jti)
+     * @param expiraEmMillis instante de expiração do token em milissegundos (epoch)
+     * @return true se o token estiver revogado, false caso contrário
+     */
+    public boolean estaRevogado(String id, long expiraEmMillis) {
+        consultas.increment();
+        Balde balde = baldes.get(indiceBalde(expiraEmMillis));
+        if (balde == null || !balde.podeConter(hash(id), mascaraBits)) {
+            negativasPeloFiltro.increment();
+            return false;
+        }
+        return balde.ids.contains(id);
+    }
+
+    /**
+     * Revoga o refresh token de forma atômica.
+     *
+     * @param id             identificador único do token (jti)
+     * @param expiraEmMillis instante de expiração do token em milissegundos (epoch)
+     * @return true se o token foi revogado agora, false se já estava revogado
+     */
+    public boolean revogar(String id, long expiraEmMillis) {
+        long agora = System.currentTimeMillis();
+        descartarVencidosSeNecessario(agora);
+
+        Balde balde = baldes.computeIfAbsent(indiceBalde(expiraEmMillis), k -> new Balde(mascaraBits + 1));
+        // Marca o filtro antes do conjunto exato, para que um leitor nunca veja o id sem os bits
+        balde.marcar(hash(id), mascaraBits);
+        boolean novo = balde.ids.add(id);
+        if (novo) {
+            revogacoes.increment();
+        }
+        return novo;
+    }
+
+    @Override
+    public String nomeMetricas() {
+        return "revogacaoRefreshTokens";
+    }
+
+    @Override
+    public Map<String, Object> metricas() {
+        int revogados = 0;
+        for (Balde balde : baldes.values()) {
+            revogados += balde.ids.size();
+        }
+        Map<String, Object> metricas = new LinkedHashMap<>();
+        metricas.put("baldes", baldes.size());
+        metricas.put("bitsPorBalde", mascaraBits + 1);
+        metricas.put("revogados", revogados);
+        metricas.put("revogacoes", revogacoes.sum());
+        metricas.put("consultas", consultas.sum());
+        metricas.put("negativasPeloFiltro", negativasPeloFiltro.sum());
+        metricas.put("baldesDescartados", baldesDescartados.sum());
+        return metricas;
+    }
+
+    private void descartarVencidosSeNecessario(long agora) {
+        long limite = proximaLimpeza.get();
+        if (agora >= limite && proximaLimpeza.compareAndSet(limite, agora + INTERVALO_LIMPEZA_MILLIS)) {
+            // Todo token de um balde expira antes do início do balde seguinte
+            long indiceAtual = indiceBalde(agora);
+            baldes.keySet().removeIf(indice -> {
+                boolean vencido = indice < indiceAtual;
+                if (vencido) {
+                    baldesDescartados.increment();
+                }
+                return vencido;
+            });
+        }
+    }
+
+    private static long indiceBalde(long expiraEmMillis) {
+        return expiraEmMillis / DURACAO_BALDE_MILLIS;
+    }
+
+    /**
+     * Hash de 64 bits (FNV-1a seguido de mistura final) do identificador.
+     */
+    private static long hash(String id) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < id.length(); i++) {
+            h ^= id.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Balde de revogações: filtro de Bloom e conjunto exato de identificadores.
+     */
+    private static final class Balde {
+
+        private final AtomicLongArray bits;
+        private final Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        private Balde(int totalBits) {
+            this.bits = new AtomicLongArray(totalBits >>> 6);
+        }
+
+        private void marcar(long hash, int mascara) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < FUNCOES_HASH; i++) {
+                int posicao = (h1 + i * h2) & mascara;
+                long bit = 1L << posicao;
+                int indice = posicao >>> 6;
+                long atual;
+                do {
+                    atual = bits.get(indice);
+                } while ((atual & bit) == 0 && !bits.compareAndSet(indice, atual, atual | bit));
+            }
+        }
+
+        private boolean podeConter(long hash, int mascara) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < FUNCOES_HASH; i++) {
+                int posicao = (h1 + i * h2) & mascara;
+                if ((bits.get(posicao >>> 6) & (1L << posicao)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
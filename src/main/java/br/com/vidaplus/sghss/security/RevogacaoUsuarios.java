@@ -0,0 +1,139 @@
+package br.com.vidaplus.sghss.security;
+
+import br.com.vidaplus.sghss.metricas.FonteMetricas;
+import br.com.vidaplus.sghss.model.UsuarioRevogado;
+import br.com.vidaplus.sghss.repository.UsuarioRevogadoRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Conjunto de usuários com acesso revogado.
+ * Guarda, para cada usuário revogado ou desativado, o instante da revogação:
+ * qualquer token emitido até esse instante passa a ser rejeitado pelo filtro JWT.
+ * As revogações são gravadas na tabela usuarios_revogados, compartilhada entre as instâncias e
+ * preservada entre reinícios; a verificação consulta apenas a cópia em memória, que cada instância
+ * carrega ao iniciar e atualiza periodicamente com as revogações novas. Uma revogação feita em
+ * outra instância vale aqui em até um intervalo de sincronização.
+ * Como nenhum token anterior à revogação sobrevive além da validade máxima (a dos refresh tokens),
+ * as entradas são descartadas após esse período.
+ *
+ * @author Patricky Lucas
+ */
+@Component
+public class RevogacaoUsuarios implements FonteMetricas {
+
+    private static final Logger log = LoggerFactory.getLogger(RevogacaoUsuarios.class);
+
+    /**
+     * Folga na leitura incremental, para revogações confirmadas depois de outras mais recentes
+     * ou gravadas por instâncias com relógio um pouco atrasado.
+     */
+    private static final long FOLGA_SINCRONIZACAO_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final UsuarioRevogadoRepository usuarioRevogadoRepository;
+
+    /**
+     * Instante da revogação (epoch millis) por nome de usuário.
+     */
+    private final ConcurrentHashMap<String, Long> revogadosEm = new ConcurrentHashMap<>();
+
+    /**
+     * Início da última leitura bem-sucedida do banco; a próxima lê só a partir dele (menos a folga).
+     */
+    private volatile long ultimaSincronizacao;
+
+    private final LongAdder sincronizacoes = new LongAdder();
+    private final LongAdder falhasSincronizacao = new LongAdder();
+
+    /**
+     * Construtor da revogação de usuários.
+     *
+     * @param usuarioRevogadoRepository repositório das revogações compartilhadas
+     */
+    public RevogacaoUsuarios(UsuarioRevogadoRepository usuarioRevogadoRepository) {
+        this.usuarioRevogadoRepository = usuarioRevogadoRepository;
+    }
+
+    /**
+     * Revoga todos os tokens emitidos até agora para o usuário informado, nesta e nas demais instâncias.
+     *
+     * @param username nome do usuário a ser revogado
+     */
+    public void revogar(String username) {
+        long agora = System.currentTimeMillis();
+        removerVencidas(agora);
+        revogadosEm.merge(username, agora, Math::max);
+        usuarioRevogadoRepository.removerVencidas(agora - JwtUtil.VALIDADE_REFRESH_TOKEN_MILLIS);
+        usuarioRevogadoRepository.save(new UsuarioRevogado(username, agora));
+    }
+
+    /**
+     * Verifica se o token foi emitido antes da última revogação do seu usuário.
+     *
+     * @param token token já verificado
+     * @return true se o token estiver revogado, false caso contrário
+     */
+    public boolean estaRevogado(TokenVerificado token) {
+        Long revogadoEm = revogadosEm.get(token.getUsername());
+        return revogadoEm != null && token.getEmitidoEmMillis() <= revogadoEm;
+    }
+
+    /**
+     * Carrega as revogações ainda em vigor antes de a aplicação atender requisições.
+     */
+    @PostConstruct
+    public void carregar() {
+        sincronizar();
+    }
+
+    /**
+     * Lê do banco as revogações feitas desde a última sincronização, inclusive por outras instâncias.
+     */
+    @Scheduled(fixedDelayString = "${sghss.security.revogacao.sincronizacao-ms:5000}")
+    public void sincronizar() {
+        long agora = System.currentTimeMillis();
+        long desde = Math.max(agora - JwtUtil.VALIDADE_REFRESH_TOKEN_MILLIS,
+                ultimaSincronizacao - FOLGA_SINCRONIZACAO_MILLIS);
+        try {
+            for (UsuarioRevogado revogado : usuarioRevogadoRepository.findByRevogadoEmGreaterThanEqual(desde)) {
+                revogadosEm.merge(revogado.getUsername(), revogado.getRevogadoEm(), Math::max);
+            }
+            ultimaSincronizacao = agora;
+            sincronizacoes.increment();
+        } catch (DataAccessException e) {
+            // Mantém a cópia em memória; a próxima execução relê desde a última leitura bem-sucedida
+            falhasSincronizacao.increment();
+            log.warn("Falha ao sincronizar usuários revogados", e);
+        }
+        removerVencidas(agora);
+    }
+
+    @Override
+    public String nomeMetricas() {
+        return "revogacaoUsuarios";
+    }
+
+    @Override
+    public Map<String, Object> metricas() {
+        Map<String, Object> metricas = new LinkedHashMap<>();
+        metricas.put("usuariosRevogados", revogadosEm.size());
+        metricas.put("sincronizacoes", sincronizacoes.sum());
+        metricas.put("falhasSincronizacao", falhasSincronizacao.sum());
+        return metricas;
+    }
+
+    private void removerVencidas(long agora) {
+        long limite = agora - JwtUtil.VALIDADE_REFRESH_TOKEN_MILLIS;
+        revogadosEm.values().removeIf(revogadoEm -> revogadoEm < limite);
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.vidaplus.sghss.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+/**
+ * Rotas públicas da API (autenticação e documentação Swagger).
+ * Os matchers são compilados uma única vez e compartilhados entre a SecurityConfig (permitAll)
+ * e o JwtAuthenticationFilter, que não processa tokens nessas rotas.
+ *
+ * @author Patricky Lucas
+ */
+public final class RotasPublicas {
+
+    /**
+     * Matcher que reconhece qualquer rota pública.
+     */
+    public static final RequestMatcher MATCHER = new OrRequestMatcher(
+            new AntPathRequestMatcher("/api/auth/**"),
+            new AntPathRequestMatcher("/swagger-ui/**"),
+            new AntPathRequestMatcher("/v3/api-docs/**")
+    );
+
+    private RotasPublicas() {
+    }
+
+    /**
+     * Verifica se a requisição é para uma rota pública.
+     *
+     * @param request requisição HTTP
+     * @return true se a rota for pública, false caso contrário
+     */
+    public static boolean corresponde(HttpServletRequest request) {
+        return MATCHER.matches(request);
+    }
+}
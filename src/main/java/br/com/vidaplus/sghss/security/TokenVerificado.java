@@ -0,0 +1,85 @@
+package br.com.vidaplus.sghss.security;
+
+/**
+ * Representa um token JWT cuja assinatura e validade já foram verificadas.
+ * Reúne as informações usadas pelo filtro de autenticação (usuário, máscara de papéis, emissão e expiração),
+ * evitando que o token seja decodificado novamente a cada consulta. Refresh tokens carregam
+ * também o identificador único (jti) usado na rotação e na revogação.
+ *
+ * @author Patricky Lucas
+ */
+public final class TokenVerificado {
+
+    private final String username;
+    private final int papeis;
+    private final long emitidoEmMillis;
+    private final long expiraEmMillis;
+    private final String id;
+    private final boolean refresh;
+
+    /**
+     * Construtor do token verificado.
+     *
+     * @param username        nome de usuário contido no token (subject)
+     * @param papeis          máscara de papéis do usuário (ver Papeis)
+     * @param emitidoEmMillis instante de emissão do token em milissegundos (epoch)
+     * @param expiraEmMillis  instante de expiração do token em milissegundos (epoch)
+     */
+    public TokenVerificado(String username, int papeis, long emitidoEmMillis, long expiraEmMillis) {
+        this(username, papeis, emitidoEmMillis, expiraEmMillis, null, false);
+    }
+
+    /**
+     * Construtor completo do token verificado.
+     *
+     * @param username        nome de usuário contido no token (subject)
+     * @param papeis          máscara de papéis do usuário (ver Papeis)
+     * @param emitidoEmMillis instante de emissão do token em milissegundos (epoch)
+     * @param expiraEmMillis  instante de expiração do token em milissegundos (epoch)
+     * @param id              identificador único do token (jti), se houver
+     * @param refresh         true se for um refresh token, false se for um token de acesso
+     */
+    public TokenVerificado(String username, int papeis, long emitidoEmMillis, long expiraEmMillis,
+                           String id, boolean refresh) {
+        this.username = username;
+        this.papeis = papeis;
+        this.emitidoEmMillis = emitidoEmMillis;
+        this.expiraEmMillis = expiraEmMillis;
+        this.id = id;
+        this.refresh = refresh;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public int getPapeis() {
+        return papeis;
+    }
+
+    public long getEmitidoEmMillis() {
+        return emitidoEmMillis;
+    }
+
+    public long getExpiraEmMillis() {
+        return expiraEmMillis;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public boolean isRefresh() {
+        return refresh;
+    }
+
+    /**
+     * Verifica se o token já expirou no instante informado.
+     *
+     * @param agoraMillis instante atual em milissegundos (epoch)
+     * @return true se o token estiver expirado, false caso contrário
+     */
+    public boolean expirado(long agoraMillis) {
+        return expiraEmMillis <= agoraMillis;
+    }
+}
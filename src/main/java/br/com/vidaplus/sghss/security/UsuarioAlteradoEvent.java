@@ -0,0 +1,26 @@
+package br.com.vidaplus.sghss.security;
+
+/**
+ * Evento publicado sempre que os dados de autenticação de um usuário mudam
+ * (criação, alteração de papéis, revogação de acesso).
+ * Componentes que mantêm dados do usuário em memória devem descartá-los ao recebê-lo.
+ *
+ * @author Patricky Lucas
+ */
+public class UsuarioAlteradoEvent {
+
+    private final String username;
+
+    /**
+     * Construtor do evento.
+     *
+     * @param username nome do usuário alterado
+     */
+    public UsuarioAlteradoEvent(String username) {
+        this.username = username;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+}
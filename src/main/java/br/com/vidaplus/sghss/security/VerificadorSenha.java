@@ -0,0 +1,131 @@
+package br.com.vidaplus.sghss.security;
+
+import br.com.vidaplus.sghss.exception.ServicoSobrecarregadoException;
+import br.com.vidaplus.sghss.metricas.FonteMetricas;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Verifica senhas (BCrypt) em um pool de threads dedicado e limitado.
+ * O pool tem no máximo uma thread por núcleo de CPU e uma fila de tamanho fixo:
+ * quando a fila está cheia a verificação é rejeitada imediatamente com
+ * ServicoSobrecarregadoException (HTTP 429), de modo que picos de login não
+ * consumam toda a CPU nem as threads que atendem os demais endpoints.
+ *
+ * @author Patricky Lucas
+ */
+@Component
+public class VerificadorSenha implements FonteMetricas {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final LongAdder verificacoes = new LongAdder();
+    private final LongAdder rejeicoes = new LongAdder();
+    private final LongAdder tempoEsgotado = new LongAdder();
+
+    /**
+     * Construtor do verificador de senhas.
+     *
+     * @param passwordEncoder codificador de senhas (BCrypt)
+     * @param threads         número de threads do pool; 0 usa o número de núcleos disponíveis
+     * @param capacidadeFila  número máximo de verificações aguardando execução
+     * @param timeoutMillis   tempo máximo de espera por uma verificação, em milissegundos
+     */
+    public VerificadorSenha(PasswordEncoder passwordEncoder,
+                            @Value("${sghss.security.bcrypt.threads:0}") int threads,
+                            @Value("${sghss.security.bcrypt.fila:64}") int capacidadeFila,
+                            @Value("${sghss.security.bcrypt.timeout-ms:5000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+
+        int tamanhoPool = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(tamanhoPool, tamanhoPool, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + contador.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Verifica se a senha informada corresponde ao hash armazenado.
+     *
+     * @param senha senha em texto puro
+     * @param hash  hash armazenado do usuário
+     * @return true se a senha for válida, false caso contrário
+     * @throws ServicoSobrecarregadoException se o pool estiver saturado ou a verificação exceder o tempo limite
+     */
+    public boolean confere(String senha, String hash) {
+        Future<Boolean> resultado;
+        try {
+            resultado = executor.submit(() -> passwordEncoder.matches(senha, hash));
+        } catch (RejectedExecutionException e) {
+            rejeicoes.increment();
+            throw new ServicoSobrecarregadoException("Muitas autenticações simultâneas. Tente novamente em instantes.");
+        }
+
+        try {
+            boolean confere = resultado.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            verificacoes.increment();
+            return confere;
+        } catch (TimeoutException e) {
+            resultado.cancel(true);
+            tempoEsgotado.increment();
+            throw new ServicoSobrecarregadoException("Tempo de autenticação esgotado. Tente novamente em instantes.");
+        } catch (InterruptedException e) {
+            resultado.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServicoSobrecarregadoException("Autenticação interrompida.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Encerra o pool de verificação ao desligar a aplicação.
+     */
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public String nomeMetricas() {
+        return "verificadorSenha";
+    }
+
+    @Override
+    public Map<String, Object> metricas() {
+        Map<String, Object> metricas = new LinkedHashMap<>();
+        metricas.put("threads", executor.getMaximumPoolSize());
+        metricas.put("ativas", executor.getActiveCount());
+        metricas.put("fila", executor.getQueue().size());
+        metricas.put("capacidadeFila", executor.getQueue().size() + executor.getQueue().remainingCapacity());
+        metricas.put("verificacoes", verificacoes.sum());
+        metricas.put("rejeicoes", rejeicoes.sum());
+        metricas.put("tempoEsgotado", tempoEsgotado.sum());
+        return metricas;
+    }
+}
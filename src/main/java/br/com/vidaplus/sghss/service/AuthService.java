@@ -1,13 +1,19 @@
 package br.com.vidaplus.sghss.service;
 
+import br.com.vidaplus.sghss.dto.request.RefreshTokenRequestDTO;
 import br.com.vidaplus.sghss.dto.response.JwtResponseDTO;
 import br.com.vidaplus.sghss.exception.RecursoNaoEncontradoException;
 import br.com.vidaplus.sghss.model.Usuario;
 import br.com.vidaplus.sghss.repository.UsuarioRepository;
 import br.com.vidaplus.sghss.security.JwtUtil;
+import br.com.vidaplus.sghss.security.RevogacaoRefreshTokens;
+import br.com.vidaplus.sghss.security.RevogacaoUsuarios;
+import br.com.vidaplus.sghss.security.TokenVerificado;
+import br.com.vidaplus.sghss.security.VerificadorSenha;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -15,6 +21,9 @@ import java.util.Optional;
 /**
  * Serviço de autenticação que lida com o registro e autenticação de usuários.
  * Utiliza o repositório de usuários, utilitário JWT e codificador de senhas.
+ * A verificação de senha no login é delegada ao VerificadorSenha, que a executa
+ * em um pool limitado fora da thread da requisição. A renovação da sessão usa refresh tokens
+ * com rotação, sem nova verificação de senha.
  *
  * @author Patricky Lucas
  */
@@ -26,8 +35,11 @@ public class AuthService {
      */
     private final UsuarioRepository usuarioRepository;
     private final JwtUtil jwtUtil;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder;
     private final UserDetailsService userDetailsService;
+    private final VerificadorSenha verificadorSenha;
+    private final RevogacaoUsuarios revogacaoUsuarios;
+    private final RevogacaoRefreshTokens revogacaoRefreshTokens;
 
     /**
      * Construtor do serviço de autenticação.
@@ -35,12 +47,21 @@ public class AuthService {
      * @param usuarioRepository   Repositório de usuários para operações de persistência.
      * @param jwtUtil             Utilitário JWT para geração e validação de tokens.
      * @param userDetailsService  Serviço de detalhes do usuário para autenticação.
+     * @param passwordEncoder     Codificador de senhas usado no registro.
+     * @param verificadorSenha    Verificador de senhas com pool de threads limitado.
+     * @param revogacaoUsuarios   Conjunto de usuários com acesso revogado.
+     * @param revogacaoRefreshTokens Lista de refresh tokens revogados.
      */
-    public AuthService(UsuarioRepository usuarioRepository, JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public AuthService(UsuarioRepository usuarioRepository, JwtUtil jwtUtil, UserDetailsService userDetailsService,
+                       PasswordEncoder passwordEncoder, VerificadorSenha verificadorSenha,
+                       RevogacaoUsuarios revogacaoUsuarios, RevogacaoRefreshTokens revogacaoRefreshTokens) {
         this.usuarioRepository = usuarioRepository;
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
-        this.passwordEncoder = new BCryptPasswordEncoder();
+        this.passwordEncoder = passwordEncoder;
+        this.verificadorSenha = verificadorSenha;
+        this.revogacaoUsuarios = revogacaoUsuarios;
+        this.revogacaoRefreshTokens = revogacaoRefreshTokens;
     }
 
     /**
@@ -62,21 +83,76 @@ public class AuthService {
      * @param username O nome de usuário do usuário a ser autenticado.
      * @param password A senha do usuário a ser autenticado.
      * @return Um Optional contendo o token JWT se a autenticação for bem-sucedida, ou vazio caso contrário.
+     * @throws br.com.vidaplus.sghss.exception.ServicoSobrecarregadoException Se o pool de verificação estiver saturado.
      */
     public Optional<String> autenticarUsuario(String username, String password) {
         UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 
-        if (passwordEncoder.matches(password, userDetails.getPassword())) {
+        if (verificadorSenha.confere(password, userDetails.getPassword())) {
             return Optional.of(jwtUtil.generateToken(userDetails)); // <-- Passa o UserDetails
         }
 
         return Optional.empty();
     }
+    /**
+     * Realiza o login, devolvendo o token de acesso e um refresh token.
+     *
+     * @param username O nome de usuário.
+     * @param password A senha do usuário.
+     * @return O token de acesso e o refresh token.
+     * @throws RecursoNaoEncontradoException Se o usuário ou a senha forem inválidos.
+     */
     public JwtResponseDTO login(String username, String password) {
         Optional<String> tokenOpt = autenticarUsuario(username, password);
         if (tokenOpt.isEmpty()) {
             throw new RecursoNaoEncontradoException("Usuário ou senha inválidos");
         }
-        return new JwtResponseDTO(tokenOpt.get());
+        return new JwtResponseDTO(tokenOpt.get(), jwtUtil.generateRefreshToken(username));
+    }
+
+    /**
+     * Renova a sessão a partir de um refresh token, com rotação: o refresh token usado é revogado
+     * e um novo par de tokens é emitido. A reutilização de um refresh token já revogado indica
+     * possível vazamento, e por isso revoga todos os tokens do usuário.
+     *
+     * @param request Requisição contendo o refresh token.
+     * @return Um novo token de acesso e um novo refresh token.
+     * @throws RecursoNaoEncontradoException Se o refresh token for inválido, expirado ou revogado.
+     */
+    public JwtResponseDTO renovar(RefreshTokenRequestDTO request) {
+        TokenVerificado refresh = verificarRefreshToken(request.getRefreshToken());
+
+        if (revogacaoRefreshTokens.estaRevogado(refresh.getId(), refresh.getExpiraEmMillis())
+                || !revogacaoRefreshTokens.revogar(refresh.getId(), refresh.getExpiraEmMillis())) {
+            revogacaoUsuarios.revogar(refresh.getUsername());
+            throw new RecursoNaoEncontradoException("Refresh token inválido");
+        }
+
+        UserDetails userDetails;
+        try {
+            userDetails = userDetailsService.loadUserByUsername(refresh.getUsername());
+        } catch (UsernameNotFoundException e) {
+            throw new RecursoNaoEncontradoException("Refresh token inválido");
+        }
+        return new JwtResponseDTO(jwtUtil.generateToken(userDetails), jwtUtil.generateRefreshToken(userDetails.getUsername()));
+    }
+
+    /**
+     * Encerra a sessão, revogando o refresh token informado.
+     *
+     * @param request Requisição contendo o refresh token.
+     * @throws RecursoNaoEncontradoException Se o refresh token for inválido ou expirado.
+     */
+    public void encerrarSessao(RefreshTokenRequestDTO request) {
+        TokenVerificado refresh = verificarRefreshToken(request.getRefreshToken());
+        revogacaoRefreshTokens.revogar(refresh.getId(), refresh.getExpiraEmMillis());
+    }
+
+    private TokenVerificado verificarRefreshToken(String refreshToken) {
+        return jwtUtil.verificarToken(refreshToken)
+                .filter(TokenVerificado::isRefresh)
+                .filter(token -> token.getId() != null)
+                .filter(token -> !revogacaoUsuarios.estaRevogado(token))
+                .orElseThrow(() -> new RecursoNaoEncontradoException("Refresh token inválido"));
     }
 }
@@ -1,21 +1,39 @@
 package br.com.vidaplus.sghss.service;
 
+import br.com.vidaplus.sghss.agenda.AgendaDisponibilidade;
+import br.com.vidaplus.sghss.agenda.TravasAgenda;
 import br.com.vidaplus.sghss.dto.request.ConsultaRequestDTO;
+import br.com.vidaplus.sghss.dto.request.FiltroConsultaDTO;
+import br.com.vidaplus.sghss.dto.response.ConsultaResponseDTO;
 import br.com.vidaplus.sghss.dto.request.PacienteRequestDTO;
+import br.com.vidaplus.sghss.exception.ConflitoAgendamentoException;
 import br.com.vidaplus.sghss.exception.OperacaoNaoPermitidaException;
+import br.com.vidaplus.sghss.exception.ParametroInvalidoException;
 import br.com.vidaplus.sghss.exception.RecursoNaoEncontradoException;
 import br.com.vidaplus.sghss.model.Consulta;
 import br.com.vidaplus.sghss.model.Paciente;
 import br.com.vidaplus.sghss.model.ProfissionalSaude;
+import br.com.vidaplus.sghss.model.StatusConsulta;
 import br.com.vidaplus.sghss.repository.ConsultaRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
  * Serviço para gerenciar consultas médicas.
- * Permite listar, buscar, salvar, atualizar e excluir consultas.
+ * Permite listar, buscar (com filtros e paginação), salvar, atualizar e excluir consultas.
+ * Agendamentos do mesmo profissional são verificados e gravados sob a trava da sua faixa
+ * ({@link TravasAgenda}) e, entre nós, em uma transação que trava a linha do profissional no banco;
+ * a chave única (profissional, intervalo) fica como última barreira.
  *
  * @author Patricky Lucas
  */
@@ -28,24 +46,58 @@ public class ConsultaService {
     private final ConsultaRepository consultaRepository;
     private final ProfissionalSaudeService profissionalSaudeService;
 
+    /**
+     * Agenda de disponibilidade, cujos mapas de ocupação são invalidados a cada alteração de consulta.
+     */
+    private final AgendaDisponibilidade agendaDisponibilidade;
+    private final TravasAgenda travasAgenda;
+
+    /**
+     * Transação da verificação de conflito e da gravação, sob a trava da linha do profissional.
+     */
+    private final TransactionTemplate transacao;
+
     /**
      * Construtor do ConsultaService.
      *
      * @param consultaRepository repositório de consultas
      * @param profissionalSaudeService serviço de profissional de saúde
+     * @param agendaDisponibilidade agenda de disponibilidade em memória
+     * @param travasAgenda travas por profissional dos agendamentos
+     * @param transactionManager gerenciador de transações do agendamento
      */
-    public ConsultaService(ConsultaRepository consultaRepository, ProfissionalSaudeService profissionalSaudeService) {
+    public ConsultaService(ConsultaRepository consultaRepository, ProfissionalSaudeService profissionalSaudeService,
+                           AgendaDisponibilidade agendaDisponibilidade, TravasAgenda travasAgenda,
+                           PlatformTransactionManager transactionManager) {
         this.consultaRepository = consultaRepository;
         this.profissionalSaudeService = profissionalSaudeService;
+        this.agendaDisponibilidade = agendaDisponibilidade;
+        this.travasAgenda = travasAgenda;
+        this.transacao = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Lista todas as consultas já no formato de resposta, com um único SELECT.
+     *
+     * @return lista de ConsultaResponseDTO
+     */
+    public List<ConsultaResponseDTO> listarRespostas() {
+        return consultaRepository.listarRespostas();
     }
 
     /**
-     * Lista todas as consultas.
+     * Busca consultas com filtros opcionais, paginadas e em ordem cronológica, já no formato de resposta.
      *
-     * @return lista de consultas
+     * @param filtro    filtros por profissional, paciente, status e intervalo de datas
+     * @param paginacao número e tamanho da página
+     * @return página de ConsultaResponseDTO
+     * @throws ParametroInvalidoException se o intervalo de datas for vazio ou invertido
      */
-    public List<Consulta> listarTodas() {
-        return consultaRepository.findAll();
+    public Page<ConsultaResponseDTO> buscar(FiltroConsultaDTO filtro, Pageable paginacao) {
+        if (filtro.getDe() != null && filtro.getAte() != null && !filtro.getDe().isBefore(filtro.getAte())) {
+            throw new ParametroInvalidoException("A data inicial deve ser anterior à data final.");
+        }
+        return consultaRepository.buscar(filtro, paginacao);
     }
 
     /**
@@ -58,14 +110,37 @@ public class ConsultaService {
         return consultaRepository.findById(id);
     }
 
+    /**
+     * Busca uma consulta pelo ID, já no formato de resposta, com um único SELECT.
+     *
+     * @param id ID da consulta
+     * @return ConsultaResponseDTO encontrado ou Optional vazio se não existir
+     */
+    public Optional<ConsultaResponseDTO> buscarRespostaPorId(Long id) {
+        return consultaRepository.buscarRespostaPorId(id);
+    }
+
+    /**
+     * Busca o nome de usuário do paciente da consulta.
+     *
+     * @param id ID da consulta
+     * @return username do paciente, ou Optional vazio se não houver
+     */
+    public Optional<String> buscarUsernameDoPaciente(Long id) {
+        return consultaRepository.buscarUsernameDoPaciente(id);
+    }
+
     /**
      * Salva uma nova consulta.
      *
      * @param consulta consulta a ser salva
      * @return consulta salva
+     * @throws ConflitoAgendamentoException se o profissional já tiver consulta no horário
      */
     public Consulta salvarConsulta(Consulta consulta) {
-        return consultaRepository.save(consulta);
+        Consulta salva = gravarSemConflito(consulta);
+        invalidarAgenda(salva);
+        return salva;
     }
 
     /**
@@ -74,7 +149,9 @@ public class ConsultaService {
      * @param id ID da consulta a ser excluída
      */
     public void excluirConsulta(Long id) {
+        Optional<Consulta> consulta = consultaRepository.findById(id);
         consultaRepository.deleteById(id);
+        consulta.ifPresent(this::invalidarAgenda);
     }
 
     /**
@@ -84,16 +161,22 @@ public class ConsultaService {
      * @param dto dados da consulta a serem atualizados
      * @param pacienteService serviço de paciente para buscar o paciente pelo ID
      * @return consulta atualizada
+     * @throws ConflitoAgendamentoException se o profissional já tiver outra consulta no novo horário
      */
     public Consulta atualizarConsulta(Long id, ConsultaRequestDTO dto, PacienteService pacienteService) {
         Consulta consulta = consultaRepository.findById(id)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Consulta não encontrada"));
 
-        // Se já está concluída, não permite alteração
-        if ("Concluída".equals(consulta.getStatus())) {
-            throw new OperacaoNaoPermitidaException("Não é permitido alterar uma consulta já concluída.");
+        // Consulta concluída, cancelada ou com falta não admite alteração
+        StatusConsulta atual = consulta.getStatus();
+        if (atual != null && atual.isFinal()) {
+            throw new OperacaoNaoPermitidaException("Não é permitido alterar uma consulta já "
+                    + atual.getDescricao().toLowerCase(Locale.ROOT) + ".");
         }
 
+        // O horário anterior é liberado na agenda
+        invalidarAgenda(consulta);
+
         // Buscar o paciente pelo ID
         Paciente paciente = pacienteService.buscarPorId(dto.getPacienteId())
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Paciente não encontrado"));
@@ -102,8 +185,67 @@ public class ConsultaService {
         ProfissionalSaude profissional = profissionalSaudeService.buscarPorId(dto.getProfissionalId())
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Profissional não encontrado"));
         consulta.setProfissional(profissional);
-        consulta.setStatus(dto.getStatus());
+        StatusConsulta novo = StatusConsulta.de(dto.getStatus());
+        if (atual != null && !atual.podeMudarPara(novo)) {
+            throw new OperacaoNaoPermitidaException("Não é permitido alterar o status da consulta de "
+                    + atual.getDescricao() + " para " + novo.getDescricao() + ".");
+        }
+        consulta.setStatus(novo);
         consulta.setData(dto.getData());
-        return consultaRepository.save(consulta);
+        Consulta atualizada = gravarSemConflito(consulta);
+        invalidarAgenda(atualizada);
+        return atualizada;
+    }
+
+    /**
+     * Grava a consulta sob a trava do profissional, depois de verificar que nenhuma outra consulta
+     * ativa dele se sobrepõe ao horário (duração do atendimento conforme a jornada do dia). A trava
+     * da faixa serializa o nó; a transação trava a linha do profissional antes da verificação,
+     * serializando os demais nós. Consultas canceladas não ocupam horário e são gravadas diretamente.
+     */
+    private Consulta gravarSemConflito(Consulta consulta) {
+        if (consulta.getProfissional() == null || consulta.getData() == null
+                || (consulta.getStatus() != null && !consulta.getStatus().ocupaHorario())) {
+            return consultaRepository.save(consulta);
+        }
+        Long profissionalId = consulta.getProfissional().getId();
+        LocalDateTime data = consulta.getData();
+        try {
+            return travasAgenda.executar(profissionalId, () -> transacao.execute(status -> {
+                consultaRepository.travarAgendaDoProfissional(profissionalId);
+                int duracao = Math.max(Consulta.MINUTOS_POR_SLOT,
+                        agendaDisponibilidade.duracaoAtendimentoMinutos(profissionalId, data.getDayOfWeek()));
+                if (consultaRepository.existeConflito(profissionalId, data.minusMinutes(duracao),
+                        data.plusMinutes(duracao), consulta.getId())) {
+                    throw new ConflitoAgendamentoException("O profissional já possui consulta neste horário.");
+                }
+                return consultaRepository.save(consulta);
+            }));
+        } catch (DataIntegrityViolationException ex) {
+            // Última barreira: a chave única rejeitou o mesmo intervalo gravado por outro caminho
+            if (violouRestricaoSlot(ex)) {
+                throw new ConflitoAgendamentoException("O profissional já possui consulta neste horário.");
+            }
+            throw ex;
+        }
+    }
+
+    private static boolean violouRestricaoSlot(DataIntegrityViolationException ex) {
+        for (Throwable causa = ex; causa != null; causa = causa.getCause()) {
+            if (causa instanceof ConstraintViolationException violacao && violacao.getConstraintName() != null
+                    && violacao.getConstraintName().toLowerCase(Locale.ROOT).contains(Consulta.RESTRICAO_SLOT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Descarta o mapa de ocupação do dia da consulta na agenda de disponibilidade.
+     */
+    private void invalidarAgenda(Consulta consulta) {
+        if (consulta != null && consulta.getProfissional() != null && consulta.getData() != null) {
+            agendaDisponibilidade.invalidarDia(consulta.getProfissional().getId(), consulta.getData().toLocalDate());
+        }
     }
 }
\ No newline at end of file
@@ -2,14 +2,11 @@ package br.com.vidaplus.sghss.service;
 
 import br.com.vidaplus.sghss.model.Usuario;
 import br.com.vidaplus.sghss.repository.UsuarioRepository;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.stream.Collectors;
-
 /**
  * Serviço personalizado para carregar detalhes do usuário.
  * Implementa a interface UserDetailsService do Spring Security.
@@ -48,9 +45,7 @@ public class CustomUserDetailsService implements UserDetailsService {
         return new org.springframework.security.core.userdetails.User(
                 usuario.getUsername(),
                 usuario.getPassword(),
-                usuario.getRoles().stream()
-                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role.getNome()))
-                        .collect(Collectors.toList())
+                usuario.getAuthorities()
         );
     }
 }
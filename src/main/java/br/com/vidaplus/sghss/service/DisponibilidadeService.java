@@ -0,0 +1,138 @@
+package br.com.vidaplus.sghss.service;
+
+import br.com.vidaplus.sghss.agenda.AgendaDisponibilidade;
+import br.com.vidaplus.sghss.dto.request.JornadaTrabalhoRequestDTO;
+import br.com.vidaplus.sghss.dto.response.HorarioLivreDTO;
+import br.com.vidaplus.sghss.exception.ParametroInvalidoException;
+import br.com.vidaplus.sghss.exception.RecursoNaoEncontradoException;
+import br.com.vidaplus.sghss.model.JornadaTrabalho;
+import br.com.vidaplus.sghss.model.ProfissionalSaude;
+import br.com.vidaplus.sghss.repository.JornadaTrabalhoRepository;
+import br.com.vidaplus.sghss.repository.ProfissionalSaudeRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Serviço para gerenciar as jornadas de trabalho dos profissionais de saúde e consultar
+ * os horários livres, calculados pela {@link AgendaDisponibilidade} em memória.
+ *
+ * @author Patricky Lucas
+ */
+@Service
+public class DisponibilidadeService {
+
+    /**
+     * Maior intervalo, em dias, aceito na busca de horários livres.
+     */
+    private static final int MAXIMO_DIAS = 62;
+
+    private final JornadaTrabalhoRepository jornadaTrabalhoRepository;
+    private final ProfissionalSaudeRepository profissionalSaudeRepository;
+    private final AgendaDisponibilidade agendaDisponibilidade;
+
+    /**
+     * Construtor do DisponibilidadeService.
+     *
+     * @param jornadaTrabalhoRepository   repositório de jornadas de trabalho
+     * @param profissionalSaudeRepository repositório de profissionais de saúde
+     * @param agendaDisponibilidade       agenda de disponibilidade em memória
+     */
+    public DisponibilidadeService(JornadaTrabalhoRepository jornadaTrabalhoRepository,
+                                  ProfissionalSaudeRepository profissionalSaudeRepository,
+                                  AgendaDisponibilidade agendaDisponibilidade) {
+        this.jornadaTrabalhoRepository = jornadaTrabalhoRepository;
+        this.profissionalSaudeRepository = profissionalSaudeRepository;
+        this.agendaDisponibilidade = agendaDisponibilidade;
+    }
+
+    /**
+     * Lista as jornadas de trabalho do profissional.
+     *
+     * @param profissionalId ID do profissional
+     * @return jornadas do profissional, na ordem dos dias da semana
+     */
+    public List<JornadaTrabalho> listarJornadas(Long profissionalId) {
+        return jornadaTrabalhoRepository.findByProfissionalIdOrderByDiaSemanaAsc(profissionalId);
+    }
+
+    /**
+     * Cria ou substitui a jornada do profissional no dia da semana informado.
+     *
+     * @param profissionalId ID do profissional
+     * @param dto            dados da jornada
+     * @return jornada salva
+     * @throws RecursoNaoEncontradoException se o profissional não existir
+     * @throws ParametroInvalidoException    se os horários forem inconsistentes ou fora da grade de 15 minutos
+     */
+    public JornadaTrabalho salvarJornada(Long profissionalId, JornadaTrabalhoRequestDTO dto) {
+        validar(dto);
+        ProfissionalSaude profissional = profissionalSaudeRepository.findById(profissionalId)
+                .orElseThrow(() -> new RecursoNaoEncontradoException("Profissional não encontrado"));
+
+        JornadaTrabalho jornada = jornadaTrabalhoRepository
+                .findByProfissionalIdAndDiaSemana(profissionalId, dto.getDiaSemana())
+                .orElseGet(JornadaTrabalho::new);
+        jornada.setProfissional(profissional);
+        jornada.setDiaSemana(dto.getDiaSemana());
+        jornada.setInicio(dto.getInicio());
+        jornada.setFim(dto.getFim());
+        jornada.setIntervaloInicio(dto.getIntervaloInicio());
+        jornada.setIntervaloFim(dto.getIntervaloFim());
+        jornada.setDuracaoSlotMinutos(dto.getDuracaoSlotMinutos());
+
+        JornadaTrabalho salva = jornadaTrabalhoRepository.save(jornada);
+        agendaDisponibilidade.invalidarJornadas();
+        return salva;
+    }
+
+    /**
+     * Busca os próximos horários livres dos profissionais da especialidade no intervalo.
+     *
+     * @param especialidade especialidade dos profissionais
+     * @param de            início do intervalo (inclusivo)
+     * @param ate           fim do intervalo (exclusivo)
+     * @param quantidade    quantidade máxima de horários
+     * @return horários livres, em ordem cronológica
+     * @throws ParametroInvalidoException se a especialidade estiver vazia ou o intervalo for inválido
+     */
+    public List<HorarioLivreDTO> buscarHorariosLivres(String especialidade, LocalDateTime de, LocalDateTime ate, int quantidade) {
+        if (especialidade == null || especialidade.isBlank()) {
+            throw new ParametroInvalidoException("A especialidade é obrigatória.");
+        }
+        if (!de.isBefore(ate)) {
+            throw new ParametroInvalidoException("A data inicial deve ser anterior à data final.");
+        }
+        if (Duration.between(de, ate).toDays() > MAXIMO_DIAS) {
+            throw new ParametroInvalidoException("O intervalo de busca deve ter no máximo " + MAXIMO_DIAS + " dias.");
+        }
+        return agendaDisponibilidade.proximosLivres(especialidade, de, ate, quantidade);
+    }
+
+    private static void validar(JornadaTrabalhoRequestDTO dto) {
+        if (!naGrade(dto.getInicio()) || !naGrade(dto.getFim()) || dto.getDuracaoSlotMinutos() % 15 != 0) {
+            throw new ParametroInvalidoException("Horários e duração do atendimento devem ser múltiplos de 15 minutos.");
+        }
+        if (!dto.getInicio().isBefore(dto.getFim())) {
+            throw new ParametroInvalidoException("O início da jornada deve ser anterior ao fim.");
+        }
+        if ((dto.getIntervaloInicio() == null) != (dto.getIntervaloFim() == null)) {
+            throw new ParametroInvalidoException("Informe o início e o fim do intervalo, ou nenhum dos dois.");
+        }
+        if (dto.getIntervaloInicio() != null && (!naGrade(dto.getIntervaloInicio()) || !naGrade(dto.getIntervaloFim())
+                || !dto.getIntervaloInicio().isBefore(dto.getIntervaloFim())
+                || dto.getIntervaloInicio().isBefore(dto.getInicio()) || dto.getIntervaloFim().isAfter(dto.getFim()))) {
+            throw new ParametroInvalidoException("O intervalo deve estar dentro da jornada, em múltiplos de 15 minutos.");
+        }
+        if (Duration.between(dto.getInicio(), dto.getFim()).toMinutes() < dto.getDuracaoSlotMinutos()) {
+            throw new ParametroInvalidoException("A duração do atendimento não cabe na jornada.");
+        }
+    }
+
+    private static boolean naGrade(LocalTime horario) {
+        return horario.getMinute() % 15 == 0 && horario.getSecond() == 0 && horario.getNano() == 0;
+    }
+}
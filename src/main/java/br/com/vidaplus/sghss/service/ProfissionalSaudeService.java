@@ -1,5 +1,6 @@
 package br.com.vidaplus.sghss.service;
 
+import br.com.vidaplus.sghss.agenda.AgendaDisponibilidade;
 import br.com.vidaplus.sghss.dto.UsuarioDTO;
 import br.com.vidaplus.sghss.dto.request.PacienteRequestDTO;
 import br.com.vidaplus.sghss.dto.request.ProfissionalSaudeRequestDTO;
@@ -29,14 +30,23 @@ public class ProfissionalSaudeService {
     private final ProfissionalSaudeRepository profissionalSaudeRepository;
     private final UsuarioService usuarioService;
 
+    /**
+     * Agenda de disponibilidade, que guarda nome e especialidade dos profissionais com jornada.
+     */
+    private final AgendaDisponibilidade agendaDisponibilidade;
+
     /**
      * Construtor que recebe o repositório de profissionais de saúde.
      *
      * @param profissionalSaudeRepository Repositório de profissionais de saúde.
+     * @param usuarioService Serviço de usuários.
+     * @param agendaDisponibilidade Agenda de disponibilidade em memória.
      */
-    public ProfissionalSaudeService(ProfissionalSaudeRepository profissionalSaudeRepository, UsuarioService usuarioService) {
+    public ProfissionalSaudeService(ProfissionalSaudeRepository profissionalSaudeRepository, UsuarioService usuarioService,
+                                    AgendaDisponibilidade agendaDisponibilidade) {
         this.profissionalSaudeRepository = profissionalSaudeRepository;
         this.usuarioService = usuarioService;
+        this.agendaDisponibilidade = agendaDisponibilidade;
     }
 
     /**
@@ -75,6 +85,7 @@ public class ProfissionalSaudeService {
      */
     public void excluirProfissional(Long id) {
         profissionalSaudeRepository.deleteById(id);
+        agendaDisponibilidade.invalidarJornadas();
     }
 
     /**
@@ -88,7 +99,9 @@ public class ProfissionalSaudeService {
         ProfissionalSaude profissionalSaude = profissionalSaudeRepository.findById(id)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Paciente não encontrado"));
         profissionalSaude.setNome(dto.getNome());
-        return profissionalSaudeRepository.save(profissionalSaude);
+        ProfissionalSaude atualizado = profissionalSaudeRepository.save(profissionalSaude);
+        agendaDisponibilidade.invalidarJornadas();
+        return atualizado;
     }
 
     @Transactional
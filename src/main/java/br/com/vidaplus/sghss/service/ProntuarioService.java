@@ -3,6 +3,7 @@ package br.com.vidaplus.sghss.service;
 import br.com.vidaplus.sghss.dto.request.ProntuarioRequestDTO;
 import br.com.vidaplus.sghss.exception.ProntuarioJaExisteException;
 import br.com.vidaplus.sghss.exception.RecursoNaoEncontradoException;
+import br.com.vidaplus.sghss.logging.Auditavel;
 import br.com.vidaplus.sghss.model.Prontuario;
 import br.com.vidaplus.sghss.repository.ProntuarioRepository;
 import org.springframework.stereotype.Service;
@@ -13,10 +14,12 @@ import java.util.Optional;
 /**
  * Serviço responsável por gerenciar as operações relacionadas aos prontuários.
  * Inclui métodos para buscar, salvar, excluir e atualizar prontuários.
+ * Por se tratar de dado clínico sensível, todo acesso (inclusive leitura) é auditado.
  *
  * @author Patricky Lucas
  */
 @Service
+@Auditavel
 public class ProntuarioService {
 
     /**
@@ -6,6 +6,9 @@ import br.com.vidaplus.sghss.model.Usuario;
 import br.com.vidaplus.sghss.model.Role;
 import br.com.vidaplus.sghss.repository.UsuarioRepository;
 import br.com.vidaplus.sghss.repository.RoleRepository;
+import br.com.vidaplus.sghss.security.RevogacaoUsuarios;
+import br.com.vidaplus.sghss.security.UsuarioAlteradoEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -29,6 +32,8 @@ public class UsuarioService {
     private final UsuarioRepository usuarioRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RevogacaoUsuarios revogacaoUsuarios;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Construtor que recebe os repositórios de usuários e papéis, além do codificador de senhas.
@@ -36,11 +41,16 @@ public class UsuarioService {
      * @param usuarioRepository Repositório de usuários.
      * @param roleRepository Repositório de papéis.
      * @param passwordEncoder Codificador de senhas.
+     * @param revogacaoUsuarios Conjunto de usuários com acesso revogado.
+     * @param eventPublisher Publicador de eventos, usado para invalidar caches de usuário.
      */
-    public UsuarioService(UsuarioRepository usuarioRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder) {
+    public UsuarioService(UsuarioRepository usuarioRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder,
+                          RevogacaoUsuarios revogacaoUsuarios, ApplicationEventPublisher eventPublisher) {
         this.usuarioRepository = usuarioRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
+        this.revogacaoUsuarios = revogacaoUsuarios;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -64,7 +74,9 @@ public class UsuarioService {
         Usuario usuario = new Usuario(username, senhaCriptografada);
         usuario.setRoles(Set.of(role));
 
-        return usuarioRepository.save(usuario);
+        Usuario salvo = usuarioRepository.save(usuario);
+        eventPublisher.publishEvent(new UsuarioAlteradoEvent(username));
+        return salvo;
     }
 
     /**
@@ -76,4 +88,18 @@ public class UsuarioService {
     public Optional<Usuario> buscarPorUsername(String username) {
         return usuarioRepository.findByUsername(username);
     }
+
+    /**
+     * Revoga o acesso de um usuário, invalidando imediatamente todos os tokens já emitidos para ele.
+     *
+     * @param username Nome de usuário a ser revogado.
+     * @throws RecursoNaoEncontradoException Se o usuário não for encontrado.
+     */
+    public void revogarAcesso(String username) {
+        if (usuarioRepository.findByUsername(username).isEmpty()) {
+            throw new RecursoNaoEncontradoException("Usuário não encontrado: " + username);
+        }
+        revogacaoUsuarios.revogar(username);
+        eventPublisher.publishEvent(new UsuarioAlteradoEvent(username));
+    }
 }
\ No newline at end of file
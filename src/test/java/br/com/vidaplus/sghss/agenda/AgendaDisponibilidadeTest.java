@@ -0,0 +1,148 @@
+package br.com.vidaplus.sghss.agenda;
+
+import br.com.vidaplus.sghss.dto.response.HorarioLivreDTO;
+import br.com.vidaplus.sghss.model.JornadaTrabalho;
+import br.com.vidaplus.sghss.model.ProfissionalSaude;
+import br.com.vidaplus.sghss.repository.ConsultaRepository;
+import br.com.vidaplus.sghss.repository.JornadaTrabalhoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a agenda de disponibilidade em mapas de bits.
+ *
+ * @author Patricky Lucas
+ */
+class AgendaDisponibilidadeTest {
+
+    /**
+     * Segunda-feira.
+     */
+    private static final LocalDate DIA = LocalDate.of(2025, 6, 2);
+
+    private JornadaTrabalhoRepository jornadaTrabalhoRepository;
+    private ConsultaRepository consultaRepository;
+    private AgendaDisponibilidade agenda;
+
+    @BeforeEach
+    void setUp() {
+        jornadaTrabalhoRepository = mock(JornadaTrabalhoRepository.class);
+        consultaRepository = mock(ConsultaRepository.class);
+        agenda = new AgendaDisponibilidade(jornadaTrabalhoRepository, consultaRepository, 1000, 30);
+
+        ProfissionalSaude ana = profissional(1L, "Ana", "Cardiologia");
+        ProfissionalSaude bruno = profissional(2L, "Bruno", "cardiologia");
+        when(jornadaTrabalhoRepository.listarComProfissional()).thenReturn(List.of(
+                jornada(ana, LocalTime.of(8, 0), LocalTime.of(10, 0), LocalTime.of(9, 0), LocalTime.of(9, 30), 30),
+                jornada(bruno, LocalTime.of(8, 30), LocalTime.of(9, 30), null, null, 60),
+                jornada(profissional(3L, "Carla", "Pediatria"), LocalTime.of(8, 0), LocalTime.of(12, 0), null, null, 30)));
+    }
+
+    /**
+     * Testa se os horários livres excluem o intervalo e as consultas, e saem em ordem cronológica entre profissionais.
+     */
+    @Test
+    void proximosLivres_deveExcluirIntervaloEConsultas() {
+        List<Object[]> ocupados = new ArrayList<>();
+        ocupados.add(new Object[]{1L, DIA.atTime(8, 30)});
+        when(consultaRepository.listarHorariosOcupados(anyCollection(), any(), any())).thenReturn(ocupados);
+
+        List<HorarioLivreDTO> livres = agenda.proximosLivres(" CARDIOLOGIA ", DIA.atStartOfDay(), DIA.plusDays(1).atStartOfDay(), 10);
+
+        assertEquals(3, livres.size());
+        assertEquals(1L, livres.get(0).getProfissionalId());
+        assertEquals(DIA.atTime(8, 0), livres.get(0).getInicio());
+        assertEquals(2L, livres.get(1).getProfissionalId());
+        assertEquals(DIA.atTime(8, 30), livres.get(1).getInicio());
+        assertEquals(DIA.atTime(9, 30), livres.get(1).getFim());
+        assertEquals(1L, livres.get(2).getProfissionalId());
+        assertEquals(DIA.atTime(9, 30), livres.get(2).getInicio());
+
+        // Terça-feira sem jornada e limite de quantidade
+        assertTrue(agenda.proximosLivres("cardiologia", DIA.plusDays(1).atStartOfDay(), DIA.plusDays(2).atStartOfDay(), 10).isEmpty());
+        assertEquals(1, agenda.proximosLivres("cardiologia", DIA.atStartOfDay(), DIA.plusDays(1).atStartOfDay(), 1).size());
+    }
+
+    /**
+     * Testa se os mapas de ocupação ficam em memória até a invalidação do dia.
+     */
+    @Test
+    void invalidarDia_deveRecarregarOcupacao() {
+        when(consultaRepository.listarHorariosOcupados(anyCollection(), any(), any())).thenReturn(new ArrayList<>());
+        LocalDateTime de = DIA.atStartOfDay();
+        LocalDateTime ate = DIA.plusDays(1).atStartOfDay();
+
+        assertEquals(4, agenda.proximosLivres("cardiologia", de, ate, 10).size());
+        assertEquals(4, agenda.proximosLivres("cardiologia", de, ate, 10).size());
+        verify(consultaRepository, times(1)).listarHorariosOcupados(anyCollection(), any(), any());
+        verify(jornadaTrabalhoRepository, times(1)).listarComProfissional();
+
+        List<Object[]> ocupados = new ArrayList<>();
+        ocupados.add(new Object[]{2L, DIA.atTime(8, 30)});
+        when(consultaRepository.listarHorariosOcupados(anyCollection(), any(), any())).thenReturn(ocupados);
+        agenda.invalidarDia(2L, DIA);
+
+        List<HorarioLivreDTO> livres = agenda.proximosLivres("cardiologia", de, ate, 10);
+        assertEquals(3, livres.size());
+        assertTrue(livres.stream().allMatch(h -> h.getProfissionalId() == 1L));
+        verify(consultaRepository, times(2)).listarHorariosOcupados(anyCollection(), any(), any());
+    }
+
+    /**
+     * Testa se jornadas e mapas de ocupação expiram após a validade, trazendo consultas gravadas
+     * por outra instância sem invalidação local.
+     */
+    @Test
+    void proximosLivres_deveRecarregarAposValidade() {
+        when(consultaRepository.listarHorariosOcupados(anyCollection(), any(), any())).thenReturn(new ArrayList<>());
+        LocalDateTime de = DIA.atStartOfDay();
+        LocalDateTime ate = DIA.plusDays(1).atStartOfDay();
+        long agora = System.nanoTime();
+
+        assertEquals(4, agenda.proximosLivres("cardiologia", de, ate, 10, agora).size());
+        List<Object[]> ocupados = new ArrayList<>();
+        ocupados.add(new Object[]{2L, DIA.atTime(8, 30)});
+        when(consultaRepository.listarHorariosOcupados(anyCollection(), any(), any())).thenReturn(ocupados);
+
+        assertEquals(4, agenda.proximosLivres("cardiologia", de, ate, 10, agora + TimeUnit.SECONDS.toNanos(29)).size());
+        verify(consultaRepository, times(1)).listarHorariosOcupados(anyCollection(), any(), any());
+
+        assertEquals(3, agenda.proximosLivres("cardiologia", de, ate, 10, agora + TimeUnit.SECONDS.toNanos(30)).size());
+        verify(consultaRepository, times(2)).listarHorariosOcupados(anyCollection(), any(), any());
+        verify(jornadaTrabalhoRepository, times(2)).listarComProfissional();
+    }
+
+    private static ProfissionalSaude profissional(Long id, String nome, String especialidade) {
+        ProfissionalSaude profissional = new ProfissionalSaude();
+        profissional.setId(id);
+        profissional.setNome(nome);
+        profissional.setEspecialidade(especialidade);
+        return profissional;
+    }
+
+    private static JornadaTrabalho jornada(ProfissionalSaude profissional, LocalTime inicio, LocalTime fim,
+                                           LocalTime intervaloInicio, LocalTime intervaloFim, int duracao) {
+        JornadaTrabalho jornada = new JornadaTrabalho();
+        jornada.setProfissional(profissional);
+        jornada.setDiaSemana(DayOfWeek.MONDAY);
+        jornada.setInicio(inicio);
+        jornada.setFim(fim);
+        jornada.setIntervaloInicio(intervaloInicio);
+        jornada.setIntervaloFim(intervaloFim);
+        jornada.setDuracaoSlotMinutos(duracao);
+        return jornada;
+    }
+}
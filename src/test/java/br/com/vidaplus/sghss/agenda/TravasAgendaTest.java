@@ -0,0 +1,77 @@
+package br.com.vidaplus.sghss.agenda;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para as travas por profissional da agenda.
+ *
+ * @author Patricky Lucas
+ */
+class TravasAgendaTest {
+
+    /**
+     * Testa se um profissional de outra faixa agenda enquanto a faixa de outro está travada,
+     * e se o mesmo profissional espera.
+     */
+    @Test
+    void executar_deveBloquearApenasAFaixaDoProfissional() throws Exception {
+        TravasAgenda travas = new TravasAgenda(64);
+        long outro = 2;
+        while (travas.faixa(outro) == travas.faixa(1L)) {
+            outro++;
+        }
+        Long outroProfissional = outro;
+
+        CountDownLatch travado = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        CompletableFuture<Void> dono = CompletableFuture.runAsync(() -> travas.executar(1L, () -> {
+            travado.countDown();
+            await(liberar);
+            return null;
+        }));
+        assertTrue(travado.await(5, TimeUnit.SECONDS));
+
+        assertEquals("livre", CompletableFuture.supplyAsync(() -> travas.executar(outroProfissional, () -> "livre"))
+                .get(5, TimeUnit.SECONDS));
+
+        CountDownLatch executou = new CountDownLatch(1);
+        CompletableFuture<Void> mesmo = CompletableFuture.runAsync(() -> travas.executar(1L, () -> {
+            executou.countDown();
+            return null;
+        }));
+        aguardarFila(travas, 1L);
+        assertEquals(1, executou.getCount());
+
+        liberar.countDown();
+        dono.get(5, TimeUnit.SECONDS);
+        assertTrue(executou.await(5, TimeUnit.SECONDS));
+        mesmo.get(5, TimeUnit.SECONDS);
+        assertEquals(64, travas.metricas().get("faixas"));
+        assertEquals(1L, travas.metricas().get("contencoes"));
+    }
+
+    /**
+     * Espera, sem pausas fixas, até outra thread entrar na fila da trava da faixa do profissional.
+     */
+    private static void aguardarFila(TravasAgenda travas, Long profissionalId) {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!travas.aguardando(profissionalId)) {
+            assertTrue(System.nanoTime() < limite, "A segunda execução não chegou à trava");
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.vidaplus.sghss.exportacao;
+
+import br.com.vidaplus.sghss.dto.request.FiltroAuditoriaDTO;
+import br.com.vidaplus.sghss.model.Auditoria;
+import br.com.vidaplus.sghss.repository.AuditoriaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o exportador de auditorias em streaming.
+ *
+ * @author Patricky Lucas
+ */
+class ExportadorAuditoriaTest {
+
+    private ExportadorAuditoria exportador;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        AuditoriaRepository repository = mock(AuditoriaRepository.class);
+        when(repository.percorrer(any(FiltroAuditoriaDTO.class), any(Consumer.class))).thenAnswer(invocacao -> {
+            Consumer<Auditoria> consumidor = invocacao.getArgument(1);
+            consumidor.accept(auditoria(1L, "PacienteService.criar(..)", "Args: [João, \"Silva\"]"));
+            consumidor.accept(auditoria(2L, "PacienteService.listar()", "Args: []"));
+            return 2L;
+        });
+        exportador = new ExportadorAuditoria(repository);
+    }
+
+    /**
+     * Testa se o NDJSON compactado contém um objeto JSON válido por linha.
+     */
+    @Test
+    void exportar_deveGerarNdjsonCompactado() throws Exception {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        assertEquals(2, exportador.exportar(new FiltroAuditoriaDTO(), FormatoExportacao.NDJSON, true, saida));
+
+        String conteudo;
+        try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(saida.toByteArray()))) {
+            conteudo = new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] linhas = conteudo.split("\n");
+        assertEquals(2, linhas.length);
+        assertEquals("{\"id\":1,\"usuario\":\"medico\",\"acao\":\"PacienteService.criar(..)\","
+                + "\"detalhes\":\"Args: [João, \\\"Silva\\\"]\",\"dataHora\":\"2025-05-10T14:30\"}", linhas[0]);
+        assertTrue(conteudo.endsWith("}\n"));
+    }
+
+    /**
+     * Testa se o CSV traz o cabeçalho e delimita os campos com vírgulas e aspas.
+     */
+    @Test
+    void exportar_deveEscaparCamposCsv() throws Exception {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        exportador.exportar(new FiltroAuditoriaDTO(), FormatoExportacao.CSV, false, saida);
+
+        assertEquals("id,usuario,acao,detalhes,dataHora\r\n"
+                + "1,medico,PacienteService.criar(..),\"Args: [João, \"\"Silva\"\"]\",2025-05-10T14:30\r\n"
+                + "2,medico,PacienteService.listar(),Args: [],2025-05-10T14:30\r\n",
+                saida.toString(StandardCharsets.UTF_8));
+    }
+
+    private static Auditoria auditoria(Long id, String acao, String detalhes) {
+        Auditoria auditoria = new Auditoria();
+        auditoria.setId(id);
+        auditoria.setUsuario("medico");
+        auditoria.setAcao(acao);
+        auditoria.setDetalhes(detalhes);
+        auditoria.setDataHora(LocalDateTime.of(2025, 5, 10, 14, 30));
+        return auditoria;
+    }
+}
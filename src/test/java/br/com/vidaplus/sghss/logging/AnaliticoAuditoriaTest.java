@@ -0,0 +1,74 @@
+package br.com.vidaplus.sghss.logging;
+
+import br.com.vidaplus.sghss.dto.response.ContagemJanelaDTO;
+import br.com.vidaplus.sghss.service.ConsultaService;
+import br.com.vidaplus.sghss.service.PacienteService;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para os contadores analíticos de auditoria.
+ *
+ * @author Patricky Lucas
+ */
+class AnaliticoAuditoriaTest {
+
+    /**
+     * Testa se as ações do usuário saem da contagem quando deixam a janela de um minuto.
+     */
+    @Test
+    void acoesDoUsuario_deveContarApenasOUltimoMinuto() throws Exception {
+        AnaliticoAuditoria analitico = new AnaliticoAuditoria(100);
+        Method listar = PacienteService.class.getMethod("listarTodos");
+        long agora = TimeUnit.HOURS.toMillis(1000);
+
+        for (int i = 0; i < 5; i++) {
+            analitico.registrar("medico", listar, agora);
+        }
+        analitico.registrar("medico", listar, agora + TimeUnit.SECONDS.toMillis(30));
+        analitico.registrar("admin", listar, agora);
+
+        assertEquals(6, analitico.acoesDoUsuario("medico", agora + TimeUnit.SECONDS.toMillis(30)).getQuantidade());
+        assertEquals(1, analitico.acoesDoUsuario("medico", agora + TimeUnit.SECONDS.toMillis(65)).getQuantidade());
+        assertEquals(0, analitico.acoesDoUsuario("desconhecido", agora).getQuantidade());
+
+        List<ContagemJanelaDTO> ranking = analitico.usuariosMaisAtivos(1, agora);
+        assertEquals(1, ranking.size());
+        assertEquals("medico", ranking.get(0).getChave());
+        assertEquals(60, ranking.get(0).getJanelaSegundos());
+    }
+
+    /**
+     * Testa o ranking de ações da última hora e o descarte de usuários ociosos ao atingir a capacidade.
+     */
+    @Test
+    void acoesMaisFrequentes_deveOrdenarPorQuantidadeNaUltimaHora() throws Exception {
+        AnaliticoAuditoria analitico = new AnaliticoAuditoria(1);
+        Method listar = PacienteService.class.getMethod("listarTodos");
+        Method excluir = ConsultaService.class.getMethod("excluirConsulta", Long.class);
+        long agora = TimeUnit.HOURS.toMillis(1000);
+
+        analitico.registrar("medico", excluir, agora - TimeUnit.MINUTES.toMillis(90));
+        analitico.registrar("medico", listar, agora);
+        analitico.registrar("medico", listar, agora);
+        analitico.registrar("medico", excluir, agora);
+        // Capacidade atingida por um usuário com ações recentes: o novo usuário não é acompanhado
+        analitico.registrar("admin", listar, agora);
+
+        List<ContagemJanelaDTO> acoes = analitico.acoesMaisFrequentes(10, agora);
+        assertEquals("PacienteService.listarTodos(..)", acoes.get(0).getChave());
+        assertEquals(3, acoes.get(0).getQuantidade());
+        assertEquals("ConsultaService.excluirConsulta(..)", acoes.get(1).getChave());
+        assertEquals(1, acoes.get(1).getQuantidade());
+        assertEquals(1L, analitico.metricas().get("usuariosIgnorados"));
+
+        // Após a janela, o usuário ocioso é descartado e há espaço para o novo
+        analitico.registrar("admin", listar, agora + TimeUnit.MINUTES.toMillis(2));
+        assertEquals(1, analitico.acoesDoUsuario("admin", agora + TimeUnit.MINUTES.toMillis(2)).getQuantidade());
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.vidaplus.sghss.logging;
+
+import br.com.vidaplus.sghss.dto.request.PacienteRequestDTO;
+import br.com.vidaplus.sghss.model.Consulta;
+import br.com.vidaplus.sghss.model.Paciente;
+import br.com.vidaplus.sghss.model.ProfissionalSaude;
+import br.com.vidaplus.sghss.model.StatusConsulta;
+import br.com.vidaplus.sghss.service.AuthService;
+import br.com.vidaplus.sghss.service.ConsultaService;
+import br.com.vidaplus.sghss.service.PacienteService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o codificador dos detalhes de auditoria.
+ *
+ * @author Patricky Lucas
+ */
+class CodificadorDetalhesTest {
+
+    private CodificadorDetalhes codificador;
+
+    @BeforeEach
+    void setUp() {
+        CodificadoresDominio dominio = new CodificadoresDominio();
+        codificador = new CodificadorDetalhes(List.of(dominio.codificadorConsulta(), dominio.codificadorPacienteRequest()),
+                255, 16);
+    }
+
+    /**
+     * Testa se entidades são codificadas por ids, sem navegar pelas associações, e se senhas são mascaradas.
+     */
+    @Test
+    void codificar_deveRegistrarIdsEMascararSenha() throws Exception {
+        Paciente paciente = mock(Paciente.class);
+        when(paciente.getId()).thenReturn(3L);
+        ProfissionalSaude profissional = new ProfissionalSaude();
+        profissional.setId(7L);
+        Consulta consulta = new Consulta();
+        consulta.setId(12L);
+        consulta.setPaciente(paciente);
+        consulta.setProfissional(profissional);
+        consulta.setData(LocalDateTime.of(2025, 5, 10, 14, 30));
+        consulta.setStatus(StatusConsulta.AGENDADA);
+
+        Method salvar = ConsultaService.class.getMethod("salvarConsulta", Consulta.class);
+        assertEquals("{\"consulta\":{\"id\":12,\"pacienteId\":3,\"profissionalId\":7,"
+                + "\"data\":\"2025-05-10T14:30\",\"status\":\"Agendada\"}}", codificador.codificar(salvar, new Object[]{consulta}));
+        verify(paciente).getId();
+        verifyNoMoreInteractions(paciente);
+
+        Method login = AuthService.class.getMethod("login", String.class, String.class);
+        assertEquals("{\"username\":\"medico\",\"password\":\"****\"}",
+                codificador.codificar(login, new Object[]{"medico", "segredo"}));
+    }
+
+    /**
+     * Testa se textos longos são cortados, objetos sem codificador aparecem só pelo nome da classe
+     * e o total respeita o tamanho máximo.
+     */
+    @Test
+    void codificar_deveLimitarTamanhos() throws Exception {
+        PacienteRequestDTO dto = new PacienteRequestDTO();
+        dto.setNome("Maria \"da\" Conceição Aparecida");
+        dto.setHistoricoClinico("x".repeat(10_000));
+
+        Method atualizar = PacienteService.class.getMethod("atualizarPaciente", Long.class, PacienteRequestDTO.class);
+        assertEquals("{\"id\":5,\"dto\":{\"nome\":\"Maria \\\"da\\\" Conce…\",\"tamanhoHistoricoClinico\":10000}}",
+                codificador.codificar(atualizar, new Object[]{5L, dto}));
+
+        CodificadorDetalhes semCodificadores = new CodificadorDetalhes(List.of(), 40, 16);
+        assertEquals("{\"id\":5,\"dto\":\"PacienteRequestDTO\"}", semCodificadores.codificar(atualizar, new Object[]{5L, dto}));
+
+        CodificadorDetalhes curto = new CodificadorDetalhes(List.of(), 20, 16);
+        String detalhes = curto.codificar(atualizar, new Object[]{5L, dto});
+        assertEquals(20, detalhes.length());
+        assertTrue(detalhes.endsWith("…"));
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.vidaplus.sghss.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a fila circular MPSC usada pelo gravador de auditoria.
+ *
+ * @author Patricky Lucas
+ */
+class FilaCircularMpscTest {
+
+    /**
+     * Testa se a fila respeita a capacidade e preserva a ordem de inserção.
+     */
+    @Test
+    void oferecer_deveRejeitarQuandoCheiaEPreservarOrdem() {
+        FilaCircularMpsc<Integer> fila = new FilaCircularMpsc<>(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(fila.oferecer(i));
+        }
+        assertFalse(fila.oferecer(99));
+
+        List<Integer> drenados = new ArrayList<>();
+        assertEquals(3, fila.drenar(drenados::add, 3));
+        assertTrue(fila.oferecer(4));
+        assertEquals(2, fila.drenar(drenados::add, 10));
+        assertEquals(List.of(0, 1, 2, 3, 4), drenados);
+        assertEquals(0, fila.tamanho());
+    }
+
+    /**
+     * Testa se nenhum elemento é perdido ou duplicado com vários produtores concorrentes.
+     */
+    @Test
+    void drenar_deveEntregarTodosOsElementosDeVariosProdutores() throws Exception {
+        FilaCircularMpsc<Integer> fila = new FilaCircularMpsc<>(64);
+        int produtores = 4;
+        int porProdutor = 10_000;
+        CountDownLatch inicio = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < produtores; p++) {
+            int base = p * porProdutor;
+            Thread thread = new Thread(() -> {
+                try {
+                    inicio.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < porProdutor; i++) {
+                    while (!fila.oferecer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        Set<Integer> recebidos = new HashSet<>();
+        inicio.countDown();
+        while (recebidos.size() < produtores * porProdutor) {
+            fila.drenar(elemento -> assertTrue(recebidos.add(elemento)), 128);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(produtores * porProdutor, recebidos.size());
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.vidaplus.sghss.logging;
+
+import br.com.vidaplus.sghss.model.Auditoria;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o agrupamento das chamadas auditadas por requisição.
+ *
+ * @author Patricky Lucas
+ */
+class FiltroAgrupamentoAuditoriaTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    /**
+     * Testa se as chamadas de uma requisição geram um único registro, com as ações em ordem
+     * e a última ação como ação principal.
+     */
+    @Test
+    void doFilter_deveGravarUmRegistroPorRequisicao() throws Exception {
+        DestinoAuditoria destino = mock(DestinoAuditoria.class);
+        FiltroAgrupamentoAuditoria filtro = new FiltroAgrupamentoAuditoria(destino);
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/consultas/4");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        LocalDateTime inicio = LocalDateTime.of(2025, 5, 10, 14, 30);
+
+        FilterChain cadeia = (req, res) -> {
+            AcumuladorAuditoria.daRequisicaoAtual().adicionar("medico", "ConsultaService.buscarPorId(..)", "{\"id\":4}", inicio);
+            AcumuladorAuditoria.daRequisicaoAtual().adicionar("medico", "PacienteService.buscarPorId(..)", "{\"id\":3}", inicio.plusSeconds(1));
+            AcumuladorAuditoria.daRequisicaoAtual().adicionar("medico", "ConsultaService.atualizarConsulta(..)", "{\"id\":4,\"dto\":\"Consult…", inicio.plusSeconds(2));
+        };
+        filtro.doFilter(request, new MockHttpServletResponse(), cadeia);
+
+        ArgumentCaptor<Auditoria> captor = ArgumentCaptor.forClass(Auditoria.class);
+        verify(destino, times(1)).registrar(captor.capture());
+        Auditoria auditoria = captor.getValue();
+        assertEquals("medico", auditoria.getUsuario());
+        assertEquals("ConsultaService.atualizarConsulta(..)", auditoria.getAcao());
+        assertEquals(inicio, auditoria.getDataHora());
+        assertEquals("{\"acoes\":[{\"acao\":\"ConsultaService.buscarPorId(..)\",\"args\":{\"id\":4}},"
+                + "{\"acao\":\"PacienteService.buscarPorId(..)\",\"args\":{\"id\":3}},"
+                + "{\"acao\":\"ConsultaService.atualizarConsulta(..)\",\"args\":\"{\\\"id\\\":4,\\\"dto\\\":\\\"Consult…\"}]}",
+                auditoria.getDetalhes());
+        assertNull(request.getAttribute(AcumuladorAuditoria.ATRIBUTO));
+    }
+
+    /**
+     * Testa se requisições sem chamadas auditadas não geram registro e se o limite de tamanho é respeitado.
+     */
+    @Test
+    void doFilter_deveRespeitarLimites() throws Exception {
+        DestinoAuditoria destino = mock(DestinoAuditoria.class);
+        FiltroAgrupamentoAuditoria filtro = new FiltroAgrupamentoAuditoria(destino);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/pacientes");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        filtro.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+        });
+        verifyNoInteractions(destino);
+
+        MockHttpServletRequest outraRequest = new MockHttpServletRequest("GET", "/api/pacientes/1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(outraRequest));
+        filtro.doFilter(outraRequest, new MockHttpServletResponse(), (req, res) -> {
+            for (int i = 0; i < 100; i++) {
+                AcumuladorAuditoria.daRequisicaoAtual().adicionar("admin", "PacienteService.buscarPorId(..)",
+                        "{\"id\":" + i + "}", LocalDateTime.now());
+            }
+        });
+        ArgumentCaptor<Auditoria> captor = ArgumentCaptor.forClass(Auditoria.class);
+        verify(destino).registrar(captor.capture());
+        String detalhes = captor.getValue().getDetalhes();
+        assertTrue(detalhes.length() <= AcumuladorAuditoria.TAMANHO_MAXIMO_DETALHES);
+        int incluidas = detalhes.split("\"acao\"", -1).length - 1;
+        assertTrue(detalhes.endsWith("],\"omitidas\":" + (100 - incluidas) + "}"));
+        assertEquals("PacienteService.buscarPorId(..)", captor.getValue().getAcao());
+    }
+}
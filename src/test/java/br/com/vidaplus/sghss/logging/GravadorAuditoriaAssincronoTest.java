@@ -0,0 +1,107 @@
+package br.com.vidaplus.sghss.logging;
+
+import br.com.vidaplus.sghss.model.Auditoria;
+import br.com.vidaplus.sghss.repository.AuditoriaRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o gravador assíncrono de auditoria.
+ *
+ * @author Patricky Lucas
+ */
+class GravadorAuditoriaAssincronoTest {
+
+    /**
+     * Testa se os eventos enfileirados são gravados em lotes e se o encerramento grava os pendentes.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void encerrar_deveGravarTodosOsEventosEmLotes() {
+        AuditoriaRepository repository = mock(AuditoriaRepository.class);
+        AtomicInteger gravados = new AtomicInteger();
+        when(repository.saveAll(any(Iterable.class))).thenAnswer(i -> {
+            Collection<Auditoria> lote = i.getArgument(0);
+            assertTrue(lote.size() <= 10);
+            gravados.addAndGet(lote.size());
+            return List.copyOf(lote);
+        });
+        GravadorAuditoriaAssincrono gravador = new GravadorAuditoriaAssincrono(repository, 1024, 10, 10_000);
+        gravador.iniciar();
+
+        for (int i = 0; i < 95; i++) {
+            gravador.registrar(auditoria(i));
+        }
+        gravador.encerrar();
+
+        assertEquals(95, gravados.get());
+        assertEquals(95L, gravador.metricas().get("gravados"));
+        verify(repository, never()).save(any(Auditoria.class));
+    }
+
+    /**
+     * Testa se um lote que falha uma vez é mantido e regravado (com novos IDs), sem perder eventos.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void gravar_deveRegravarLoteAposFalha() {
+        AuditoriaRepository repository = mock(AuditoriaRepository.class);
+        AtomicInteger chamadas = new AtomicInteger();
+        AtomicInteger gravados = new AtomicInteger();
+        when(repository.saveAll(any(Iterable.class))).thenAnswer(i -> {
+            Collection<Auditoria> lote = i.getArgument(0);
+            if (chamadas.getAndIncrement() == 0) {
+                lote.forEach(auditoria -> auditoria.setId(1L));
+                throw new DataAccessResourceFailureException("Banco indisponível");
+            }
+            lote.forEach(auditoria -> assertNull(auditoria.getId()));
+            gravados.addAndGet(lote.size());
+            return List.copyOf(lote);
+        });
+        GravadorAuditoriaAssincrono gravador = new GravadorAuditoriaAssincrono(repository, 1024, 10, 1);
+        gravador.iniciar();
+
+        for (int i = 0; i < 25; i++) {
+            gravador.registrar(auditoria(i));
+        }
+        gravador.encerrar();
+
+        assertEquals(25, gravados.get());
+        assertEquals(25L, gravador.metricas().get("gravados"));
+        assertEquals(1L, gravador.metricas().get("falhas"));
+        assertEquals(0L, gravador.metricas().get("descartados"));
+    }
+
+    /**
+     * Testa se, sem gravador ativo para drenar a fila, o evento é gravado de forma síncrona
+     * em vez de ser descartado (mesmo caminho usado quando a fila está cheia).
+     */
+    @Test
+    void registrar_deveGravarSincronoQuandoGravadorInativo() {
+        AuditoriaRepository repository = mock(AuditoriaRepository.class);
+        GravadorAuditoriaAssincrono gravador = new GravadorAuditoriaAssincrono(repository, 2, 10, 10_000);
+
+        gravador.registrar(auditoria(1));
+
+        verify(repository).save(any(Auditoria.class));
+        assertEquals(1L, gravador.metricas().get("gravacoesSincronas"));
+    }
+
+    private static Auditoria auditoria(int i) {
+        Auditoria auditoria = new Auditoria();
+        auditoria.setUsuario("user");
+        auditoria.setAcao("ConsultaService.listarRespostas(..)");
+        auditoria.setDetalhes("Args: [" + i + "]");
+        auditoria.setDataHora(LocalDateTime.now());
+        return auditoria;
+    }
+}
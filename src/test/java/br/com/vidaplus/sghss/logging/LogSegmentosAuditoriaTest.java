@@ -0,0 +1,88 @@
+package br.com.vidaplus.sghss.logging;
+
+import br.com.vidaplus.sghss.model.Auditoria;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o log de segmentos de auditoria.
+ *
+ * @author Patricky Lucas
+ */
+class LogSegmentosAuditoriaTest {
+
+    @TempDir
+    Path diretorio;
+
+    /**
+     * Testa se os registros atravessam a rotação de segmentos e são entregues em ordem, com todos os campos.
+     */
+    @Test
+    void entregar_deveLerSegmentosSeladosEmOrdem() throws Exception {
+        LogSegmentosAuditoria segmentos = new LogSegmentosAuditoria(diretorio, 1024);
+        LocalDateTime dataHora = LocalDateTime.of(2025, 5, 10, 14, 30, 15, 123_456_789);
+        for (int i = 0; i < 30; i++) {
+            assertTrue(segmentos.anexar(auditoria(i, dataHora)));
+        }
+        segmentos.fechar();
+
+        List<Auditoria> entregues = new ArrayList<>();
+        assertEquals(30, segmentos.entregar(entregues::addAll, 7));
+
+        assertEquals(30, entregues.size());
+        for (int i = 0; i < 30; i++) {
+            assertEquals("Args: [" + i + "] ação", entregues.get(i).getDetalhes());
+        }
+        assertEquals("medico", entregues.get(0).getUsuario());
+        assertEquals(dataHora, entregues.get(0).getDataHora());
+        assertEquals(0, segmentos.segmentosPendentes());
+        assertFalse(segmentos.anexar(auditoria(99, dataHora)));
+    }
+
+    /**
+     * Testa se, após uma falha na remessa e a reabertura do log, a entrega continua do checkpoint
+     * sem repetir os lotes já aceitos.
+     */
+    @Test
+    void entregar_deveContinuarDoCheckpointAposReabertura() throws Exception {
+        LogSegmentosAuditoria segmentos = new LogSegmentosAuditoria(diretorio, 64 * 1024);
+        for (int i = 0; i < 10; i++) {
+            segmentos.anexar(auditoria(i, LocalDateTime.now()));
+        }
+        segmentos.fechar();
+
+        List<Auditoria> aceitos = new ArrayList<>();
+        assertThrows(IllegalStateException.class, () -> segmentos.entregar(lote -> {
+            if (!aceitos.isEmpty()) {
+                throw new IllegalStateException("banco indisponível");
+            }
+            aceitos.addAll(lote);
+        }, 4));
+        assertEquals(4, aceitos.size());
+
+        LogSegmentosAuditoria reaberto = new LogSegmentosAuditoria(diretorio, 64 * 1024);
+        reaberto.anexar(auditoria(10, LocalDateTime.now()));
+        reaberto.fechar();
+        assertEquals(7, reaberto.entregar(aceitos::addAll, 4));
+
+        for (int i = 0; i < 11; i++) {
+            assertEquals("Args: [" + i + "] ação", aceitos.get(i).getDetalhes());
+        }
+    }
+
+    private static Auditoria auditoria(int i, LocalDateTime dataHora) {
+        Auditoria auditoria = new Auditoria();
+        auditoria.setUsuario("medico");
+        auditoria.setAcao("ConsultaService.listarRespostas(..)");
+        auditoria.setDetalhes("Args: [" + i + "] ação");
+        auditoria.setDataHora(dataHora);
+        return auditoria;
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.vidaplus.sghss.logging;
+
+import br.com.vidaplus.sghss.service.PacienteService;
+import br.com.vidaplus.sghss.service.ProntuarioService;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o seletor de políticas de auditoria.
+ *
+ * @author Patricky Lucas
+ */
+class SeletorAuditoriaTest {
+
+    /**
+     * Testa as políticas padrão: leituras suprimidas, escritas auditadas e o serviço anotado sempre auditado.
+     */
+    @Test
+    void deveAuditar_deveAplicarPoliticaPadraoEAnotacao() throws Exception {
+        SeletorAuditoria seletor = new SeletorAuditoria(new MockEnvironment(), "amostra", 0);
+
+        assertFalse(seletor.deveAuditar(PacienteService.class.getMethod("listarTodos")));
+        assertFalse(seletor.deveAuditar(PacienteService.class.getMethod("buscarPorId", Long.class)));
+        assertTrue(seletor.deveAuditar(PacienteService.class.getMethod("excluirPaciente", Long.class)));
+        assertTrue(seletor.deveAuditar(ProntuarioService.class.getMethod("listarTodos")));
+
+        Map<String, Object> metricas = seletor.metricas();
+        assertEquals(2L, metricas.get("suprimidas"));
+        assertEquals(2L, metricas.get("auditadas"));
+    }
+
+    /**
+     * Testa se a política configurada por método prevalece e se a amostragem respeita o percentual.
+     */
+    @Test
+    void deveAuditar_deveUsarPoliticaConfiguradaEAmostragem() throws Exception {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("sghss.auditoria.politica.ProntuarioService.listarTodos", "nunca")
+                .withProperty("sghss.auditoria.politica.PacienteService.listarTodos", "amostra:100");
+        SeletorAuditoria seletor = new SeletorAuditoria(environment, "amostra", 25);
+
+        assertFalse(seletor.deveAuditar(ProntuarioService.class.getMethod("listarTodos")));
+        assertTrue(seletor.deveAuditar(PacienteService.class.getMethod("listarTodos")));
+
+        Method buscar = PacienteService.class.getMethod("buscarPorId", Long.class);
+        int auditadas = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (seletor.deveAuditar(buscar)) {
+                auditadas++;
+            }
+        }
+        assertTrue(auditadas > 2_000 && auditadas < 3_000, "auditadas: " + auditadas);
+    }
+}
@@ -0,0 +1,141 @@
+package br.com.vidaplus.sghss.repository;
+
+import br.com.vidaplus.sghss.dto.request.FiltroConsultaDTO;
+import br.com.vidaplus.sghss.dto.response.ConsultaResponseDTO;
+import br.com.vidaplus.sghss.model.Consulta;
+import br.com.vidaplus.sghss.model.Paciente;
+import br.com.vidaplus.sghss.model.ProfissionalSaude;
+import br.com.vidaplus.sghss.model.StatusConsulta;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de repositório (H2 em memória) para as projeções de consulta, verificando a quantidade
+ * de comandos SQL executados em cada leitura.
+ *
+ * @author Patricky Lucas
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+class ConsultaRepositoryTest {
+
+    private static final int CONSULTAS = 10;
+
+    @Autowired
+    private ConsultaRepository consultaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics estatisticas;
+    private Long profissionalId;
+
+    /**
+     * Cria consultas com pacientes e profissionais distintos, o pior caso para associações EAGER,
+     * e zera as estatísticas do Hibernate.
+     */
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < CONSULTAS; i++) {
+            Paciente paciente = new Paciente();
+            paciente.setNome("Paciente " + i);
+            paciente.setCpf(String.format("%011d", i));
+            paciente.setDataNascimento(LocalDate.of(1990, 1, 1));
+            paciente.setHistoricoClinico("-");
+            entityManager.persist(paciente);
+
+            ProfissionalSaude profissional = new ProfissionalSaude();
+            profissional.setNome("Profissional " + i);
+            profissional.setEspecialidade("Clínica Geral");
+            profissional.setRegistroProfissional("CRM-" + i);
+            entityManager.persist(profissional);
+            profissionalId = profissional.getId();
+
+            Consulta consulta = new Consulta();
+            consulta.setPaciente(paciente);
+            consulta.setProfissional(profissional);
+            consulta.setData(LocalDateTime.of(2025, 5, 10, 8, 0).plusMinutes(30L * i));
+            consulta.setStatus(StatusConsulta.AGENDADA);
+            entityManager.persist(consulta);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        estatisticas = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+    }
+
+    /**
+     * Testa se a listagem completa e a busca por ID executam um único SELECT, sem carregar entidades.
+     */
+    @Test
+    void listarRespostas_deveExecutarUmUnicoSelect() {
+        List<ConsultaResponseDTO> consultas = consultaRepository.listarRespostas();
+
+        assertEquals(CONSULTAS, consultas.size());
+        assertEquals("Paciente 0", consultas.get(0).getPacienteNome());
+        assertEquals("Profissional 9", consultas.get(CONSULTAS - 1).getProfissionalNome());
+        assertEquals(1, estatisticas.getPrepareStatementCount());
+        assertEquals(0, estatisticas.getEntityLoadCount());
+
+        ConsultaResponseDTO consulta = consultaRepository.buscarRespostaPorId(consultas.get(3).getId()).orElseThrow();
+        assertEquals("Paciente 3", consulta.getPacienteNome());
+        assertEquals(2, estatisticas.getPrepareStatementCount());
+    }
+
+    /**
+     * Testa se a busca paginada executa apenas o SELECT da página e o COUNT do total.
+     */
+    @Test
+    void buscar_deveExecutarSelectDaPaginaEContagem() {
+        Page<ConsultaResponseDTO> pagina = consultaRepository.buscar(new FiltroConsultaDTO(), PageRequest.of(1, 4));
+
+        assertEquals(CONSULTAS, pagina.getTotalElements());
+        assertEquals(List.of("Paciente 4", "Paciente 5", "Paciente 6", "Paciente 7"),
+                pagina.getContent().stream().map(ConsultaResponseDTO::getPacienteNome).toList());
+        assertEquals(2, estatisticas.getPrepareStatementCount());
+
+        FiltroConsultaDTO filtro = new FiltroConsultaDTO();
+        filtro.setProfissionalId(profissionalId);
+        filtro.setDe(LocalDateTime.of(2025, 5, 10, 0, 0));
+        filtro.setAte(LocalDateTime.of(2025, 5, 11, 0, 0));
+        Page<ConsultaResponseDTO> agenda = consultaRepository.buscar(filtro, PageRequest.of(0, 20));
+
+        assertEquals(1, agenda.getTotalElements());
+        assertEquals("Profissional 9", agenda.getContent().get(0).getProfissionalNome());
+        // Página incompleta: o total é deduzido sem COUNT
+        assertEquals(3, estatisticas.getPrepareStatementCount());
+        assertEquals(0, estatisticas.getEntityLoadCount());
+    }
+
+    /**
+     * Testa se o filtro de status compara o código gravado, aceitando o status sem acento ou em maiúsculas.
+     */
+    @Test
+    void buscar_deveFiltrarPeloCodigoDoStatus() {
+        FiltroConsultaDTO filtro = new FiltroConsultaDTO();
+        filtro.setStatus("AGENDADA");
+        Page<ConsultaResponseDTO> agendadas = consultaRepository.buscar(filtro, PageRequest.of(0, 20));
+        assertEquals(CONSULTAS, agendadas.getTotalElements());
+        assertEquals("Agendada", agendadas.getContent().get(0).getStatus());
+
+        filtro.setStatus("concluida");
+        assertEquals(0, consultaRepository.buscar(filtro, PageRequest.of(0, 20)).getTotalElements());
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.vidaplus.sghss.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o plano de manutenção das partições de auditoria.
+ *
+ * @author Patricky Lucas
+ */
+class PlanoParticoesTest {
+
+    /**
+     * Testa se, para a tabela recém-convertida (só pinicial), são criados o mês atual e os meses
+     * seguintes (os mesmos meses que a conversão já inclui).
+     */
+    @Test
+    void calcular_deveCriarMesAtualEMesesAdianteAposConversao() {
+        Map<String, LocalDateTime> existentes = new LinkedHashMap<>();
+        existentes.put("pinicial", LocalDateTime.of(2025, 5, 1, 0, 0));
+        existentes.put(PlanoParticoes.PARTICAO_FUTURA, null);
+
+        PlanoParticoes plano = PlanoParticoes.calcular(YearMonth.of(2025, 5), existentes, 2, 12);
+
+        assertEquals(List.of(YearMonth.of(2025, 5), YearMonth.of(2025, 6), YearMonth.of(2025, 7)), plano.getCriar());
+        assertTrue(plano.getRemover().isEmpty());
+        assertEquals("p202505", PlanoParticoes.nome(YearMonth.of(2025, 5)));
+    }
+
+    /**
+     * Testa se apenas as partições inteiramente anteriores à retenção são removidas
+     * e se só o mês que falta à frente é criado.
+     */
+    @Test
+    void calcular_deveRemoverParticoesForaDaRetencao() {
+        Map<String, LocalDateTime> existentes = new LinkedHashMap<>();
+        existentes.put("pinicial", LocalDateTime.of(2025, 1, 1, 0, 0));
+        for (YearMonth mes = YearMonth.of(2025, 1); !mes.isAfter(YearMonth.of(2025, 7)); mes = mes.plusMonths(1)) {
+            existentes.put(PlanoParticoes.nome(mes), PlanoParticoes.inicio(mes.plusMonths(1)));
+        }
+        existentes.put(PlanoParticoes.PARTICAO_FUTURA, null);
+
+        PlanoParticoes plano = PlanoParticoes.calcular(YearMonth.of(2025, 5), existentes, 3, 2);
+
+        assertEquals(List.of("pinicial", "p202501", "p202502"), plano.getRemover());
+        assertEquals(List.of(YearMonth.of(2025, 8)), plano.getCriar());
+    }
+}
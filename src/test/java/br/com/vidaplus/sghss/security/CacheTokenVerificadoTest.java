@@ -0,0 +1,64 @@
+package br.com.vidaplus.sghss.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o cache de tokens verificados.
+ *
+ * @author Patricky Lucas
+ */
+class CacheTokenVerificadoTest {
+
+    /**
+     * Testa se a segunda consulta do mesmo token não executa nova verificação.
+     */
+    @Test
+    void obter_deveReaproveitarVerificacaoParaMesmoToken() {
+        CacheTokenVerificado cache = new CacheTokenVerificado(10);
+        AtomicInteger verificacoes = new AtomicInteger();
+        TokenVerificado token = new TokenVerificado("user", Papeis.ADMIN, 0L, System.currentTimeMillis() + 60_000);
+
+        cache.obter("abc", t -> { verificacoes.incrementAndGet(); return Optional.of(token); });
+        Optional<TokenVerificado> segunda = cache.obter("abc", t -> { verificacoes.incrementAndGet(); return Optional.of(token); });
+
+        assertTrue(segunda.isPresent());
+        assertEquals(1, verificacoes.get());
+        assertEquals(1, cache.getAcertos());
+        assertEquals(1, cache.getFalhas());
+    }
+
+    /**
+     * Testa se uma entrada expirada não é devolvida e força nova verificação.
+     */
+    @Test
+    void obter_naoDeveDevolverTokenExpirado() {
+        CacheTokenVerificado cache = new CacheTokenVerificado(10);
+        TokenVerificado expirado = new TokenVerificado("user", 0, 0L, System.currentTimeMillis() - 1);
+
+        cache.obter("abc", t -> Optional.of(expirado));
+        Optional<TokenVerificado> resultado = cache.obter("abc", t -> Optional.empty());
+
+        assertTrue(resultado.isEmpty());
+        assertEquals(0, cache.getAcertos());
+    }
+
+    /**
+     * Testa se o cache respeita a capacidade máxima configurada.
+     */
+    @Test
+    void obter_deveRespeitarCapacidadeMaxima() {
+        CacheTokenVerificado cache = new CacheTokenVerificado(3);
+        long expira = System.currentTimeMillis() + 60_000;
+
+        for (int i = 0; i < 10; i++) {
+            cache.obter("token-" + i, t -> Optional.of(new TokenVerificado(t, 0, 0L, expira)));
+        }
+
+        assertTrue(cache.getTamanho() <= 3);
+    }
+}
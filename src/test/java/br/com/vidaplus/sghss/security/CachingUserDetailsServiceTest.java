@@ -0,0 +1,59 @@
+package br.com.vidaplus.sghss.security;
+
+import br.com.vidaplus.sghss.service.CustomUserDetailsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o serviço de detalhes do usuário com cache.
+ *
+ * @author Patricky Lucas
+ */
+class CachingUserDetailsServiceTest {
+
+    private CustomUserDetailsService delegate;
+    private CachingUserDetailsService cachingUserDetailsService;
+
+    /**
+     * Configuração inicial dos mocks antes de cada teste.
+     */
+    @BeforeEach
+    void setUp() {
+        delegate = mock(CustomUserDetailsService.class);
+        cachingUserDetailsService = new CachingUserDetailsService(delegate, 300, 100);
+        when(delegate.loadUserByUsername("user"))
+                .thenAnswer(i -> User.withUsername("user").password("hash").roles("MEDICO").build());
+    }
+
+    /**
+     * Testa se carregamentos repetidos do mesmo usuário consultam o banco apenas uma vez
+     * e se a cópia devolvida é independente da entrada em cache.
+     */
+    @Test
+    void loadUserByUsername_deveConsultarDelegateApenasUmaVez() {
+        UserDetails primeiro = cachingUserDetailsService.loadUserByUsername("user");
+        ((User) primeiro).eraseCredentials();
+        UserDetails segundo = cachingUserDetailsService.loadUserByUsername("user");
+
+        verify(delegate, times(1)).loadUserByUsername("user");
+        assertEquals("hash", segundo.getPassword());
+    }
+
+    /**
+     * Testa se o evento de alteração de usuário invalida a entrada em cache.
+     */
+    @Test
+    void aoAlterarUsuario_deveInvalidarEntrada() {
+        cachingUserDetailsService.loadUserByUsername("user");
+        cachingUserDetailsService.aoAlterarUsuario(new UsuarioAlteradoEvent("user"));
+        cachingUserDetailsService.loadUserByUsername("user");
+
+        verify(delegate, times(2)).loadUserByUsername("user");
+        assertEquals(1L, cachingUserDetailsService.metricas().get("invalidacoes"));
+    }
+}
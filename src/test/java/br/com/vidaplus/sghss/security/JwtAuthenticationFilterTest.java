@@ -0,0 +1,79 @@
+package br.com.vidaplus.sghss.security;
+
+import br.com.vidaplus.sghss.repository.UsuarioRevogadoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o filtro de autenticação JWT.
+ *
+ * @author Patricky Lucas
+ */
+class JwtAuthenticationFilterTest {
+
+    private JwtUtil jwtUtil;
+    private CacheTokenVerificado cacheTokens;
+    private JwtAuthenticationFilter filtro;
+    private String token;
+
+    /**
+     * Configuração inicial antes de cada teste.
+     */
+    @BeforeEach
+    void setUp() {
+        jwtUtil = spy(new JwtUtil());
+        cacheTokens = new CacheTokenVerificado(100);
+        filtro = new JwtAuthenticationFilter(jwtUtil, mock(UserDetailsService.class), cacheTokens,
+                new RevogacaoUsuarios(mock(UsuarioRevogadoRepository.class)), true);
+        token = jwtUtil.generateToken(User.withUsername("medico").password("x").roles("MEDICO").build());
+    }
+
+    /**
+     * Limpa o contexto de segurança após cada teste.
+     */
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Testa se o filtro autentica a requisição em uma rota protegida.
+     */
+    @Test
+    void doFilter_deveAutenticarEmRotaProtegida() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/consultas/1");
+        request.setServletPath("/api/consultas/1");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        filtro.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals("medico", SecurityContextHolder.getContext().getAuthentication().getName());
+        verify(jwtUtil).verificarToken(token);
+    }
+
+    /**
+     * Testa se o filtro ignora o token em rotas públicas, sem verificá-lo nem consultar o cache.
+     */
+    @Test
+    void doFilter_naoDeveProcessarTokenEmRotaPublica() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setServletPath("/api/auth/login");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        filtro.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(jwtUtil, never()).verificarToken(anyString());
+        assertEquals(0, cacheTokens.getFalhas());
+    }
+}
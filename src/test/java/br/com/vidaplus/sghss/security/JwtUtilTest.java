@@ -0,0 +1,75 @@
+package br.com.vidaplus.sghss.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o utilitário JWT.
+ * Verifica a geração de tokens e a verificação única de assinatura e validade.
+ *
+ * @author Patricky Lucas
+ */
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    /**
+     * Configuração inicial antes de cada teste.
+     */
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+    }
+
+    /**
+     * Testa se um token gerado é verificado corretamente, trazendo usuário, máscara de papéis e expiração.
+     */
+    @Test
+    void verificarToken_deveRetornarDadosDoTokenValido() {
+        UserDetails userDetails = User.withUsername("medico").password("x").roles("MEDICO").build();
+        String token = jwtUtil.generateToken(userDetails);
+
+        Optional<TokenVerificado> verificado = jwtUtil.verificarToken(token);
+
+        assertTrue(verificado.isPresent());
+        assertEquals("medico", verificado.get().getUsername());
+        assertEquals(Papeis.MEDICO, verificado.get().getPapeis());
+        assertFalse(verificado.get().expirado(System.currentTimeMillis()));
+        assertTrue(jwtUtil.validateToken(token, "medico"));
+    }
+
+    /**
+     * Testa se um token com assinatura adulterada é rejeitado sem lançar exceção.
+     */
+    @Test
+    void verificarToken_deveRetornarVazioQuandoAssinaturaInvalida() {
+        UserDetails userDetails = User.withUsername("medico").password("x").roles("MEDICO").build();
+        String token = jwtUtil.generateToken(userDetails);
+        String adulterado = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertTrue(jwtUtil.verificarToken(adulterado).isEmpty());
+        assertTrue(jwtUtil.verificarToken("nao-e-um-jwt").isEmpty());
+    }
+
+    /**
+     * Testa se o refresh token é identificado como tal, com identificador único e sem papéis.
+     */
+    @Test
+    void generateRefreshToken_deveGerarTokenDeRenovacao() {
+        TokenVerificado refresh = jwtUtil.verificarToken(jwtUtil.generateRefreshToken("medico")).orElseThrow();
+
+        assertTrue(refresh.isRefresh());
+        assertNotNull(refresh.getId());
+        assertEquals("medico", refresh.getUsername());
+        assertEquals(0, refresh.getPapeis());
+
+        UserDetails userDetails = User.withUsername("medico").password("x").roles("MEDICO").build();
+        assertFalse(jwtUtil.verificarToken(jwtUtil.generateToken(userDetails)).orElseThrow().isRefresh());
+    }
+}
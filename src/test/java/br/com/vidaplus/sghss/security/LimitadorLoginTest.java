@@ -0,0 +1,72 @@
+package br.com.vidaplus.sghss.security;
+
+import br.com.vidaplus.sghss.exception.TentativasExcedidasException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o limitador de tentativas de login.
+ *
+ * @author Patricky Lucas
+ */
+class LimitadorLoginTest {
+
+    /**
+     * Testa se o usuário é bloqueado após a rajada permitida e liberado após a reposição do balde.
+     */
+    @Test
+    void verificar_deveBloquearUsuarioAposRajadaELiberarAposReposicao() {
+        LimitadorLogin limitador = new LimitadorLogin(3, 60, 100, 6000, 1000);
+        long agora = System.nanoTime();
+
+        for (int i = 0; i < 3; i++) {
+            limitador.verificar("User", "10.0.0." + i, agora);
+        }
+        TentativasExcedidasException ex = assertThrows(TentativasExcedidasException.class,
+                () -> limitador.verificar("user", "10.0.0.9", agora));
+        assertEquals(1, ex.getSegundosParaNovaTentativa());
+
+        assertDoesNotThrow(() -> limitador.verificar("user", "10.0.0.9", agora + TimeUnit.SECONDS.toNanos(1)));
+        assertEquals(1L, limitador.metricas().get("rejeicoesUsuario"));
+    }
+
+    /**
+     * Testa se o limite por IP se aplica independentemente do usuário informado.
+     */
+    @Test
+    void verificar_deveBloquearIpIndependenteDoUsuario() {
+        LimitadorLogin limitador = new LimitadorLogin(100, 600, 2, 60, 1000);
+        long agora = System.nanoTime();
+
+        limitador.verificar("a", "10.0.0.1", agora);
+        limitador.verificar("b", "10.0.0.1", agora);
+
+        assertThrows(TentativasExcedidasException.class, () -> limitador.verificar("c", "10.0.0.1", agora));
+        assertDoesNotThrow(() -> limitador.verificar("c", "10.0.0.2", agora));
+        assertEquals(1L, limitador.metricas().get("rejeicoesIp"));
+    }
+
+    /**
+     * Testa se, com a tabela cheia de chaves ativas, uma nova chave é rejeitada até a primeira
+     * chave existente ficar ociosa, em vez de passar sem limite.
+     */
+    @Test
+    void verificar_deveRejeitarNovaChaveComTabelaCheia() {
+        LimitadorLogin limitador = new LimitadorLogin(5, 5, 100, 6000, 2);
+        long agora = System.nanoTime();
+
+        limitador.verificar("a", "10.0.0.1", agora);
+        limitador.verificar("b", "10.0.0.1", agora);
+
+        TentativasExcedidasException ex = assertThrows(TentativasExcedidasException.class,
+                () -> limitador.verificar("c", "10.0.0.1", agora));
+        assertEquals(12, ex.getSegundosParaNovaTentativa());
+        assertEquals(1L, limitador.metricas().get("rejeicoesTabelaCheia"));
+
+        assertDoesNotThrow(() -> limitador.verificar("c", "10.0.0.1", agora + TimeUnit.SECONDS.toNanos(12)));
+        assertEquals(2L, limitador.metricas().get("removidasOciosas"));
+    }
+}
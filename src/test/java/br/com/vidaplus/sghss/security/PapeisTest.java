@@ -0,0 +1,46 @@
+package br.com.vidaplus.sghss.security;
+
+import br.com.vidaplus.sghss.model.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a representação dos papéis como máscara de bits.
+ *
+ * @author Patricky Lucas
+ */
+class PapeisTest {
+
+    /**
+     * Testa a conversão entre roles persistidas, máscara e authorities compartilhadas.
+     */
+    @Test
+    void autoridades_deveReutilizarInstanciasPorMascara() {
+        int mascara = Papeis.deRoles(Set.of(new Role("ADMIN"), new Role("MEDICO"), new Role("OUTRO")));
+
+        assertEquals(Papeis.ADMIN | Papeis.MEDICO, mascara);
+        assertSame(Papeis.autoridades(mascara), Papeis.autoridades(mascara));
+        assertEquals(AuthorityUtils.createAuthorityList("ROLE_ADMIN", "ROLE_MEDICO"), Papeis.autoridades(mascara));
+        assertEquals(mascara, Papeis.deAutoridades(Papeis.autoridades(mascara)));
+    }
+
+    /**
+     * Testa a verificação de papéis tanto para autenticações do filtro JWT quanto para autenticações comuns.
+     */
+    @Test
+    void possuiAlgum_deveTestarBitsDaAutenticacao() {
+        AutenticacaoPapeis paciente = new AutenticacaoPapeis("user", Papeis.PACIENTE);
+        UsernamePasswordAuthenticationToken medico = new UsernamePasswordAuthenticationToken("medico", null,
+                AuthorityUtils.createAuthorityList("ROLE_MEDICO"));
+
+        assertFalse(Papeis.possuiAlgum(paciente, Papeis.ADMIN | Papeis.MEDICO));
+        assertTrue(Papeis.possuiAlgum(paciente, Papeis.PACIENTE));
+        assertTrue(Papeis.possuiAlgum(medico, Papeis.ADMIN | Papeis.MEDICO));
+        assertFalse(Papeis.possuiAlgum(null, Papeis.ADMIN));
+    }
+}
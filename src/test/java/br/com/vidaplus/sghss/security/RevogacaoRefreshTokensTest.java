@@ -0,0 +1,46 @@
+package br.com.vidaplus.sghss.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a lista de refresh tokens revogados.
+ *
+ * @author Patricky Lucas
+ */
+class RevogacaoRefreshTokensTest {
+
+    /**
+     * Testa se a revogação é atômica (só a primeira chamada revoga) e se a consulta a reconhece.
+     */
+    @Test
+    void revogar_deveMarcarTokenUmaUnicaVez() {
+        RevogacaoRefreshTokens revogacao = new RevogacaoRefreshTokens(1024);
+        long expira = System.currentTimeMillis() + JwtUtil.VALIDADE_REFRESH_TOKEN_MILLIS;
+
+        assertFalse(revogacao.estaRevogado("jti-1", expira));
+        assertTrue(revogacao.revogar("jti-1", expira));
+        assertFalse(revogacao.revogar("jti-1", expira));
+        assertTrue(revogacao.estaRevogado("jti-1", expira));
+    }
+
+    /**
+     * Testa se identificadores não revogados nunca são reportados como revogados,
+     * mesmo quando o filtro de Bloom dá falso positivo.
+     */
+    @Test
+    void estaRevogado_naoDeveReportarFalsosPositivos() {
+        RevogacaoRefreshTokens revogacao = new RevogacaoRefreshTokens(64);
+        long expira = System.currentTimeMillis() + 60_000;
+        for (int i = 0; i < 200; i++) {
+            revogacao.revogar(UUID.randomUUID().toString(), expira);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            assertFalse(revogacao.estaRevogado(UUID.randomUUID().toString(), expira));
+        }
+    }
+}
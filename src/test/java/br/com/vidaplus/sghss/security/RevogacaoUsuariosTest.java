@@ -0,0 +1,93 @@
+package br.com.vidaplus.sghss.security;
+
+import br.com.vidaplus.sghss.model.UsuarioRevogado;
+import br.com.vidaplus.sghss.repository.UsuarioRevogadoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a revogação de usuários compartilhada entre instâncias.
+ * O repositório simulado guarda as revogações em um mapa, como a tabela usuarios_revogados.
+ *
+ * @author Patricky Lucas
+ */
+class RevogacaoUsuariosTest {
+
+    private Map<String, Long> tabela;
+    private UsuarioRevogadoRepository repository;
+
+    /**
+     * Configuração do repositório simulado antes de cada teste.
+     */
+    @BeforeEach
+    void setUp() {
+        tabela = new ConcurrentHashMap<>();
+        repository = mock(UsuarioRevogadoRepository.class);
+        when(repository.save(any(UsuarioRevogado.class))).thenAnswer(i -> {
+            UsuarioRevogado revogado = i.getArgument(0);
+            tabela.put(revogado.getUsername(), revogado.getRevogadoEm());
+            return revogado;
+        });
+        when(repository.findByRevogadoEmGreaterThanEqual(anyLong())).thenAnswer(i -> {
+            long desde = i.getArgument(0);
+            return tabela.entrySet().stream()
+                    .filter(e -> e.getValue() >= desde)
+                    .map(e -> new UsuarioRevogado(e.getKey(), e.getValue()))
+                    .toList();
+        });
+    }
+
+    /**
+     * Testa se a revogação feita em uma instância vale em outra (ou na mesma após reiniciar)
+     * depois da carga inicial, apenas para tokens emitidos até a revogação.
+     */
+    @Test
+    void carregar_deveAplicarRevogacaoFeitaEmOutraInstancia() {
+        long antes = System.currentTimeMillis() - 1_000;
+        RevogacaoUsuarios origem = new RevogacaoUsuarios(repository);
+        origem.revogar("medico");
+
+        RevogacaoUsuarios reiniciada = new RevogacaoUsuarios(repository);
+        assertFalse(reiniciada.estaRevogado(token("medico", antes)));
+        reiniciada.carregar();
+
+        assertTrue(reiniciada.estaRevogado(token("medico", antes)));
+        assertFalse(reiniciada.estaRevogado(token("medico", System.currentTimeMillis() + 1_000)));
+        assertFalse(reiniciada.estaRevogado(token("enfermeiro", antes)));
+    }
+
+    /**
+     * Testa se a sincronização periódica traz revogações feitas depois da carga inicial
+     * e se uma falha do banco mantém as revogações já conhecidas.
+     */
+    @Test
+    void sincronizar_deveTrazerRevogacoesNovasEManterAsConhecidasEmFalha() {
+        long antes = System.currentTimeMillis() - 1_000;
+        RevogacaoUsuarios instancia = new RevogacaoUsuarios(repository);
+        instancia.carregar();
+
+        new RevogacaoUsuarios(repository).revogar("medico");
+        instancia.sincronizar();
+        assertTrue(instancia.estaRevogado(token("medico", antes)));
+
+        when(repository.findByRevogadoEmGreaterThanEqual(anyLong()))
+                .thenThrow(new DataAccessResourceFailureException("Banco indisponível"));
+        instancia.sincronizar();
+
+        assertTrue(instancia.estaRevogado(token("medico", antes)));
+        assertEquals(2L, instancia.metricas().get("sincronizacoes"));
+        assertEquals(1L, instancia.metricas().get("falhasSincronizacao"));
+    }
+
+    private static TokenVerificado token(String username, long emitidoEmMillis) {
+        return new TokenVerificado(username, 0, emitidoEmMillis, emitidoEmMillis + 60_000);
+    }
+}
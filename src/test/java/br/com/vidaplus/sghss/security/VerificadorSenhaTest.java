@@ -0,0 +1,67 @@
+package br.com.vidaplus.sghss.security;
+
+import br.com.vidaplus.sghss.exception.ServicoSobrecarregadoException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o verificador de senhas com pool limitado.
+ *
+ * @author Patricky Lucas
+ */
+class VerificadorSenhaTest {
+
+    /**
+     * Testa se a verificação devolve o resultado do codificador de senhas.
+     */
+    @Test
+    void confere_deveValidarSenhaNoPool() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        VerificadorSenha verificador = new VerificadorSenha(encoder, 1, 1, 5000);
+        String hash = encoder.encode("senha123");
+
+        assertTrue(verificador.confere("senha123", hash));
+        assertFalse(verificador.confere("outraSenha", hash));
+        assertEquals(2L, verificador.metricas().get("verificacoes"));
+        verificador.encerrar();
+    }
+
+    /**
+     * Testa se, com a thread ocupada e a fila cheia, novas verificações são rejeitadas imediatamente.
+     */
+    @Test
+    void confere_deveRejeitarQuandoFilaCheia() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch emExecucao = new CountDownLatch(1);
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.matches(anyString(), anyString())).thenAnswer(i -> {
+            emExecucao.countDown();
+            liberar.await();
+            return true;
+        });
+        VerificadorSenha verificador = new VerificadorSenha(encoder, 1, 1, 5000);
+
+        CompletableFuture<Boolean> primeira = CompletableFuture.supplyAsync(() -> verificador.confere("a", "h"));
+        assertTrue(emExecucao.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> enfileirada = CompletableFuture.supplyAsync(() -> verificador.confere("b", "h"));
+        while (((Number) verificador.metricas().get("fila")).intValue() == 0) {
+            Thread.onSpinWait();
+        }
+
+        assertThrows(ServicoSobrecarregadoException.class, () -> verificador.confere("c", "h"));
+        assertEquals(1L, verificador.metricas().get("rejeicoes"));
+
+        liberar.countDown();
+        assertTrue(primeira.get(5, TimeUnit.SECONDS));
+        assertTrue(enfileirada.get(5, TimeUnit.SECONDS));
+        verificador.encerrar();
+    }
+}
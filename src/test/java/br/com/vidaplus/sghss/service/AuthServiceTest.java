@@ -1,10 +1,17 @@
 package br.com.vidaplus.sghss.service;
 
+import br.com.vidaplus.sghss.dto.request.RefreshTokenRequestDTO;
 import br.com.vidaplus.sghss.dto.response.JwtResponseDTO;
 import br.com.vidaplus.sghss.exception.RecursoNaoEncontradoException;
+import br.com.vidaplus.sghss.exception.ServicoSobrecarregadoException;
 import br.com.vidaplus.sghss.model.Usuario;
 import br.com.vidaplus.sghss.repository.UsuarioRepository;
+import br.com.vidaplus.sghss.repository.UsuarioRevogadoRepository;
 import br.com.vidaplus.sghss.security.JwtUtil;
+import br.com.vidaplus.sghss.security.RevogacaoRefreshTokens;
+import br.com.vidaplus.sghss.security.RevogacaoUsuarios;
+import br.com.vidaplus.sghss.security.VerificadorSenha;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.core.userdetails.User;
@@ -32,6 +39,7 @@ class AuthServiceTest {
     private UsuarioRepository usuarioRepository;
     private JwtUtil jwtUtil;
     private UserDetailsService userDetailsService;
+    private VerificadorSenha verificadorSenha;
     private AuthService authService;
 
     /**
@@ -42,7 +50,18 @@ class AuthServiceTest {
         usuarioRepository = mock(UsuarioRepository.class);
         jwtUtil = mock(JwtUtil.class);
         userDetailsService = mock(UserDetailsService.class);
-        authService = new AuthService(usuarioRepository, jwtUtil, userDetailsService);
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+        verificadorSenha = new VerificadorSenha(passwordEncoder, 1, 4, 5000);
+        authService = new AuthService(usuarioRepository, jwtUtil, userDetailsService, passwordEncoder, verificadorSenha,
+                new RevogacaoUsuarios(mock(UsuarioRevogadoRepository.class)), new RevogacaoRefreshTokens(1024));
+    }
+
+    /**
+     * Encerra o pool do verificador de senhas após cada teste.
+     */
+    @AfterEach
+    void tearDown() {
+        verificadorSenha.encerrar();
     }
 
     /**
@@ -134,4 +153,64 @@ class AuthServiceTest {
 
         assertThrows(RecursoNaoEncontradoException.class, () -> authService.login(username, senhaErrada));
     }
-}
\ No newline at end of file
+
+    /**
+     * Testa o caso em que o verificador de senhas está saturado,
+     * esperando que a sobrecarga seja propagada sem gerar token.
+     */
+    @Test
+    void login_devePropagarSobrecargaQuandoVerificadorSaturado() {
+        String username = "user";
+        UserDetails userDetails = User.withUsername(username).password("hash").roles("USER").build();
+        VerificadorSenha saturado = mock(VerificadorSenha.class);
+        when(saturado.confere(anyString(), anyString())).thenThrow(new ServicoSobrecarregadoException("cheio"));
+        when(userDetailsService.loadUserByUsername(username)).thenReturn(userDetails);
+        AuthService servico = new AuthService(usuarioRepository, jwtUtil, userDetailsService,
+                new BCryptPasswordEncoder(), saturado, new RevogacaoUsuarios(mock(UsuarioRevogadoRepository.class)),
+                new RevogacaoRefreshTokens(1024));
+
+        assertThrows(ServicoSobrecarregadoException.class, () -> servico.login(username, "senha123"));
+        verify(jwtUtil, never()).generateToken(any());
+    }
+
+    /**
+     * Testa a rotação do refresh token: a renovação emite um novo par de tokens
+     * e a reutilização do refresh token antigo é rejeitada e revoga a sessão do usuário.
+     */
+    @Test
+    void renovar_deveRotacionarERejeitarReutilizacao() {
+        JwtUtil jwtReal = new JwtUtil();
+        RevogacaoUsuarios revogacaoUsuarios = new RevogacaoUsuarios(mock(UsuarioRevogadoRepository.class));
+        AuthService servico = new AuthService(usuarioRepository, jwtReal, userDetailsService,
+                new BCryptPasswordEncoder(), verificadorSenha, revogacaoUsuarios, new RevogacaoRefreshTokens(1024));
+        UserDetails userDetails = User.withUsername("user").password("hash").roles("MEDICO").build();
+        when(userDetailsService.loadUserByUsername("user")).thenReturn(userDetails);
+
+        RefreshTokenRequestDTO request = new RefreshTokenRequestDTO();
+        request.setRefreshToken(jwtReal.generateRefreshToken("user"));
+
+        JwtResponseDTO renovado = servico.renovar(request);
+
+        assertNotNull(renovado.getToken());
+        assertNotEquals(request.getRefreshToken(), renovado.getRefreshToken());
+        assertThrows(RecursoNaoEncontradoException.class, () -> servico.renovar(request));
+        assertTrue(revogacaoUsuarios.estaRevogado(jwtReal.verificarToken(renovado.getRefreshToken()).orElseThrow()));
+    }
+
+    /**
+     * Testa se um token de acesso não pode ser usado como refresh token.
+     */
+    @Test
+    void renovar_deveRejeitarTokenDeAcesso() {
+        JwtUtil jwtReal = new JwtUtil();
+        AuthService servico = new AuthService(usuarioRepository, jwtReal, userDetailsService,
+                new BCryptPasswordEncoder(), verificadorSenha, new RevogacaoUsuarios(mock(UsuarioRevogadoRepository.class)),
+                new RevogacaoRefreshTokens(1024));
+        UserDetails userDetails = User.withUsername("user").password("hash").roles("MEDICO").build();
+
+        RefreshTokenRequestDTO request = new RefreshTokenRequestDTO();
+        request.setRefreshToken(jwtReal.generateToken(userDetails));
+
+        assertThrows(RecursoNaoEncontradoException.class, () -> servico.renovar(request));
+    }
+}
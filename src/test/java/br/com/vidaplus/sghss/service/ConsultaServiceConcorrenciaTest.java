@@ -0,0 +1,191 @@
+package br.com.vidaplus.sghss.service;
+
+import br.com.vidaplus.sghss.agenda.AgendaDisponibilidade;
+import br.com.vidaplus.sghss.agenda.TravasAgenda;
+import br.com.vidaplus.sghss.exception.ConflitoAgendamentoException;
+import br.com.vidaplus.sghss.model.Consulta;
+import br.com.vidaplus.sghss.model.Paciente;
+import br.com.vidaplus.sghss.model.ProfissionalSaude;
+import br.com.vidaplus.sghss.model.StatusConsulta;
+import br.com.vidaplus.sghss.repository.ConsultaRepository;
+import br.com.vidaplus.sghss.repository.PacienteRepository;
+import br.com.vidaplus.sghss.repository.ProfissionalSaudeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Teste de concorrência (H2 em memória) do agendamento: muitas threads disputam o mesmo horário
+ * do mesmo profissional e exatamente uma consulta deve ser gravada, com as demais rejeitadas
+ * por conflito. Cada gravação é confirmada imediatamente, sem a transação do teste, e o banco
+ * espera pela trava de linha do profissional em vez de falhar por timeout.
+ *
+ * @author Patricky Lucas
+ */
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:concorrencia;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ConsultaServiceConcorrenciaTest {
+
+    private static final int THREADS = 32;
+    private static final LocalDateTime HORARIO = LocalDateTime.of(2025, 6, 2, 10, 0);
+
+    @Autowired
+    private ConsultaRepository consultaRepository;
+
+    @Autowired
+    private PacienteRepository pacienteRepository;
+
+    @Autowired
+    private ProfissionalSaudeRepository profissionalSaudeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private AgendaDisponibilidade agendaDisponibilidade;
+    private ProfissionalSaude profissional;
+    private List<Paciente> pacientes;
+
+    @BeforeEach
+    void setUp() {
+        agendaDisponibilidade = mock(AgendaDisponibilidade.class);
+        when(agendaDisponibilidade.duracaoAtendimentoMinutos(any(), any())).thenReturn(30);
+
+        profissional = new ProfissionalSaude();
+        profissional.setNome("Profissional");
+        profissional.setEspecialidade("Clínica Geral");
+        profissional.setRegistroProfissional("CRM-1");
+        profissional = profissionalSaudeRepository.save(profissional);
+
+        pacientes = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Paciente paciente = new Paciente();
+            paciente.setNome("Paciente " + i);
+            paciente.setCpf(String.format("%011d", i));
+            paciente.setDataNascimento(LocalDate.of(1990, 1, 1));
+            paciente.setHistoricoClinico("-");
+            pacientes.add(pacienteRepository.save(paciente));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        consultaRepository.deleteAll();
+        pacienteRepository.deleteAll();
+        profissionalSaudeRepository.deleteAll();
+    }
+
+    /**
+     * Testa se, no mesmo nó, a trava da faixa do profissional deixa apenas um agendamento vencer
+     * (horários sobrepostos, não apenas idênticos).
+     */
+    @Test
+    void salvarConsulta_mesmoNo_deveGravarApenasUmaConsulta() throws Exception {
+        ConsultaService consultaService = new ConsultaService(consultaRepository, mock(ProfissionalSaudeService.class),
+                agendaDisponibilidade, new TravasAgenda(64), transactionManager);
+
+        disputar(i -> consultaService, i -> HORARIO.plusMinutes(i % 3 * 10));
+    }
+
+    /**
+     * Testa se, com uma instância do serviço (e de travas) por thread, como em nós diferentes,
+     * apenas um agendamento vence no mesmo intervalo da chave única.
+     */
+    @Test
+    void salvarConsulta_nosDiferentes_mesmoSlot_deveGravarApenasUmaConsulta() throws Exception {
+        disputar(i -> new ConsultaService(consultaRepository, mock(ProfissionalSaudeService.class),
+                agendaDisponibilidade, new TravasAgenda(64), transactionManager), i -> HORARIO.plusMinutes(i % 2 * 5));
+    }
+
+    /**
+     * Testa se, em nós diferentes, consultas de 30 minutos em intervalos adjacentes da chave única
+     * (10:00 e 10:15) não se sobrepõem: a trava da linha do profissional serializa a verificação.
+     */
+    @Test
+    void salvarConsulta_nosDiferentes_slotsAdjacentes_deveGravarApenasUmaConsulta() throws Exception {
+        disputar(i -> new ConsultaService(consultaRepository, mock(ProfissionalSaudeService.class),
+                agendaDisponibilidade, new TravasAgenda(64), transactionManager),
+                i -> HORARIO.plusMinutes(i % 2 * Consulta.MINUTOS_POR_SLOT));
+    }
+
+    /**
+     * Testa se o cancelamento libera o intervalo na chave única para um novo agendamento.
+     */
+    @Test
+    void salvarConsulta_deveReaproveitarHorarioCancelado() {
+        ConsultaService consultaService = new ConsultaService(consultaRepository, mock(ProfissionalSaudeService.class),
+                agendaDisponibilidade, new TravasAgenda(64), transactionManager);
+        Consulta primeira = consultaService.salvarConsulta(new Consulta(StatusConsulta.AGENDADA, null, pacientes.get(0), profissional, HORARIO));
+        assertThrows(ConflitoAgendamentoException.class, () -> consultaService.salvarConsulta(
+                new Consulta(StatusConsulta.AGENDADA, null, pacientes.get(1), profissional, HORARIO)));
+
+        primeira.setStatus(StatusConsulta.CANCELADA);
+        consultaService.salvarConsulta(primeira);
+        consultaService.salvarConsulta(new Consulta(StatusConsulta.AGENDADA, null, pacientes.get(1), profissional, HORARIO));
+
+        assertEquals(2, consultaRepository.count());
+    }
+
+    private void disputar(IntFunction<ConsultaService> servico, IntFunction<LocalDateTime> horario) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger gravadas = new AtomicInteger();
+        AtomicInteger conflitos = new AtomicInteger();
+        List<Future<?>> tarefas = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                ConsultaService consultaService = servico.apply(i);
+                Consulta consulta = new Consulta(StatusConsulta.AGENDADA, null, pacientes.get(i), profissional, horario.apply(i));
+                tarefas.add(executor.submit(() -> {
+                    largada.await();
+                    try {
+                        consultaService.salvarConsulta(consulta);
+                        gravadas.incrementAndGet();
+                    } catch (ConflitoAgendamentoException ex) {
+                        conflitos.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, gravadas.get());
+        assertEquals(THREADS - 1, conflitos.get());
+        assertEquals(1, consultaRepository.count());
+    }
+}
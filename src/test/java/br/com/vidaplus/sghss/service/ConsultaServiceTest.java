@@ -1,14 +1,25 @@
 package br.com.vidaplus.sghss.service;
 
+import br.com.vidaplus.sghss.agenda.AgendaDisponibilidade;
+import br.com.vidaplus.sghss.agenda.TravasAgenda;
 import br.com.vidaplus.sghss.dto.request.ConsultaRequestDTO;
+import br.com.vidaplus.sghss.dto.request.FiltroConsultaDTO;
+import br.com.vidaplus.sghss.dto.response.ConsultaResponseDTO;
+import br.com.vidaplus.sghss.exception.ConflitoAgendamentoException;
 import br.com.vidaplus.sghss.exception.OperacaoNaoPermitidaException;
+import br.com.vidaplus.sghss.exception.ParametroInvalidoException;
 import br.com.vidaplus.sghss.exception.RecursoNaoEncontradoException;
 import br.com.vidaplus.sghss.model.Consulta;
 import br.com.vidaplus.sghss.model.Paciente;
 import br.com.vidaplus.sghss.model.ProfissionalSaude;
+import br.com.vidaplus.sghss.model.StatusConsulta;
 import br.com.vidaplus.sghss.repository.ConsultaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -42,18 +53,54 @@ class ConsultaServiceTest {
         consultaRepository = mock(ConsultaRepository.class);
         profissionalSaudeService = mock(ProfissionalSaudeService.class);
         pacienteService = mock(PacienteService.class);
-        consultaService = new ConsultaService(consultaRepository, profissionalSaudeService);
+        consultaService = new ConsultaService(consultaRepository, profissionalSaudeService,
+                mock(AgendaDisponibilidade.class), new TravasAgenda(1), mock(PlatformTransactionManager.class));
     }
 
     /**
-     * Testa a listagem de todas as consultas, verificando se retorna uma lista não vazia.
+     * Testa a listagem de todas as consultas, verificando se usa a projeção no DTO de resposta
+     * e não carrega as entidades.
      */
     @Test
-    void listarTodas_deveRetornarListaDeConsultas() {
-        Consulta consulta = new Consulta();
-        when(consultaRepository.findAll()).thenReturn(List.of(consulta));
-        List<Consulta> consultas = consultaService.listarTodas();
+    void listarRespostas_deveRetornarListaDeConsultas() {
+        ConsultaResponseDTO resposta = new ConsultaResponseDTO(1L, "Agendada", LocalDateTime.of(2025, 6, 2, 10, 0),
+                3L, "Ana", 2L, "Dr. João");
+        when(consultaRepository.listarRespostas()).thenReturn(List.of(resposta));
+        List<ConsultaResponseDTO> consultas = consultaService.listarRespostas();
         assertEquals(1, consultas.size());
+        verify(consultaRepository, never()).findAll();
+    }
+
+    /**
+     * Testa se a busca com filtros delega ao repositório com a paginação recebida.
+     */
+    @Test
+    void buscar_deveDelegarFiltroEPaginacaoAoRepositorio() {
+        FiltroConsultaDTO filtro = new FiltroConsultaDTO();
+        filtro.setProfissionalId(2L);
+        filtro.setDe(LocalDateTime.of(2025, 5, 10, 0, 0));
+        filtro.setAte(LocalDateTime.of(2025, 5, 11, 0, 0));
+        PageRequest paginacao = PageRequest.of(0, 20);
+        ConsultaResponseDTO resposta = new ConsultaResponseDTO(1L, "Agendada", filtro.getDe(), 3L, "Ana", 2L, "Dr. João");
+        when(consultaRepository.buscar(filtro, paginacao)).thenReturn(new PageImpl<>(List.of(resposta), paginacao, 1));
+
+        Page<ConsultaResponseDTO> pagina = consultaService.buscar(filtro, paginacao);
+
+        assertEquals(1, pagina.getTotalElements());
+        verify(consultaRepository).buscar(filtro, paginacao);
+    }
+
+    /**
+     * Testa se um intervalo de datas invertido é rejeitado sem consultar o banco.
+     */
+    @Test
+    void buscar_deveLancarExcecaoQuandoIntervaloInvertido() {
+        FiltroConsultaDTO filtro = new FiltroConsultaDTO();
+        filtro.setDe(LocalDateTime.of(2025, 5, 11, 0, 0));
+        filtro.setAte(LocalDateTime.of(2025, 5, 10, 0, 0));
+
+        assertThrows(ParametroInvalidoException.class, () -> consultaService.buscar(filtro, PageRequest.of(0, 20)));
+        verifyNoInteractions(consultaRepository);
     }
 
     /**
@@ -89,6 +136,26 @@ class ConsultaServiceTest {
         assertEquals(consulta, salvo);
     }
 
+    /**
+     * Testa se o agendamento é rejeitado, sem gravar, quando o profissional já tem consulta sobreposta.
+     */
+    @Test
+    void salvarConsulta_deveLancarExcecaoQuandoHorarioOcupado() {
+        ProfissionalSaude profissional = new ProfissionalSaude();
+        profissional.setId(3L);
+        LocalDateTime data = LocalDateTime.of(2025, 6, 2, 10, 0);
+        Consulta consulta = new Consulta(StatusConsulta.AGENDADA, null, new Paciente(), profissional, data);
+        when(consultaRepository.existeConflito(3L, data.minusMinutes(15), data.plusMinutes(15), null)).thenReturn(true);
+
+        assertThrows(ConflitoAgendamentoException.class, () -> consultaService.salvarConsulta(consulta));
+        verify(consultaRepository, never()).save(any());
+
+        // Consulta cancelada não ocupa horário
+        consulta.setStatus(StatusConsulta.CANCELADA);
+        when(consultaRepository.save(consulta)).thenReturn(consulta);
+        assertEquals(consulta, consultaService.salvarConsulta(consulta));
+    }
+
     /**
      * Testa a exclusão de uma consulta, verificando se o método deleteById é chamado com o ID correto.
      */
@@ -99,19 +166,19 @@ class ConsultaServiceTest {
     }
 
     /**
-     * Testa a atualização de uma consulta, verificando se o status é atualizado corretamente quando a consulta não está concluída.
-     * Também verifica se o paciente e profissional são atualizados corretamente.
+     * Testa a atualização de uma consulta, verificando se o status é atualizado corretamente quando a consulta não está concluída
+     * (status informado sem acento). Também verifica se o paciente e profissional são atualizados corretamente.
      */
     @Test
     void atualizarConsulta_deveAtualizarQuandoNaoConcluida() {
         Consulta consulta = new Consulta();
-        consulta.setStatus("Agendada");
+        consulta.setStatus(StatusConsulta.CONFIRMADA);
         consulta.setId(1L);
 
         ConsultaRequestDTO dto = new ConsultaRequestDTO();
         dto.setPacienteId(2L);
         dto.setProfissionalId(3L);
-        dto.setStatus("Concluída");
+        dto.setStatus("concluida");
         dto.setData(LocalDateTime.now());
 
         Paciente paciente = new Paciente();
@@ -125,11 +192,35 @@ class ConsultaServiceTest {
         when(consultaRepository.save(any(Consulta.class))).thenReturn(consulta);
 
         Consulta atualizado = consultaService.atualizarConsulta(1L, dto, pacienteService);
-        assertEquals("Concluída", atualizado.getStatus());
+        assertEquals(StatusConsulta.CONCLUIDA, atualizado.getStatus());
         assertEquals(paciente, atualizado.getPaciente());
         assertEquals(profissional, atualizado.getProfissional());
     }
 
+    /**
+     * Testa a atualização de uma consulta, verificando se lança exceção para uma transição de status não permitida
+     * (Agendada direto para Concluída) ou um status desconhecido, sem gravar.
+     */
+    @Test
+    void atualizarConsulta_deveLancarExcecaoQuandoTransicaoInvalida() {
+        Consulta consulta = new Consulta();
+        consulta.setStatus(StatusConsulta.AGENDADA);
+        when(consultaRepository.findById(1L)).thenReturn(Optional.of(consulta));
+        when(pacienteService.buscarPorId(2L)).thenReturn(Optional.of(new Paciente()));
+        when(profissionalSaudeService.buscarPorId(3L)).thenReturn(Optional.of(new ProfissionalSaude()));
+
+        ConsultaRequestDTO dto = new ConsultaRequestDTO();
+        dto.setPacienteId(2L);
+        dto.setProfissionalId(3L);
+        dto.setStatus("Concluída");
+        assertThrows(OperacaoNaoPermitidaException.class, () -> consultaService.atualizarConsulta(1L, dto, pacienteService));
+
+        dto.setStatus("Remarcada");
+        assertThrows(ParametroInvalidoException.class, () -> consultaService.atualizarConsulta(1L, dto, pacienteService));
+        verify(consultaRepository, never()).save(any());
+        assertEquals(StatusConsulta.AGENDADA, consulta.getStatus());
+    }
+
     /**
      * Testa a atualização de uma consulta, verificando se lança exceção quando a consulta não é encontrada.
      */
@@ -146,7 +237,7 @@ class ConsultaServiceTest {
     @Test
     void atualizarConsulta_deveLancarExcecaoQuandoStatusConcluida() {
         Consulta consulta = new Consulta();
-        consulta.setStatus("Concluída");
+        consulta.setStatus(StatusConsulta.CONCLUIDA);
         when(consultaRepository.findById(1L)).thenReturn(Optional.of(consulta));
         ConsultaRequestDTO dto = new ConsultaRequestDTO();
         assertThrows(OperacaoNaoPermitidaException.class, () -> consultaService.atualizarConsulta(1L, dto, pacienteService));
@@ -158,7 +249,7 @@ class ConsultaServiceTest {
     @Test
     void atualizarConsulta_deveLancarExcecaoQuandoPacienteNaoEncontrado() {
         Consulta consulta = new Consulta();
-        consulta.setStatus("Agendada");
+        consulta.setStatus(StatusConsulta.AGENDADA);
         when(consultaRepository.findById(1L)).thenReturn(Optional.of(consulta));
         ConsultaRequestDTO dto = new ConsultaRequestDTO();
         dto.setPacienteId(2L);
@@ -172,7 +263,7 @@ class ConsultaServiceTest {
     @Test
     void atualizarConsulta_deveLancarExcecaoQuandoProfissionalNaoEncontrado() {
         Consulta consulta = new Consulta();
-        consulta.setStatus("Agendada");
+        consulta.setStatus(StatusConsulta.AGENDADA);
         when(consultaRepository.findById(1L)).thenReturn(Optional.of(consulta));
         ConsultaRequestDTO dto = new ConsultaRequestDTO();
         dto.setPacienteId(2L);
@@ -1,5 +1,6 @@
 package br.com.vidaplus.sghss.service;
 
+import br.com.vidaplus.sghss.agenda.AgendaDisponibilidade;
 import br.com.vidaplus.sghss.dto.UsuarioDTO;
 import br.com.vidaplus.sghss.dto.request.ProfissionalSaudeRequestDTO;
 import br.com.vidaplus.sghss.exception.RecursoNaoEncontradoException;
@@ -38,7 +39,7 @@ class ProfissionalSaudeServiceTest {
     void setUp() {
         profissionalSaudeRepository = mock(ProfissionalSaudeRepository.class);
         usuarioService = mock(UsuarioService.class);
-        profissionalSaudeService = new ProfissionalSaudeService(profissionalSaudeRepository, usuarioService);
+        profissionalSaudeService = new ProfissionalSaudeService(profissionalSaudeRepository, usuarioService, mock(AgendaDisponibilidade.class));
     }
 
     /**
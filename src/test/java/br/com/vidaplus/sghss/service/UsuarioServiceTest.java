@@ -6,8 +6,13 @@ import br.com.vidaplus.sghss.model.Role;
 import br.com.vidaplus.sghss.model.Usuario;
 import br.com.vidaplus.sghss.repository.RoleRepository;
 import br.com.vidaplus.sghss.repository.UsuarioRepository;
+import br.com.vidaplus.sghss.repository.UsuarioRevogadoRepository;
+import br.com.vidaplus.sghss.security.RevogacaoUsuarios;
+import br.com.vidaplus.sghss.security.TokenVerificado;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import br.com.vidaplus.sghss.security.UsuarioAlteradoEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -32,6 +37,8 @@ class UsuarioServiceTest {
     private UsuarioRepository usuarioRepository;
     private RoleRepository roleRepository;
     private PasswordEncoder passwordEncoder;
+    private RevogacaoUsuarios revogacaoUsuarios;
+    private ApplicationEventPublisher eventPublisher;
     private UsuarioService usuarioService;
 
     /**
@@ -42,7 +49,9 @@ class UsuarioServiceTest {
         usuarioRepository = mock(UsuarioRepository.class);
         roleRepository = mock(RoleRepository.class);
         passwordEncoder = mock(PasswordEncoder.class);
-        usuarioService = new UsuarioService(usuarioRepository, roleRepository, passwordEncoder);
+        revogacaoUsuarios = new RevogacaoUsuarios(mock(UsuarioRevogadoRepository.class));
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        usuarioService = new UsuarioService(usuarioRepository, roleRepository, passwordEncoder, revogacaoUsuarios, eventPublisher);
     }
 
     /**
@@ -64,6 +73,7 @@ class UsuarioServiceTest {
         assertEquals("user", usuario.getUsername());
         assertEquals("senhaCriptografada", usuario.getPassword());
         assertTrue(usuario.getRoles().contains(role));
+        verify(eventPublisher).publishEvent(any(UsuarioAlteradoEvent.class));
     }
 
     /**
@@ -115,4 +125,31 @@ class UsuarioServiceTest {
 
         assertFalse(resultado.isPresent());
     }
-}
\ No newline at end of file
+
+    /**
+     * Testa a revogação de acesso, verificando se tokens emitidos antes da revogação passam a ser rejeitados
+     * e tokens emitidos depois continuam válidos.
+     */
+    @Test
+    void revogarAcesso_deveRevogarTokensEmitidosAntes() {
+        when(usuarioRepository.findByUsername("user")).thenReturn(Optional.of(new Usuario("user", "senha")));
+        long agora = System.currentTimeMillis();
+        TokenVerificado tokenAntigo = new TokenVerificado("user", 0, agora - 1000, agora + 60_000);
+
+        usuarioService.revogarAcesso("user");
+        TokenVerificado tokenNovo = new TokenVerificado("user", 0, System.currentTimeMillis() + 1000, agora + 60_000);
+
+        assertTrue(revogacaoUsuarios.estaRevogado(tokenAntigo));
+        assertFalse(revogacaoUsuarios.estaRevogado(tokenNovo));
+    }
+
+    /**
+     * Testa a revogação de acesso, verificando se lança exceção quando o usuário não existe.
+     */
+    @Test
+    void revogarAcesso_deveLancarExcecaoQuandoUsuarioNaoExiste() {
+        when(usuarioRepository.findByUsername("user")).thenReturn(Optional.empty());
+
+        assertThrows(RecursoNaoEncontradoException.class, () -> usuarioService.revogarAcesso("user"));
+    }
+}